@@ -0,0 +1,89 @@
+package org.openapitools.openapistylevalidator;
+
+import org.openapitools.openapistylevalidator.ValidatorParameters.NamingConvention;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link NamingValidator#isNamingValid(String, NamingConvention)} (in the package of the lib, as the class is
+ * package-private) on a mix of valid and invalid names, and the same checks through a {@link NamingVerdictCache}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class NamingValidatorBenchmark {
+
+    private static final int NAMES = 1000;
+
+    @Param({"CamelCase", "HyphenCase", "UnderscoreCase"})
+    public NamingConvention convention;
+
+    private final NamingValidator namingValidator = new NamingValidator();
+    private final NamingVerdictCache namingVerdictCache = new NamingVerdictCache();
+    private String[] names;
+    private char[][] repeatedNames;
+
+    @Setup
+    public void setUp() {
+        String[] patterns = {"itemId%d", "item-id-%d", "item_id_%d", "ItemId%d", "item--id%d", "x-header-%d",
+                "someVeryLongParameterNameWithManyWords%d", "some-very-long-path-segment-with-many-words-%d"};
+        names = new String[NAMES];
+        for (int i = 0; i < NAMES; i++) {
+            names[i] = String.format(patterns[i % patterns.length], i);
+        }
+        String[] commonNames = {"id", "name", "createdAt", "updatedAt", "X-Request-Id", "page_size", "item-id",
+                "someVeryLongParameterNameWithManyWords"};
+        repeatedNames = new char[NAMES][];
+        for (int i = 0; i < NAMES; i++) {
+            repeatedNames[i] = commonNames[i % commonNames.length].toCharArray();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NAMES)
+    public int isNamingValid() {
+        int valid = 0;
+        for (String name : names) {
+            if (namingValidator.isNamingValid(name, convention)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Checks a few names used many times, each occurrence being a new string as when it is read from a spec.
+     */
+    @Benchmark
+    @OperationsPerInvocation(NAMES)
+    public int isNamingValidOfRepeatedNames() {
+        int valid = 0;
+        for (char[] name : repeatedNames) {
+            if (namingValidator.isNamingValid(new String(name), convention)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NAMES)
+    public int isNamingValidOfRepeatedNamesWithCache() {
+        int valid = 0;
+        for (char[] name : repeatedNames) {
+            if (namingVerdictCache.isNamingValid(new String(name), convention, namingValidator)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,32 @@
+package org.openapitools.openapistylevalidator.benchmarks;
+
+import org.openapitools.empoa.swagger.core.internal.SwAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code SwAdapter.toOpenAPI}, alone and followed by a traversal of the adapted paths and schemas (the
+ * adapters of the nested elements are created when they are first accessed).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AdaptationBenchmark {
+
+    @Benchmark
+    public org.eclipse.microprofile.openapi.models.OpenAPI toOpenAPI(SpecState spec) {
+        return SwAdapter.toOpenAPI(spec.swaggerOpenAPI);
+    }
+
+    @Benchmark
+    public void toOpenAPIAndTraverse(SpecState spec, Blackhole blackhole) {
+        org.eclipse.microprofile.openapi.models.OpenAPI openAPI = SwAdapter.toOpenAPI(spec.swaggerOpenAPI);
+        openAPI.getPaths().getPathItems().forEach((path, pathItem) ->
+                pathItem.getOperations().forEach((method, operation) -> blackhole.consume(operation.getParameters())));
+        openAPI.getComponents().getSchemas().forEach((name, schema) -> blackhole.consume(schema.getProperties()));
+    }
+}
@@ -0,0 +1,21 @@
+package org.openapitools.openapistylevalidator.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code OpenAPIParser.readLocation}, the way the front ends read a spec.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParsingBenchmark {
+
+    @Benchmark
+    public io.swagger.v3.oas.models.OpenAPI readLocation(SpecState spec) {
+        return SpecState.parse(spec.file);
+    }
+}
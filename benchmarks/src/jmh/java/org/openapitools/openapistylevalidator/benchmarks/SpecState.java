@@ -0,0 +1,38 @@
+package org.openapitools.openapistylevalidator.benchmarks;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * A synthetic spec of each size, as a file and as parsed by swagger-parser, so that each stage can be measured on the
+ * output of the previous one.
+ */
+@State(Scope.Benchmark)
+public class SpecState {
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int operations;
+
+    Path file;
+    io.swagger.v3.oas.models.OpenAPI swaggerOpenAPI;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = SyntheticSpec.write(operations);
+        swaggerOpenAPI = parse(file);
+    }
+
+    static io.swagger.v3.oas.models.OpenAPI parse(Path file) {
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+        return new OpenAPIParser().readLocation(file.toString(), null, parseOptions).getOpenAPI();
+    }
+}
@@ -0,0 +1,93 @@
+package org.openapitools.openapistylevalidator.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Generates yaml specs of a given number of operations, with the kind of content the validator checks.
+ * <p>
+ * Every path has a GET and a POST operation with a path and a query parameter, and there is one model with five
+ * properties per path. One name out of ten breaks the default naming conventions, and one operation out of ten has no
+ * summary, so that each check reports some errors.
+ */
+final class SyntheticSpec {
+
+    private SyntheticSpec() {
+    }
+
+    static String generate(int operations) {
+        int paths = Math.max(1, operations / 2);
+        StringBuilder yaml = new StringBuilder(operations * 600);
+        yaml.append("openapi: 3.0.1\n")
+                .append("info:\n")
+                .append("  title: Synthetic spec of ").append(operations).append(" operations\n")
+                .append("  description: Generated for the benchmarks\n")
+                .append("  version: '1.0'\n")
+                .append("  contact:\n")
+                .append("    name: Benchmarks\n")
+                .append("  license:\n")
+                .append("    name: Apache 2.0\n")
+                .append("paths:\n");
+        for (int i = 0; i < paths; i++) {
+            String segment = i % 10 == 0 ? "resourceNumber" + i : "resource-number-" + i;
+            yaml.append("  /").append(segment).append("/{itemId}:\n");
+            appendOperation(yaml, "get", i, 2 * i);
+            if (2 * i + 1 < operations) {
+                appendOperation(yaml, "post", i, 2 * i + 1);
+            }
+        }
+        yaml.append("components:\n")
+                .append("  schemas:\n");
+        for (int i = 0; i < paths; i++) {
+            yaml.append("    Model").append(i).append(":\n")
+                    .append("      type: object\n")
+                    .append("      properties:\n");
+            for (int j = 0; j < 5; j++) {
+                String property = (i + j) % 10 == 0 ? "property_" + j : "property" + j;
+                yaml.append("        ").append(property).append(":\n")
+                        .append("          type: string\n");
+                if (j != 0) {
+                    yaml.append("          example: value").append(j).append('\n');
+                }
+            }
+        }
+        return yaml.toString();
+    }
+
+    private static void appendOperation(StringBuilder yaml, String method, int path, int operation) {
+        yaml.append("    ").append(method).append(":\n")
+                .append("      operationId: operation").append(operation).append('\n')
+                .append("      description: Operation ").append(operation).append('\n');
+        if (operation % 10 != 0) {
+            yaml.append("      summary: Operation ").append(operation).append('\n');
+        }
+        yaml.append("      tags:\n")
+                .append("        - synthetic\n")
+                .append("      parameters:\n")
+                .append("        - name: itemId\n")
+                .append("          in: path\n")
+                .append("          required: true\n")
+                .append("          schema:\n")
+                .append("            type: string\n")
+                .append("        - name: ").append(operation % 10 == 5 ? "page_size" : "pageSize").append('\n')
+                .append("          in: query\n")
+                .append("          schema:\n")
+                .append("            type: integer\n")
+                .append("      responses:\n")
+                .append("        '200':\n")
+                .append("          description: OK\n")
+                .append("          content:\n")
+                .append("            application/json:\n")
+                .append("              schema:\n")
+                .append("                $ref: '#/components/schemas/Model").append(path).append("'\n");
+    }
+
+    static Path write(int operations) throws IOException {
+        Path file = Files.createTempFile("synthetic-spec-" + operations + "-", ".yaml");
+        file.toFile().deleteOnExit();
+        Files.write(file, generate(operations).getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -0,0 +1,77 @@
+package org.openapitools.openapistylevalidator.benchmarks;
+
+import org.openapitools.empoa.swagger.core.internal.SwAdapter;
+import org.openapitools.openapistylevalidator.OpenApiSpecStyleValidator;
+import org.openapitools.openapistylevalidator.ValidatorParameters;
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link OpenApiSpecStyleValidator#validate(ValidatorParameters)} on a spec parsed by swagger-parser, with all
+ * the checks or with the checks of a single phase, and on the same spec adapted to the MicroProfile model first.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    public enum Phase {
+        ALL, INFO, OPERATIONS, MODELS, NAMING
+    }
+
+    @Param({"ALL", "INFO", "OPERATIONS", "MODELS", "NAMING"})
+    public Phase phase;
+
+    private ValidatorParameters parameters;
+
+    @Setup
+    public void setUp() {
+        parameters = createParameters(phase);
+    }
+
+    @Benchmark
+    public List<StyleError> validate(SpecState spec) {
+        return new OpenApiSpecStyleValidator(spec.swaggerOpenAPI).validate(parameters);
+    }
+
+    @Benchmark
+    public List<StyleError> validateInParallel(SpecState spec) {
+        return new OpenApiSpecStyleValidator(spec.swaggerOpenAPI).setParallel(true).validate(parameters);
+    }
+
+    @Benchmark
+    public List<StyleError> adaptAndValidate(SpecState spec) {
+        return new OpenApiSpecStyleValidator(SwAdapter.toOpenAPI(spec.swaggerOpenAPI)).validate(parameters);
+    }
+
+    static ValidatorParameters createParameters(Phase phase) {
+        ValidatorParameters parameters = new ValidatorParameters();
+        if (phase == Phase.ALL) {
+            return parameters;
+        }
+        boolean info = phase == Phase.INFO;
+        boolean operations = phase == Phase.OPERATIONS;
+        boolean models = phase == Phase.MODELS;
+        return parameters
+                .setValidateInfoLicense(info)
+                .setValidateInfoDescription(info)
+                .setValidateInfoContact(info)
+                .setValidateOperationOperationId(operations)
+                .setValidateOperationDescription(operations)
+                .setValidateOperationTag(operations)
+                .setValidateOperationSummary(operations)
+                .setValidateModelPropertiesExample(models)
+                .setValidateModelNoLocalDef(models)
+                .setValidateNaming(phase == Phase.NAMING);
+    }
+}
@@ -0,0 +1,63 @@
+package org.openapitools.openapistylevalidator.cli;
+
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Forwards the arguments of the command line to a running {@link DaemonServer} and prints its output.
+ */
+class DaemonClient {
+
+    private final int port;
+    private final Path tokenDirectory;
+
+    DaemonClient(int port) {
+        this(port, DaemonProtocol.getDefaultTokenDirectory());
+    }
+
+    DaemonClient(int port, Path tokenDirectory) {
+        this.port = port;
+        this.tokenDirectory = tokenDirectory;
+    }
+
+    /**
+     * @param out prints the output of the validation
+     * @param err prints the warnings about the request
+     * @return the exit code of the validation done by the daemon
+     * @throws java.net.ConnectException when no daemon of this user is listening on the port
+     */
+    int forward(List<String> arguments, PrintStream out, PrintStream err) throws IOException {
+        String token;
+        try {
+            token = DaemonProtocol.readTokenFile(DaemonProtocol.getTokenFile(tokenDirectory, port));
+        } catch (NoSuchFileException e) {
+            throw new ConnectException(String.format("No token of a daemon on port %d", port));
+        }
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            DaemonProtocol.writeRequest(new DataOutputStream(socket.getOutputStream()), token, arguments);
+
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), DaemonProtocol.CHARSET));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(DaemonProtocol.EXIT_CODE_PREFIX)) {
+                    return Integer.parseInt(line.substring(DaemonProtocol.EXIT_CODE_PREFIX.length()));
+                }
+                if (line.startsWith(DaemonProtocol.WARNING_PREFIX)) {
+                    err.println(line.substring(DaemonProtocol.WARNING_PREFIX.length()));
+                } else {
+                    out.println(line);
+                }
+            }
+            throw new IOException("The daemon closed the connection before the end of the validation");
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.openapitools.openapistylevalidator.cli;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.List;
+
+/**
+ * The exchange between a {@link DaemonClient} and the {@link DaemonServer}.
+ * <p>
+ * The client sends the token of the daemon, the number of arguments and each argument. The daemon answers with the
+ * output of the validation, line by line, and ends with a line made of {@link #EXIT_CODE_PREFIX} and the exit code.
+ * The warnings about the request are the lines which start with {@link #WARNING_PREFIX}, which the client prints on
+ * its standard error.
+ * <p>
+ * The token is drawn by the daemon when it starts, and written to a file that only its user can read, so that the
+ * other users of the machine cannot make the daemon read or write files with the permissions of its user.
+ */
+final class DaemonProtocol {
+
+    static final String EXIT_CODE_PREFIX = "\u0000exit:";
+    static final String WARNING_PREFIX = "\u0000warning:";
+    static final String CHARSET = "UTF-8";
+    /**
+     * The time given to a client to send its request, after which the daemon closes the connection.
+     */
+    static final int READ_TIMEOUT_MILLIS = 10_000;
+
+    private static final int TOKEN_BYTES = 32;
+
+    private DaemonProtocol() {
+    }
+
+    static Path getDefaultTokenDirectory() {
+        return Paths.get(System.getProperty("user.home"), ".openapi-style-validator");
+    }
+
+    static Path getTokenFile(Path tokenDirectory, int port) {
+        return tokenDirectory.resolve(String.format("daemon-%d.token", port));
+    }
+
+    /**
+     * Draws a new token and writes it to the token file, readable by the owner only.
+     */
+    static String createToken(Path tokenFile) throws IOException {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        StringBuilder token = new StringBuilder();
+        for (byte b : bytes) {
+            token.append(String.format("%02x", b));
+        }
+
+        Path directory = tokenFile.toAbsolutePath().getParent();
+        Path temporaryFile;
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            if (!Files.isDirectory(directory)) {
+                Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+            }
+            temporaryFile = Files.createTempFile(directory, "daemon", ".tmp", PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } else {
+            // The files of the home directory are private to their user on the systems without POSIX permissions
+            Files.createDirectories(directory);
+            temporaryFile = Files.createTempFile(directory, "daemon", ".tmp");
+        }
+        Files.write(temporaryFile, token.toString().getBytes(StandardCharsets.UTF_8));
+        Files.move(temporaryFile, tokenFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return token.toString();
+    }
+
+    static String readTokenFile(Path tokenFile) throws IOException {
+        return new String(Files.readAllBytes(tokenFile), StandardCharsets.UTF_8).trim();
+    }
+
+    static boolean isValidToken(String expectedToken, String token) {
+        return MessageDigest.isEqual(expectedToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static void writeRequest(DataOutputStream out, String token, List<String> arguments) throws IOException {
+        out.writeUTF(token);
+        out.writeInt(arguments.size());
+        for (String argument : arguments) {
+            out.writeUTF(argument);
+        }
+        out.flush();
+    }
+
+    static String readRequestToken(DataInputStream in) throws IOException {
+        return in.readUTF();
+    }
+
+    static String[] readArguments(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > 10_000) {
+            throw new IOException(String.format("Invalid number of arguments: %d", count));
+        }
+        String[] arguments = new String[count];
+        for (int i = 0; i < count; i++) {
+            arguments[i] = in.readUTF();
+        }
+        return arguments;
+    }
+}
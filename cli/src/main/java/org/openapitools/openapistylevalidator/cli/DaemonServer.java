@@ -0,0 +1,106 @@
+package org.openapitools.openapistylevalidator.cli;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Stays resident and validates the requests sent by {@link DaemonClient}s, so that they do not pay for the start of
+ * the JVM and for the loading of the parser and of the validator.
+ * <p>
+ * The daemon only listens on the loopback interface, and only answers the clients which send the token it wrote to
+ * a file readable by its user only (see {@link DaemonProtocol}). It refuses the requests which write files (the cache
+ * and the measures in json), and sends the warnings about a request to its client rather than to its own console.
+ */
+class DaemonServer {
+
+    static final int DEFAULT_PORT = 7657;
+
+    private static final String WARM_UP_SPEC = "openapi: 3.0.1\n" +
+            "info:\n" +
+            "  title: warm up\n" +
+            "  version: '1.0'\n" +
+            "paths:\n" +
+            "  /warm-up:\n" +
+            "    get:\n" +
+            "      operationId: warmUp\n" +
+            "      responses:\n" +
+            "        '200':\n" +
+            "          description: OK\n";
+
+    private final int port;
+    private final Path tokenDirectory;
+    private final int readTimeoutMillis;
+
+    DaemonServer(int port) {
+        this(port, DaemonProtocol.getDefaultTokenDirectory(), DaemonProtocol.READ_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * @param tokenDirectory the directory of the file of the token which the clients must send
+     * @param readTimeoutMillis the time given to a client to send its request
+     */
+    DaemonServer(int port, Path tokenDirectory, int readTimeoutMillis) {
+        this.port = port;
+        this.tokenDirectory = tokenDirectory;
+        this.readTimeoutMillis = readTimeoutMillis;
+    }
+
+    /**
+     * Loads and warms up the parser and the validator before the first request.
+     */
+    static void warmUp() {
+        Main.validateContents(WARM_UP_SPEC);
+    }
+
+    void run(PrintStream log) throws IOException {
+        warmUp();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        Path tokenFile = null;
+        try (ServerSocket serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+            tokenFile = DaemonProtocol.getTokenFile(tokenDirectory, serverSocket.getLocalPort());
+            String token = DaemonProtocol.createToken(tokenFile);
+            // The daemon is usually stopped with Ctrl+C, which skips the finally block
+            tokenFile.toFile().deleteOnExit();
+            log.println(String.format("Daemon listening on %s:%d", serverSocket.getInetAddress().getHostAddress(), serverSocket.getLocalPort()));
+            while (!Thread.currentThread().isInterrupted()) {
+                Socket socket = serverSocket.accept();
+                executor.execute(() -> handle(socket, token, log));
+            }
+        } finally {
+            executor.shutdownNow();
+            if (tokenFile != null) {
+                Files.deleteIfExists(tokenFile);
+            }
+        }
+    }
+
+    private void handle(Socket socket, String token, PrintStream log) {
+        try (Socket client = socket) {
+            // The clients which do not send their request in time are dropped, so that they do not hold the workers
+            client.setSoTimeout(readTimeoutMillis);
+            DataInputStream in = new DataInputStream(client.getInputStream());
+            if (!DaemonProtocol.isValidToken(token, DaemonProtocol.readRequestToken(in))) {
+                log.println("Request refused: invalid token");
+                return;
+            }
+            String[] arguments = DaemonProtocol.readArguments(in);
+            PrintStream out = new PrintStream(new BufferedOutputStream(client.getOutputStream()), false, DaemonProtocol.CHARSET);
+            int exitCode = Main.runRequest(arguments, new OutputUtils(out, Charset.forName(DaemonProtocol.CHARSET), DaemonProtocol.WARNING_PREFIX));
+            out.println(DaemonProtocol.EXIT_CODE_PREFIX + exitCode);
+            out.flush();
+        } catch (IOException | RuntimeException e) {
+            log.println(String.format("Request failed: %s", e));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.openapitools.openapistylevalidator.cli;
+
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.openapitools.openapistylevalidator.styleerror.GenericStyleError;
+import org.openapitools.openapistylevalidator.styleerror.ModelNamingStyleError;
+import org.openapitools.openapistylevalidator.styleerror.ModelStyleError;
+import org.openapitools.openapistylevalidator.styleerror.OperationNamingStyleError;
+import org.openapitools.openapistylevalidator.styleerror.OperationStyleError;
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+import java.util.Locale;
+
+/**
+ * The node of a spec where an error was found, taken from the typed fields of its {@link StyleError}, so that the
+ * machine readable reports do not hold them only in the message.
+ */
+final class ErrorFields {
+
+    private final String path;
+    private final PathItem.HttpMethod method;
+    private final String model;
+    private final String property;
+    private final String parent;
+
+    private ErrorFields(String path, PathItem.HttpMethod method, String model, String property, String parent) {
+        this.path = path;
+        this.method = method;
+        this.model = model;
+        this.property = property;
+        this.parent = parent;
+    }
+
+    static ErrorFields of(StyleError error) {
+        if (error instanceof OperationStyleError) {
+            OperationStyleError operationError = (OperationStyleError) error;
+            return new ErrorFields(operationError.getPath(), operationError.getMethod(), null, null, null);
+        } else if (error instanceof OperationNamingStyleError) {
+            OperationNamingStyleError namingError = (OperationNamingStyleError) error;
+            return new ErrorFields(namingError.getPath(), namingError.getMethod(), null, null, null);
+        } else if (error instanceof ModelStyleError) {
+            ModelStyleError modelError = (ModelStyleError) error;
+            return new ErrorFields(null, null, modelError.getModelName(), modelError.getPropertyName(), null);
+        } else if (error instanceof ModelNamingStyleError) {
+            // The naming of the models is checked on the names of their properties
+            ModelNamingStyleError namingError = (ModelNamingStyleError) error;
+            return new ErrorFields(null, null, namingError.getModel(), namingError.getFieldNames(), null);
+        } else if (error instanceof GenericStyleError) {
+            GenericStyleError genericError = (GenericStyleError) error;
+            return new ErrorFields(null, null, null, null, genericError.getParentObjectName());
+        }
+        return new ErrorFields(null, null, null, null, null);
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    /**
+     * @return the method in lower case, as in the specs, or {@code null}
+     */
+    String getMethod() {
+        return method == null ? null : method.name().toLowerCase(Locale.ROOT);
+    }
+
+    String getModel() {
+        return model;
+    }
+
+    String getProperty() {
+        return property;
+    }
+
+    String getParent() {
+        return parent;
+    }
+
+    /**
+     * @return the json pointer of the node in an OpenAPI 3 document
+     */
+    String getPointer(StyleError error) {
+        if (path != null) {
+            return method == null
+                    ? String.format("/paths/%s", escape(path))
+                    : String.format("/paths/%s/%s", escape(path), getMethod());
+        } else if (model != null) {
+            return property == null
+                    ? String.format("/components/schemas/%s", escape(model))
+                    : String.format("/components/schemas/%s/properties/%s", escape(model), escape(property));
+        } else if (error.getStyleCheckSection() == StyleError.StyleCheckSection.APIInfo) {
+            return parent == null || parent.isEmpty() ? "/info" : String.format("/info/%s", escape(parent));
+        }
+        return "";
+    }
+
+    private static String escape(String token) {
+        return token.replace("~", "~0").replace("/", "~1");
+    }
+}
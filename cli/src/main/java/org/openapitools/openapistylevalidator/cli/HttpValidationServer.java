@@ -0,0 +1,283 @@
+package org.openapitools.openapistylevalidator.cli;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openapitools.openapistylevalidator.ValidationListener;
+import org.openapitools.openapistylevalidator.ValidationPhase;
+import org.openapitools.openapistylevalidator.ValidatorParameters;
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Validates the specs posted in json to {@code /validate} on a local port, for the tools which cannot run the CLI.
+ * <p>
+ * A request is a json object with the spec as a string ({@code spec}) and optionally the options, as in the options
+ * file ({@code options}). The references of the spec to other documents are not followed. The response is a json
+ * object with the errors ({@code errors}), each with the same fields as in the {@code jsonl} format (see
+ * {@link JsonLinesRenderer}), or with the messages of the parser when the spec cannot be read ({@code parserMessages}).
+ * <p>
+ * The specs are validated by a bounded pool of workers, warmed up before the server accepts requests. A request is
+ * refused when it is larger than the size limit or when all the workers and their queue are busy, and it is answered
+ * with an error when it is not done within the time limit, counted from its arrival. A validation still in the queue
+ * is then dropped, and a running one stops at the next node of the spec, so that its worker is freed for the other
+ * clients. The parser cannot be stopped: a spec being parsed stops right after, and the time it takes is bounded by
+ * the size limit. The server only listens on the loopback interface.
+ * <p>
+ * The connections which do not send their request within the time limit are closed by the server of the JDK, whose
+ * limit is the {@code sun.net.httpserver.maxReqTime} system property. It applies to the whole process and is read
+ * once, so the server sets it to its time limit only when it is not set yet, before the first server is created.
+ */
+class HttpValidationServer {
+
+    static final int DEFAULT_PORT = 7658;
+    static final int DEFAULT_MAX_REQUEST_BYTES = 16 * 1024 * 1024;
+    static final int DEFAULT_TIMEOUT_SECONDS = 30;
+
+    private static final String PATH = "/validate";
+    private static final int QUEUE_CAPACITY = 64;
+    /**
+     * The time in seconds after which the server of the JDK closes a connection whose request is not received.
+     */
+    private static final String MAX_REQUEST_TIME_PROPERTY = "sun.net.httpserver.maxReqTime";
+
+    private final int port;
+    private final int maxRequestBytes;
+    private final long timeoutMillis;
+    private final OptionManager optionManager = new OptionManager();
+    private final Gson gson = new GsonBuilder().disableHtmlEscaping().create();
+    private HttpServer server;
+    private ExecutorService exchangeExecutor;
+    private ThreadPoolExecutor validationExecutor;
+
+    HttpValidationServer(int port, int maxRequestBytes, long timeoutMillis) {
+        this.port = port;
+        this.maxRequestBytes = maxRequestBytes;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Starts the server and waits until the thread is interrupted.
+     */
+    void run(PrintStream log) throws IOException, InterruptedException {
+        int boundPort = start();
+        log.println(String.format("Server listening on http://%s:%d%s", InetAddress.getLoopbackAddress().getHostAddress(), boundPort, PATH));
+        try {
+            Thread.currentThread().join();
+        } finally {
+            stop();
+        }
+    }
+
+    /**
+     * @return the port the server listens on, which is chosen by the system when the given port is 0
+     */
+    int start() throws IOException {
+        DaemonServer.warmUp();
+        if (System.getProperty(MAX_REQUEST_TIME_PROPERTY) == null) {
+            System.setProperty(MAX_REQUEST_TIME_PROPERTY, Long.toString(Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMillis))));
+        }
+
+        int workers = Runtime.getRuntime().availableProcessors();
+        validationExecutor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE_CAPACITY));
+        // The exchanges wait for their validation, so there are enough of them to keep the workers and the queue busy
+        exchangeExecutor = Executors.newFixedThreadPool(workers + QUEUE_CAPACITY);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(exchangeExecutor);
+        server.createContext(PATH, this::handle);
+        server.start();
+        return server.getAddress().getPort();
+    }
+
+    void stop() {
+        server.stop(0);
+        exchangeExecutor.shutdownNow();
+        validationExecutor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            validate(exchange);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void validate(HttpExchange exchange) throws IOException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Allow", "POST");
+            respondWithError(exchange, 405, "Only POST is accepted");
+            return;
+        }
+        String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+        byte[] body = isTooLarge(contentLength) ? null : readBody(exchange.getRequestBody());
+        if (body == null) {
+            respondWithError(exchange, 413, String.format("The request is larger than %d bytes", maxRequestBytes));
+            return;
+        }
+
+        String spec;
+        ValidatorParameters parameters;
+        try {
+            JsonObject request = JsonParser.parseString(new String(body, StandardCharsets.UTF_8)).getAsJsonObject();
+            JsonElement specElement = request.get("spec");
+            if (specElement == null || !specElement.isJsonPrimitive()) {
+                respondWithError(exchange, 400, "The request has no spec");
+                return;
+            }
+            spec = specElement.getAsString();
+            JsonElement options = request.get("options");
+            parameters = options == null || options.isJsonNull() ? new ValidatorParameters() : optionManager.toValidatorParameters(options);
+        } catch (JsonParseException | IllegalStateException e) {
+            respondWithError(exchange, 400, "The request is not a valid json object");
+            return;
+        }
+
+        ValidationTask task = new ValidationTask(spec, parameters);
+        Future<SpecReport> report;
+        try {
+            report = validationExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            respondWithError(exchange, 503, "The server is busy");
+            return;
+        }
+        try {
+            respond(exchange, report.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+        } catch (TimeoutException e) {
+            task.cancel();
+            report.cancel(true);
+            respondWithError(exchange, 503, String.format("The request took longer than %d ms", timeoutMillis));
+        } catch (ExecutionException e) {
+            respondWithError(exchange, 500, String.format("The validation failed: %s", e.getCause()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.cancel();
+            report.cancel(true);
+        }
+    }
+
+    private boolean isTooLarge(String contentLength) {
+        try {
+            return contentLength != null && Long.parseLong(contentLength) > maxRequestBytes;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return the body, or {@code null} when it is larger than the limit
+     */
+    private byte[] readBody(InputStream input) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        for (int read = input.read(buffer); read != -1; read = input.read(buffer)) {
+            if (body.size() + read > maxRequestBytes) {
+                return null;
+            }
+            body.write(buffer, 0, read);
+        }
+        return body.toByteArray();
+    }
+
+    private void respond(HttpExchange exchange, SpecReport report) throws IOException {
+        JsonObject response = new JsonObject();
+        if (report.isReadable()) {
+            JsonArray errors = new JsonArray();
+            for (StyleError error : report.getErrors()) {
+                JsonObject jsonError = new JsonObject();
+                JsonLinesRenderer.addErrorFields(jsonError, error);
+                errors.add(jsonError);
+            }
+            response.addProperty("valid", report.isValid());
+            response.add("errors", errors);
+            send(exchange, 200, response);
+        } else {
+            response.addProperty("valid", false);
+            response.add("parserMessages", gson.toJsonTree(report.getParserMessages()));
+            send(exchange, 422, response);
+        }
+    }
+
+    private void respondWithError(HttpExchange exchange, int status, String message) throws IOException {
+        JsonObject response = new JsonObject();
+        response.addProperty("error", message);
+        send(exchange, status, response);
+    }
+
+    private void send(HttpExchange exchange, int status, JsonObject response) throws IOException {
+        byte[] bytes = gson.toJson(response).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    /**
+     * The validation of a request, which stops at the next node of the spec once it is cancelled.
+     */
+    static final class ValidationTask implements Callable<SpecReport>, ValidationListener {
+
+        private final String spec;
+        private final ValidatorParameters parameters;
+        private volatile boolean cancelled;
+
+        ValidationTask(String spec, ValidatorParameters parameters) {
+            this.spec = spec;
+            this.parameters = parameters;
+        }
+
+        @Override
+        public SpecReport call() {
+            checkCancelled();
+            return Main.validateContents(spec, parameters, this);
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public void phaseTimed(ValidationPhase phase, long durationNanos) {
+            checkCancelled();
+        }
+
+        @Override
+        public void nodeVisited() {
+            // Also called from the threads of the pool of a parallel validation, which are not interrupted
+            checkCancelled();
+        }
+
+        private void checkCancelled() {
+            if (cancelled) {
+                throw new CancellationException("The validation was cancelled");
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package org.openapitools.openapistylevalidator.cli;
+
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Prints a JUnit XML report with one test suite per spec, whose test cases are its errors, written as they come.
+ * <p>
+ * The class name of a test case is the section of its error, and its name is the json pointer of the node and the
+ * field in error. A valid spec has a single test case which passes, and a spec which cannot be read has one test case
+ * in error, with the messages of the parser.
+ */
+class JUnitXmlRenderer implements ReportRenderer {
+
+    private final Writer writer;
+    private final XMLStreamWriter xml;
+
+    JUnitXmlRenderer(Writer writer) {
+        this.writer = writer;
+        try {
+            this.xml = XMLOutputFactory.newInstance().createXMLStreamWriter(writer);
+            xml.writeStartDocument("UTF-8", "1.0");
+            newLine();
+            xml.writeStartElement("testsuites");
+            writeAttribute("name", "openapi-style-validator");
+            newLine();
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void startSpec(String source) {
+        try {
+            xml.writeStartElement("testsuite");
+            writeAttribute("name", source);
+            newLine();
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void printError(StyleError error) {
+        String pointer = ErrorFields.of(error).getPointer(error);
+        try {
+            xml.writeStartElement("testcase");
+            writeAttribute("classname", error.getStyleCheckSection().name());
+            writeAttribute("name", pointer.isEmpty()
+                    ? String.format("'%s'", error.getFieldNames())
+                    : String.format("%s '%s'", pointer, error.getFieldNames()));
+            xml.writeStartElement("failure");
+            writeAttribute("type", error.getStyleCheckSection().name());
+            writeAttribute("message", error.getDescription());
+            writeCharacters(error.toString());
+            xml.writeEndElement();
+            xml.writeEndElement();
+            newLine();
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void endSpec(SpecReport report) {
+        try {
+            if (!report.isReadable()) {
+                xml.writeStartElement("testcase");
+                writeAttribute("classname", "Parser");
+                writeAttribute("name", "read");
+                xml.writeStartElement("error");
+                writeAttribute("message", "The spec could not be read");
+                writeCharacters(String.join("\n", report.getParserMessages()));
+                xml.writeEndElement();
+                xml.writeEndElement();
+                newLine();
+            } else if (report.getErrorCount() == 0) {
+                xml.writeEmptyElement("testcase");
+                writeAttribute("classname", "Style");
+                writeAttribute("name", "valid");
+                newLine();
+            }
+            xml.writeEndElement();
+            newLine();
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void finish() {
+        try {
+            xml.writeEndElement();
+            newLine();
+            xml.writeEndDocument();
+            xml.flush();
+            writer.flush();
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeAttribute(String name, String value) throws XMLStreamException {
+        xml.writeAttribute(name, toXmlText(value));
+    }
+
+    private void writeCharacters(String text) throws XMLStreamException {
+        xml.writeCharacters(toXmlText(text));
+    }
+
+    /**
+     * @return the text without the characters that XML 1.0 does not allow, even escaped, such as the control
+     * characters and the unpaired surrogates, which the writer would copy as they are
+     */
+    static String toXmlText(String text) {
+        StringBuilder xmlText = null;
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            int length = Character.charCount(codePoint);
+            boolean allowed = codePoint == 0x9 || codePoint == 0xA || codePoint == 0xD
+                    || (codePoint >= 0x20 && codePoint <= 0xD7FF)
+                    || (codePoint >= 0xE000 && codePoint <= 0xFFFD)
+                    || codePoint >= 0x10000;
+            if (!allowed && xmlText == null) {
+                xmlText = new StringBuilder(text.length()).append(text, 0, i);
+            } else if (allowed && xmlText != null) {
+                xmlText.appendCodePoint(codePoint);
+            }
+            i += length;
+        }
+        return xmlText == null ? text : xmlText.toString();
+    }
+
+    private void newLine() throws XMLStreamException {
+        xml.writeCharacters("\n");
+    }
+}
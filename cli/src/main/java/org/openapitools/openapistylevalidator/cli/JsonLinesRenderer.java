@@ -0,0 +1,89 @@
+package org.openapitools.openapistylevalidator.cli;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Prints one json object per line: one per error ({@code "type": "error"}), with the fields of the node where it was
+ * found, and one per spec which cannot be read ({@code "type": "unreadable"}), with the messages of the parser.
+ */
+class JsonLinesRenderer implements ReportRenderer {
+
+    private final Writer writer;
+    private final Gson gson = new GsonBuilder().disableHtmlEscaping().create();
+    private String source;
+
+    JsonLinesRenderer(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void startSpec(String source) {
+        this.source = source;
+    }
+
+    @Override
+    public void printError(StyleError error) {
+        JsonObject line = new JsonObject();
+        line.addProperty("type", "error");
+        line.addProperty("source", source);
+        addErrorFields(line, error);
+        print(line);
+    }
+
+    /**
+     * Adds the section, the field, the description and the node of the error, then its message.
+     */
+    static void addErrorFields(JsonObject object, StyleError error) {
+        ErrorFields fields = ErrorFields.of(error);
+        object.addProperty("section", error.getStyleCheckSection().name());
+        object.addProperty("field", error.getFieldNames());
+        object.addProperty("description", error.getDescription());
+        object.addProperty("path", fields.getPath());
+        object.addProperty("method", fields.getMethod());
+        object.addProperty("model", fields.getModel());
+        object.addProperty("property", fields.getProperty());
+        object.addProperty("parent", fields.getParent());
+        object.addProperty("pointer", fields.getPointer(error));
+        object.addProperty("message", error.toString());
+    }
+
+    @Override
+    public void endSpec(SpecReport report) {
+        if (!report.isReadable()) {
+            JsonObject line = new JsonObject();
+            line.addProperty("type", "unreadable");
+            line.addProperty("source", report.getSource());
+            JsonArray messages = new JsonArray();
+            report.getParserMessages().forEach(messages::add);
+            line.add("parserMessages", messages);
+            print(line);
+        }
+    }
+
+    @Override
+    public void finish() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void print(JsonObject line) {
+        try {
+            // The null fields are left out by Gson
+            gson.toJson(line, writer);
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
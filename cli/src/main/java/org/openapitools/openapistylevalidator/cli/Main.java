@@ -5,61 +5,461 @@ import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import org.apache.commons.cli.*;
 
-import org.openapitools.empoa.swagger.core.internal.SwAdapter;
 import org.openapitools.openapistylevalidator.OpenApiSpecStyleValidator;
+import org.openapitools.openapistylevalidator.RefResolver;
+import org.openapitools.openapistylevalidator.StyleErrorSink;
+import org.openapitools.openapistylevalidator.ValidationListener;
+import org.openapitools.openapistylevalidator.ValidationMetrics;
+import org.openapitools.openapistylevalidator.ValidationPhase;
 import org.openapitools.openapistylevalidator.ValidatorParameters;
+import org.openapitools.openapistylevalidator.cache.ParsedDocumentCache;
+import org.openapitools.openapistylevalidator.cache.ValidationResultCache;
 import org.openapitools.openapistylevalidator.styleerror.StyleError;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class Main {
 
     private static final String APP_NAME = "openapi-style-validator-cli";
-    private static final DefaultParser parser = new DefaultParser();
     private static final OutputUtils outputUtils = new OutputUtils();
+    private static final SourceResolver sourceResolver = new SourceResolver();
 
     public static void main(String[] args) {
-        OptionManager optionManager = new OptionManager();
+        OptionManager optionManager = new OptionManager(outputUtils);
+        int exitCode;
 
         try {
             Options options = optionManager.getOptions();
-            CommandLine commandLine = parser.parse(options, args);
+            CommandLine commandLine = new DefaultParser().parse(options, args);
 
-            if (commandLine.getOptions().length == 0) {
-                outputUtils.printHelp(options, APP_NAME);
+            if (optionManager.isDaemonRequested(commandLine)) {
+                new DaemonServer(optionManager.getDaemonPort(commandLine)).run(System.out);
+                exitCode = 0;
+            } else if (optionManager.isServerRequested(commandLine)) {
+                runServer(optionManager, commandLine);
+                exitCode = 0;
+            } else if (optionManager.isClientRequested(commandLine) && optionManager.isSourceProvided(commandLine)
+                    && !optionManager.isWatchRequested(commandLine) && !optionManager.isFileOutputRequested(commandLine)) {
+                exitCode = forwardToDaemon(optionManager, commandLine);
             } else {
-                if (optionManager.isHelpRequested(commandLine)) {
-                    outputUtils.printHelp(options, APP_NAME);
-                } else if (optionManager.isVersionRequested(commandLine)) {
-                    outputUtils.printVersion();
-                } else if (optionManager.isSourceProvided(commandLine)) {
-                    validateAndPrint(optionManager, commandLine);
-                } else {
-                    outputUtils.printRequestError();
-                }
+                exitCode = run(optionManager, commandLine, outputUtils);
             }
-        } catch (ParseException e) {
+        } catch (ParseException | IOException e) {
             outputUtils.printRequestError();
+            exitCode = 1;
+        } finally {
+            // Also writes what was printed before an unexpected error
+            outputUtils.flush();
+        }
+
+        if (exitCode != 0) {
+            System.exit(exitCode);
+        }
+    }
+
+    private static void runServer(OptionManager optionManager, CommandLine commandLine) throws IOException {
+        HttpValidationServer server = new HttpValidationServer(optionManager.getServerPort(commandLine),
+                optionManager.getMaxRequestSize(commandLine), optionManager.getRequestTimeoutSeconds(commandLine) * 1000L);
+        try {
+            server.run(System.out);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static int forwardToDaemon(OptionManager optionManager, CommandLine commandLine) throws IOException {
+        int port = optionManager.getClientPort(commandLine);
+        try {
+            return new DaemonClient(port).forward(optionManager.getDaemonArguments(commandLine), System.out, System.err);
+        } catch (ConnectException e) {
+            System.err.println(String.format("No daemon is listening on port %d, validating in this process", port));
+            return run(optionManager, commandLine, outputUtils);
+        }
+    }
+
+    /**
+     * Runs a request received by the daemon. The daemon, server, client and watch options are not accepted there, nor
+     * the options which write files, which the client handles itself.
+     *
+     * @return the exit code of the request
+     */
+    static int runRequest(String[] args, OutputUtils output) {
+        OptionManager optionManager = new OptionManager(output);
+        try {
+            CommandLine commandLine = new DefaultParser().parse(optionManager.getOptions(), args);
+            if (optionManager.isDaemonRequested(commandLine) || optionManager.isServerRequested(commandLine)
+                    || optionManager.isClientRequested(commandLine) || optionManager.isWatchRequested(commandLine)
+                    || optionManager.isFileOutputRequested(commandLine)) {
+                output.printRequestError();
+                return 1;
+            }
+            return run(optionManager, commandLine, output);
+        } catch (ParseException | IOException e) {
+            output.printRequestError();
+            return 1;
+        } finally {
+            output.flush();
+        }
+    }
+
+    private static int run(OptionManager optionManager, CommandLine commandLine, OutputUtils output) throws IOException {
+        Options options = optionManager.getOptions();
+        if (commandLine.getOptions().length == 0) {
+            output.printHelp(options, APP_NAME);
+        } else {
+            if (optionManager.isHelpRequested(commandLine)) {
+                output.printHelp(options, APP_NAME);
+            } else if (optionManager.isVersionRequested(commandLine)) {
+                output.printVersion();
+            } else if (optionManager.isSourceProvided(commandLine) && optionManager.isWatchRequested(commandLine)) {
+                return watch(optionManager, commandLine, output);
+            } else if (optionManager.isSourceProvided(commandLine)) {
+                return validateAndPrint(optionManager, commandLine, output);
+            } else {
+                output.printRequestError();
+                return 1;
+            }
         }
+        return 0;
     }
 
-    private static void validateAndPrint(OptionManager optionManager, CommandLine commandLine) {
-        outputUtils.printResults(validate(optionManager, commandLine));
+    /**
+     * @return the specs to validate, or {@code null} when a source matches no spec, which is reported
+     */
+    private static List<String> resolveSources(OptionManager optionManager, CommandLine commandLine, OutputUtils outputUtils) throws IOException {
+        try {
+            return sourceResolver.resolve(optionManager.getSources(commandLine));
+        } catch (NoSuchFileException e) {
+            outputUtils.printUnmatchedSource(e.getFile());
+            return null;
+        }
+    }
+
+    /**
+     * Validates the specs, then again each time they change, until the process is stopped.
+     *
+     * @return the exit code when the specs cannot be watched
+     */
+    private static int watch(OptionManager optionManager, CommandLine commandLine, OutputUtils outputUtils) throws IOException {
+        List<String> sources = resolveSources(optionManager, commandLine, outputUtils);
+        if (sources == null) {
+            return 1;
+        }
+        if (sources.isEmpty() || optionManager.isStreamingRequested(commandLine)
+                || optionManager.getReportFormat(commandLine) != ReportFormat.TEXT || optionManager.isSummaryRequested(commandLine)) {
+            outputUtils.printRequestError();
+            return 1;
+        }
+        ValidatorParameters parameters = optionManager.getOptionalValidatorParametersOrDefault(commandLine);
+        try (SpecWatcher watcher = new SpecWatcher(sources, parameters, outputUtils)) {
+            watcher.run();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return 0;
+    }
+
+    /**
+     * Validates all the specs on a bounded pool of workers and prints one report per spec, in the order of the
+     * sources and in the requested format. A single spec is validated on the current thread. The errors are printed
+     * section by section, or as soon as they are found with a streamed format (see {@link ReportFormat#isStreamed()}).
+     *
+     * @return the exit code: 0 when all the specs are valid, 1 otherwise
+     */
+    private static int validateAndPrint(OptionManager optionManager, CommandLine commandLine, OutputUtils outputUtils) throws IOException {
+        List<String> sources = resolveSources(optionManager, commandLine, outputUtils);
+        if (sources == null) {
+            return 1;
+        }
+        ValidatorParameters parameters = optionManager.getOptionalValidatorParametersOrDefault(commandLine);
+        ValidationResultCache cache = optionManager.getCache(commandLine);
+        boolean streaming = optionManager.isStreamingRequested(commandLine);
+        ReportFormat format = optionManager.getReportFormat(commandLine);
+        boolean printStats = optionManager.isStatsRequested(commandLine);
+        boolean summary = optionManager.isSummaryRequested(commandLine);
+        // The measures and the summaries are printed as text, between the reports
+        if (sources.isEmpty() || ((printStats || summary) && format != ReportFormat.TEXT)) {
+            outputUtils.printRequestError();
+            return 1;
+        }
+        String statsJsonFile = optionManager.getStatsJsonFile(commandLine);
+        Map<String, ValidationMetrics> metricsBySource = new LinkedHashMap<>();
+        if (printStats || statsJsonFile != null) {
+            for (String source : sources) {
+                metricsBySource.put(source, new ValidationMetrics());
+            }
+        }
+
+        int exitCode;
+        boolean inWalkOrder = !summary && format.isStreamed();
+        ReportRenderer renderer = summary
+                ? outputUtils.createSummaryRenderer(optionManager.getSummaryTopCount(commandLine), sources.size() > 1)
+                : outputUtils.createRenderer(format, sources.size() > 1);
+        if (sources.size() == 1) {
+            renderer.startSpec(sources.get(0));
+            SpecReport report = validate(sources.get(0), parameters, inWalkOrder ? renderer::printError : null, cache,
+                    metricsBySource.get(sources.get(0)), streaming);
+            report.getErrors().forEach(renderer::printError);
+            renderer.endSpec(report);
+            printStats(outputUtils, printStats, metricsBySource.get(sources.get(0)));
+            exitCode = report.isValid() ? 0 : 1;
+        } else {
+            exitCode = validateAndPrint(sources, parameters, cache, streaming, inWalkOrder, optionManager.getJobs(commandLine), outputUtils, renderer, printStats, metricsBySource);
+        }
+        renderer.finish();
+        if (statsJsonFile != null) {
+            Files.write(Paths.get(statsJsonFile), ValidationMetrics.toJson(metricsBySource).getBytes(StandardCharsets.UTF_8));
+        }
+        return exitCode;
+    }
+
+    /**
+     * @param inWalkOrder {@code true} to keep the errors of each spec in the order they are found, {@code false} to
+     *                    sort them section by section
+     */
+    private static int validateAndPrint(List<String> sources, ValidatorParameters parameters, ValidationResultCache cache, boolean streaming, boolean inWalkOrder, int jobs,
+                                        OutputUtils outputUtils, ReportRenderer renderer, boolean printStats, Map<String, ValidationMetrics> metricsBySource) {
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(jobs, sources.size()));
+        try {
+            List<Future<SpecReport>> reports = new ArrayList<>();
+            for (String source : sources) {
+                reports.add(executor.submit(() -> {
+                    if (!inWalkOrder) {
+                        return validate(source, parameters, null, cache, metricsBySource.get(source), streaming);
+                    }
+                    List<StyleError> errors = new ArrayList<>();
+                    SpecReport report = validate(source, parameters, errors::add, cache, metricsBySource.get(source), streaming);
+                    return report.isReadable() ? SpecReport.validated(source, errors) : report;
+                }));
+            }
+
+            boolean allValid = true;
+            for (Future<SpecReport> future : reports) {
+                SpecReport report = getReport(future);
+                renderer.startSpec(report.getSource());
+                report.getErrors().forEach(renderer::printError);
+                renderer.endSpec(report);
+                printStats(outputUtils, printStats, metricsBySource.get(report.getSource()));
+                allValid &= report.isValid();
+            }
+            return allValid ? 0 : 1;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void printStats(OutputUtils outputUtils, boolean printStats, ValidationMetrics metrics) {
+        if (printStats) {
+            outputUtils.printStats(metrics);
+        }
+    }
+
+    private static SpecReport getReport(Future<SpecReport> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
     }
 
     static List<StyleError> validate(OptionManager optionManager, CommandLine commandLine) {
-        OpenAPIParser openApiParser = new OpenAPIParser();
+        ValidatorParameters parameters = optionManager.getOptionalValidatorParametersOrDefault(commandLine);
+        return validate(optionManager.getSource(commandLine), parameters).getErrors();
+    }
+
+    static SpecReport validate(String source, ValidatorParameters parameters) {
+        return validate(source, parameters, null, null, null);
+    }
+
+    /**
+     * @param sink receives the errors as soon as they are found, or {@code null} to get them in the report, ordered
+     *             section by section
+     * @param cache the cache of the results, or {@code null}
+     * @param listener receives the measures of the validation, or {@code null}
+     */
+    static SpecReport validate(String source, ValidatorParameters parameters, StyleErrorSink sink, ValidationResultCache cache, ValidationListener listener) {
+        return validate(source, parameters, sink, cache, listener, false);
+    }
+
+    /**
+     * @param streaming {@code true} to read the spec as a stream while it is validated (see
+     *                  {@link OpenApiSpecStyleValidator#streaming(Path)})
+     */
+    private static SpecReport validate(String source, ValidatorParameters parameters, StyleErrorSink sink, ValidationResultCache cache, ValidationListener listener, boolean streaming) {
+        String cacheKey = computeCacheKey(source, parameters, cache, streaming);
+        if (cacheKey != null) {
+            List<StyleError> cachedErrors = cache.get(cacheKey);
+            if (cachedErrors == null) {
+                List<StyleError> errors = new ArrayList<>();
+                StyleErrorSink cachingSink = error -> {
+                    errors.add(error);
+                    if (sink != null) {
+                        sink.accept(error);
+                    }
+                };
+                SpecReport report = streaming
+                        ? streamAndValidate(source, parameters, cachingSink, listener)
+                        : parseAndValidate(source, parameters, cachingSink, listener);
+                if (report.isReadable()) {
+                    putInCache(cache, cacheKey, errors);
+                    return sink == null ? SpecReport.validated(source, sortBySection(errors)) : report;
+                }
+                return report;
+            }
+            if (listener != null) {
+                cachedErrors.forEach(listener::errorEmitted);
+            }
+            if (sink == null) {
+                return SpecReport.validated(source, sortBySection(cachedErrors));
+            }
+            cachedErrors.forEach(sink::accept);
+            return SpecReport.streamed(source, cachedErrors.size());
+        }
+        return streaming
+                ? streamAndValidate(source, parameters, sink, listener)
+                : parseAndValidate(source, parameters, sink, listener);
+    }
+
+    private static String computeCacheKey(String source, ValidatorParameters parameters, ValidationResultCache cache, boolean streaming) {
+        if (cache == null) {
+            return null;
+        }
+        try {
+            Path spec = Paths.get(source);
+            return Files.isRegularFile(spec) ? cache.computeKey(spec, parameters, streaming) : null;
+        } catch (IOException | InvalidPathException e) {
+            return null;
+        }
+    }
+
+    private static void putInCache(ValidationResultCache cache, String cacheKey, List<StyleError> errors) {
+        try {
+            cache.put(cacheKey, errors);
+        } catch (IOException e) {
+            System.err.println(String.format("The result could not be cached: %s", e.getMessage()));
+        }
+    }
+
+    private static List<StyleError> sortBySection(List<StyleError> errors) {
+        errors.sort(Comparator.comparing(StyleError::getStyleCheckSection));
+        return errors;
+    }
+
+    private static SpecReport parseAndValidate(String source, ValidatorParameters parameters, StyleErrorSink sink, ValidationListener listener) {
+        long start = System.nanoTime();
+        SwaggerParseResult parserResult = parse(source);
+        if (listener != null) {
+            listener.phaseTimed(ValidationPhase.PARSING, System.nanoTime() - start);
+        }
+        return validate(source, parserResult, parameters, sink, listener);
+    }
+
+    /**
+     * Parses a spec without resolving its references, which are resolved by the validator, only when it walks them.
+     */
+    static SwaggerParseResult parse(String source) {
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(false);
+        return new OpenAPIParser().readLocation(source, null, parseOptions);
+    }
+
+    /**
+     * Parses and validates a spec given as a string, to load and warm up the parser and the validator.
+     */
+    static void validateContents(String contents) {
+        ParseOptions parseOptions = new ParseOptions();
+        // The references are resolved by the validator, only when it walks them
+        parseOptions.setResolve(false);
+
+        SwaggerParseResult parserResult = new OpenAPIParser().readContents(contents, null, parseOptions);
+        validate("contents", parserResult, new ValidatorParameters(), null, null);
+    }
+
+    /**
+     * Parses and validates a spec given as a string, whose references to other documents are not followed: the spec
+     * has no location they would be relative to, and the clients of the server must not read the files of the process.
+     *
+     * @param listener receives the measures of the validation, or {@code null}
+     */
+    static SpecReport validateContents(String contents, ValidatorParameters parameters, ValidationListener listener) {
         ParseOptions parseOptions = new ParseOptions();
-        parseOptions.setResolve(true);
+        parseOptions.setResolve(false);
 
-        SwaggerParseResult parserResult = openApiParser.readLocation(optionManager.getSource(commandLine), null, parseOptions);
+        long start = System.nanoTime();
+        SwaggerParseResult parserResult = new OpenAPIParser().readContents(contents, null, parseOptions);
+        if (listener != null) {
+            listener.phaseTimed(ValidationPhase.PARSING, System.nanoTime() - start);
+        }
         io.swagger.v3.oas.models.OpenAPI swaggerOpenAPI = parserResult.getOpenAPI();
+        if (swaggerOpenAPI == null) {
+            return unreadable("contents", parserResult);
+        }
+        return validate("contents", new OpenApiSpecStyleValidator(swaggerOpenAPI).setListener(listener), parameters, null);
+    }
 
-        org.eclipse.microprofile.openapi.models.OpenAPI openAPI = SwAdapter.toOpenAPI(swaggerOpenAPI);
-        OpenApiSpecStyleValidator openApiSpecStyleValidator = new OpenApiSpecStyleValidator(openAPI);
+    private static SpecReport unreadable(String source, SwaggerParseResult parserResult) {
+        List<String> messages = parserResult.getMessages();
+        return SpecReport.unreadable(source, messages == null || messages.isEmpty() ? Collections.singletonList("Unknown error") : messages);
+    }
 
-        ValidatorParameters parameters = optionManager.getOptionalValidatorParametersOrDefault(commandLine);
-        return openApiSpecStyleValidator.validate(parameters);
+    private static SpecReport validate(String source, SwaggerParseResult parserResult, ValidatorParameters parameters, StyleErrorSink sink, ValidationListener listener) {
+        io.swagger.v3.oas.models.OpenAPI swaggerOpenAPI = parserResult.getOpenAPI();
+        if (swaggerOpenAPI == null) {
+            return unreadable(source, parserResult);
+        }
+
+        return validate(source, new OpenApiSpecStyleValidator(swaggerOpenAPI, new RefResolver(source, ParsedDocumentCache.shared())).setListener(listener), parameters, sink);
+    }
+
+    private static SpecReport streamAndValidate(String source, ValidatorParameters parameters, StyleErrorSink sink, ValidationListener listener) {
+        Path spec;
+        try {
+            spec = Paths.get(source);
+        } catch (InvalidPathException e) {
+            spec = null;
+        }
+        if (spec == null || !Files.isRegularFile(spec)) {
+            return SpecReport.unreadable(source, Collections.singletonList("Only local files can be validated while they are read"));
+        }
+        try {
+            return validate(source, OpenApiSpecStyleValidator.streaming(spec).setListener(listener), parameters, sink);
+        } catch (UncheckedIOException e) {
+            return SpecReport.unreadable(source, Collections.singletonList(e.getCause().getMessage()));
+        }
+    }
+
+    private static SpecReport validate(String source, OpenApiSpecStyleValidator openApiSpecStyleValidator, ValidatorParameters parameters, StyleErrorSink sink) {
+        if (sink == null) {
+            return SpecReport.validated(source, openApiSpecStyleValidator.validate(parameters));
+        }
+        int[] errorCount = {0};
+        openApiSpecStyleValidator.validate(parameters, error -> {
+            errorCount[0]++;
+            sink.accept(error);
+        });
+        return SpecReport.streamed(source, errorCount[0]);
     }
 
 }
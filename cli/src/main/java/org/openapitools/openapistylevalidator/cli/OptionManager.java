@@ -11,9 +11,15 @@ import org.apache.commons.cli.Option;
 import org.apache.commons.cli.OptionGroup;
 import org.apache.commons.cli.Options;
 import org.openapitools.openapistylevalidator.ValidatorParameters;
+import org.openapitools.openapistylevalidator.cache.ValidationResultCache;
 import org.openapitools.openapistylevalidator.commons.Utils;
 
+import java.io.File;
 import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 class OptionManager {
 
@@ -23,6 +29,28 @@ class OptionManager {
     private static final String OPTIONS_OPT_SHORT = "o";
     private static final String OPTIONS_OPT_LONG = "options";
 
+    private static final String JOBS_OPT_SHORT = "j";
+    private static final String JOBS_OPT_LONG = "jobs";
+
+    private static final String CACHE_OPT_LONG = "cache";
+    private static final String STATS_OPT_LONG = "stats";
+    private static final String STATS_JSON_OPT_LONG = "stats-json";
+    private static final String STREAMING_OPT_LONG = "streaming";
+    private static final String WATCH_OPT_LONG = "watch";
+    private static final String FORMAT_OPT_LONG = "format";
+    private static final String SUMMARY_OPT_LONG = "summary";
+    private static final int DEFAULT_SUMMARY_TOP_COUNT = 10;
+
+    private static final String DAEMON_OPT_SHORT = "d";
+    private static final String DAEMON_OPT_LONG = "daemon";
+
+    private static final String SERVER_OPT_LONG = "server";
+    private static final String MAX_REQUEST_SIZE_OPT_LONG = "max-request-size";
+    private static final String REQUEST_TIMEOUT_OPT_LONG = "request-timeout";
+
+    private static final String CLIENT_OPT_SHORT = "c";
+    private static final String CLIENT_OPT_LONG = "client";
+
     private static final String HELP_OPT_SHORT = "h";
     private static final String HELP_OPT_LONG = "help";
 
@@ -30,8 +58,17 @@ class OptionManager {
     private static final String VERSION_OPT_LONG = "version";
 
     private final Options options;
+    private final OutputUtils output;
 
     OptionManager() {
+        this(new OutputUtils());
+    }
+
+    /**
+     * @param output prints the warnings about the invalid options, to the client of the request
+     */
+    OptionManager(OutputUtils output) {
+        this.output = output;
         options = new Options();
 
         OptionGroup mutualExclusiveOptions = new OptionGroup();
@@ -48,18 +85,120 @@ class OptionManager {
         Option source = new Option(SOURCE_OPT_SHORT,
                 SOURCE_OPT_LONG,
                 true,
-                "Path to your yaml or json swagger/openApi spec file");
+                "Path to your yaml or json swagger/openApi spec file. Several files, directories or glob patterns can be given");
+        source.setArgs(Option.UNLIMITED_VALUES);
+
+        Option daemon = Option.builder(DAEMON_OPT_SHORT)
+                .longOpt(DAEMON_OPT_LONG)
+                .hasArg()
+                .optionalArg(true)
+                .argName("port")
+                .desc(String.format("Start a daemon that validates the requests of the clients on a local port (default: %d)", DaemonServer.DEFAULT_PORT))
+                .build();
+
+        Option server = Option.builder()
+                .longOpt(SERVER_OPT_LONG)
+                .hasArg()
+                .optionalArg(true)
+                .argName("port")
+                .desc(String.format("Start a server that validates the specs posted in json to /validate on a local port (default: %d)", HttpValidationServer.DEFAULT_PORT))
+                .build();
 
         mutualExclusiveOptions.addOption(help);
         mutualExclusiveOptions.addOption(version);
         mutualExclusiveOptions.addOption(source);
+        mutualExclusiveOptions.addOption(daemon);
+        mutualExclusiveOptions.addOption(server);
 
         Option optionFile = new Option(OPTIONS_OPT_SHORT,
                 OPTIONS_OPT_LONG,
                 true,
                 "Path to the json file containing the options");
 
+        Option jobs = new Option(JOBS_OPT_SHORT,
+                JOBS_OPT_LONG,
+                true,
+                "Number of specs validated in parallel (default: number of processors)");
+
+        Option client = Option.builder(CLIENT_OPT_SHORT)
+                .longOpt(CLIENT_OPT_LONG)
+                .hasArg()
+                .optionalArg(true)
+                .argName("port")
+                .desc(String.format("Forward the validation to the daemon listening on a local port (default: %d)", DaemonServer.DEFAULT_PORT))
+                .build();
+
+        Option cache = Option.builder()
+                .longOpt(CACHE_OPT_LONG)
+                .hasArg()
+                .argName("directory")
+                .desc("Directory of a persistent cache of the results, to skip the specs (and their references) that did not change")
+                .build();
+
+        Option stats = Option.builder()
+                .longOpt(STATS_OPT_LONG)
+                .desc("Print the measures of the validation of each spec: time of each phase, visited nodes, checked names and errors per section")
+                .build();
+
+        Option statsJson = Option.builder()
+                .longOpt(STATS_JSON_OPT_LONG)
+                .hasArg()
+                .argName("file")
+                .desc("Export the measures of the validation of each spec as json to a file")
+                .build();
+
+        Option streaming = Option.builder()
+                .longOpt(STREAMING_OPT_LONG)
+                .desc("Validate each spec while it is read, without loading it: for very large OpenAPI 3 specs, whose references to other files are not followed")
+                .build();
+
+        Option watch = Option.builder()
+                .longOpt(WATCH_OPT_LONG)
+                .desc("Keep running and validate the specs again each time they or the files they reference change, printing the new and the resolved errors")
+                .build();
+
+        Option format = Option.builder()
+                .longOpt(FORMAT_OPT_LONG)
+                .hasArg()
+                .argName("format")
+                .desc("Format of the reports: text (default), jsonl (one json object per error), sarif or junit (JUnit XML)")
+                .build();
+
+        Option summary = Option.builder()
+                .longOpt(SUMMARY_OPT_LONG)
+                .hasArg()
+                .optionalArg(true)
+                .argName("count")
+                .desc(String.format("Print only the number of errors of each spec per section, and the paths and models with the most errors (default: %d of each)", DEFAULT_SUMMARY_TOP_COUNT))
+                .build();
+
+        Option maxRequestSize = Option.builder()
+                .longOpt(MAX_REQUEST_SIZE_OPT_LONG)
+                .hasArg()
+                .argName("bytes")
+                .desc(String.format("Largest request accepted by the server (default: %d)", HttpValidationServer.DEFAULT_MAX_REQUEST_BYTES))
+                .build();
+
+        Option requestTimeout = Option.builder()
+                .longOpt(REQUEST_TIMEOUT_OPT_LONG)
+                .hasArg()
+                .argName("seconds")
+                .desc(String.format("Longest time of a request of the server, from its arrival (default: %d). Also sets the "
+                        + "sun.net.httpserver.maxReqTime system property of the process when it is not set", HttpValidationServer.DEFAULT_TIMEOUT_SECONDS))
+                .build();
+
         options.addOption(optionFile);
+        options.addOption(jobs);
+        options.addOption(cache);
+        options.addOption(stats);
+        options.addOption(statsJson);
+        options.addOption(streaming);
+        options.addOption(watch);
+        options.addOption(client);
+        options.addOption(format);
+        options.addOption(summary);
+        options.addOption(maxRequestSize);
+        options.addOption(requestTimeout);
         options.addOptionGroup(mutualExclusiveOptions);
     }
 
@@ -72,29 +211,37 @@ class OptionManager {
         if (commandLine.hasOption(OPTIONS_OPT_SHORT)) {
             try {
                 String content = Utils.readFile(commandLine.getOptionValue(OPTIONS_OPT_SHORT), Charset.defaultCharset());
-                JsonParser parser = new JsonParser();
-                JsonElement jsonElement = parser.parse(content);
-                fixConventionRenaming(jsonElement, "path");
-                fixConventionRenaming(jsonElement, "parameter");
-                fixConventionRenaming(jsonElement, "property");
-                Gson gson = new GsonBuilder().create();
-                parameters = gson.fromJson(jsonElement, ValidatorParameters.class);
+                parameters = toValidatorParameters(JsonParser.parseString(content));
             } catch (Exception ignored) {
-                System.out.println("Invalid path to option files, using default.");
+                output.printWarning("Invalid path to option files, using default.");
             }
         }
         return parameters;
     }
 
+    /**
+     * Reads the options in json, as in the options file.
+     *
+     * @throws com.google.gson.JsonParseException when they are not valid
+     * @throws IllegalStateException when they are not a json object
+     */
+    ValidatorParameters toValidatorParameters(JsonElement jsonElement) {
+        fixConventionRenaming(jsonElement, "path");
+        fixConventionRenaming(jsonElement, "parameter");
+        fixConventionRenaming(jsonElement, "property");
+        Gson gson = new GsonBuilder().create();
+        return gson.fromJson(jsonElement, ValidatorParameters.class);
+    }
+
     private void fixConventionRenaming(JsonElement jsonElement, String prefix) {
         JsonObject jsonObject = jsonElement.getAsJsonObject();
         String strategyKey = String.format("%sNamingStrategy", prefix);
         if(jsonObject.has(strategyKey)) {
             String conventionKey = String.format("%sNamingConvention", prefix);
             if(jsonObject.has(conventionKey)) {
-                System.err.println(String.format("The deprecated option '%s' is ignored, because its replacement '%s' is set", strategyKey, conventionKey));
+                output.printWarning(String.format("The deprecated option '%s' is ignored, because its replacement '%s' is set", strategyKey, conventionKey));
             } else {
-                System.err.println(String.format("The option '%s' is depreacted, please use '%s' instead", strategyKey, conventionKey));
+                output.printWarning(String.format("The option '%s' is depreacted, please use '%s' instead", strategyKey, conventionKey));
                 jsonObject.add(conventionKey, jsonObject.get(strategyKey));
             }
         }
@@ -104,6 +251,173 @@ class OptionManager {
         return commandLine.getOptionValue(SOURCE_OPT_SHORT);
     }
 
+    List<String> getSources(CommandLine commandLine) {
+        return Arrays.asList(commandLine.getOptionValues(SOURCE_OPT_SHORT));
+    }
+
+    int getJobs(CommandLine commandLine) {
+        int defaultJobs = Runtime.getRuntime().availableProcessors();
+        if (commandLine.hasOption(JOBS_OPT_SHORT)) {
+            try {
+                return Math.max(1, Integer.parseInt(commandLine.getOptionValue(JOBS_OPT_SHORT)));
+            } catch (NumberFormatException ignored) {
+                output.printWarning(String.format("Invalid number of jobs, using %d.", defaultJobs));
+            }
+        }
+        return defaultJobs;
+    }
+
+    /**
+     * @return the cache of the results, or {@code null} when no cache directory is given
+     */
+    ValidationResultCache getCache(CommandLine commandLine) {
+        if (commandLine.hasOption(CACHE_OPT_LONG)) {
+            return new ValidationResultCache(Paths.get(commandLine.getOptionValue(CACHE_OPT_LONG)));
+        }
+        return null;
+    }
+
+    boolean isStatsRequested(CommandLine commandLine) {
+        return commandLine.hasOption(STATS_OPT_LONG);
+    }
+
+    /**
+     * @return the file where the measures are exported as json, or {@code null}
+     */
+    String getStatsJsonFile(CommandLine commandLine) {
+        return commandLine.getOptionValue(STATS_JSON_OPT_LONG);
+    }
+
+    ReportFormat getReportFormat(CommandLine commandLine) {
+        if (commandLine.hasOption(FORMAT_OPT_LONG)) {
+            ReportFormat format = ReportFormat.fromName(commandLine.getOptionValue(FORMAT_OPT_LONG));
+            if (format != null) {
+                return format;
+            }
+            output.printWarning(String.format("Invalid format, using %s.", ReportFormat.TEXT.getName()));
+        }
+        return ReportFormat.TEXT;
+    }
+
+    boolean isSummaryRequested(CommandLine commandLine) {
+        return commandLine.hasOption(SUMMARY_OPT_LONG);
+    }
+
+    /**
+     * @return the number of paths and models with the most errors printed in the summary
+     */
+    int getSummaryTopCount(CommandLine commandLine) {
+        String count = commandLine.getOptionValue(SUMMARY_OPT_LONG);
+        if (count != null) {
+            try {
+                return Math.max(0, Integer.parseInt(count));
+            } catch (NumberFormatException ignored) {
+                output.printWarning(String.format("Invalid count, using %d.", DEFAULT_SUMMARY_TOP_COUNT));
+            }
+        }
+        return DEFAULT_SUMMARY_TOP_COUNT;
+    }
+
+    boolean isStreamingRequested(CommandLine commandLine) {
+        return commandLine.hasOption(STREAMING_OPT_LONG);
+    }
+
+    boolean isWatchRequested(CommandLine commandLine) {
+        return commandLine.hasOption(WATCH_OPT_LONG);
+    }
+
+    boolean isDaemonRequested(CommandLine commandLine) {
+        return commandLine.hasOption(DAEMON_OPT_SHORT);
+    }
+
+    int getDaemonPort(CommandLine commandLine) {
+        return getPort(commandLine, DAEMON_OPT_SHORT);
+    }
+
+    boolean isServerRequested(CommandLine commandLine) {
+        return commandLine.hasOption(SERVER_OPT_LONG);
+    }
+
+    int getServerPort(CommandLine commandLine) {
+        String port = commandLine.getOptionValue(SERVER_OPT_LONG);
+        if (port != null) {
+            try {
+                return Integer.parseInt(port);
+            } catch (NumberFormatException ignored) {
+                output.printWarning(String.format("Invalid port, using %d.", HttpValidationServer.DEFAULT_PORT));
+            }
+        }
+        return HttpValidationServer.DEFAULT_PORT;
+    }
+
+    int getMaxRequestSize(CommandLine commandLine) {
+        return getPositiveInt(commandLine, MAX_REQUEST_SIZE_OPT_LONG, HttpValidationServer.DEFAULT_MAX_REQUEST_BYTES, "size");
+    }
+
+    int getRequestTimeoutSeconds(CommandLine commandLine) {
+        return getPositiveInt(commandLine, REQUEST_TIMEOUT_OPT_LONG, HttpValidationServer.DEFAULT_TIMEOUT_SECONDS, "timeout");
+    }
+
+    private int getPositiveInt(CommandLine commandLine, String option, int defaultValue, String name) {
+        if (commandLine.hasOption(option)) {
+            try {
+                return Math.max(1, Integer.parseInt(commandLine.getOptionValue(option)));
+            } catch (NumberFormatException ignored) {
+                output.printWarning(String.format("Invalid %s, using %d.", name, defaultValue));
+            }
+        }
+        return defaultValue;
+    }
+
+    boolean isClientRequested(CommandLine commandLine) {
+        return commandLine.hasOption(CLIENT_OPT_SHORT);
+    }
+
+    int getClientPort(CommandLine commandLine) {
+        return getPort(commandLine, CLIENT_OPT_SHORT);
+    }
+
+    private int getPort(CommandLine commandLine, String option) {
+        String port = commandLine.getOptionValue(option);
+        if (port != null) {
+            try {
+                return Integer.parseInt(port);
+            } catch (NumberFormatException ignored) {
+                output.printWarning(String.format("Invalid port, using %d.", DaemonServer.DEFAULT_PORT));
+            }
+        }
+        return DaemonServer.DEFAULT_PORT;
+    }
+
+    /**
+     * @return whether files are written at paths given by the request: the cache and the measures in json, which the
+     * daemon refuses to write with its own permissions and relative to its own directory
+     */
+    boolean isFileOutputRequested(CommandLine commandLine) {
+        return commandLine.hasOption(CACHE_OPT_LONG) || commandLine.hasOption(STATS_JSON_OPT_LONG);
+    }
+
+    /**
+     * @return the arguments to forward to the daemon: all the options except the client one, with the paths of the
+     * sources and of the options file made absolute, since the daemon may run in another directory
+     */
+    List<String> getDaemonArguments(CommandLine commandLine) {
+        List<String> arguments = new ArrayList<>();
+        for (Option option : commandLine.getOptions()) {
+            if (CLIENT_OPT_SHORT.equals(option.getOpt())) {
+                continue;
+            }
+            arguments.add(option.getOpt() == null ? "--" + option.getLongOpt() : "-" + option.getOpt());
+            if (option.getValues() != null) {
+                for (String value : option.getValues()) {
+                    boolean isPath = SOURCE_OPT_SHORT.equals(option.getOpt()) || OPTIONS_OPT_SHORT.equals(option.getOpt());
+                    arguments.add(isPath && !value.contains("://") ? new File(value).getAbsolutePath() : value);
+                }
+            }
+        }
+        return arguments;
+    }
+
     boolean isHelpRequested(CommandLine commandLine) {
         return commandLine.hasOption(HELP_OPT_SHORT) || commandLine.hasOption(HELP_OPT_LONG);
     }
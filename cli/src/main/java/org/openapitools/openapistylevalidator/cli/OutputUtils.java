@@ -2,43 +2,307 @@ package org.openapitools.openapistylevalidator.cli;
 
 import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Options;
+import org.openapitools.openapistylevalidator.ValidationMetrics;
 import org.openapitools.openapistylevalidator.styleerror.StyleError;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 class OutputUtils {
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream target;
+    private final PrintWriter out;
+    private final String warningPrefix;
+
+    OutputUtils() {
+        this(System.out, Charset.defaultCharset());
+    }
+
+    OutputUtils(PrintStream out) {
+        this(out, Charset.defaultCharset());
+    }
+
+    OutputUtils(OutputStream target, Charset charset) {
+        this(target, charset, null);
+    }
+
+    /**
+     * The output is buffered, and only written to the stream when the buffer is full or when {@link #flush()} is
+     * called, as writing each line to a stream which flushes it costs more than validating it.
+     *
+     * @param warningPrefix the prefix of the warnings written to the output, or {@code null} to print the warnings on
+     *                      the standard error
+     */
+    OutputUtils(OutputStream target, Charset charset, String warningPrefix) {
+        this.target = target;
+        this.out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(target, charset), BUFFER_SIZE), false);
+        this.warningPrefix = warningPrefix;
+    }
+
+    /**
+     * Writes the buffered output to the stream.
+     */
+    void flush() {
+        out.flush();
+    }
+
     @SuppressWarnings("SameParameterValue")
     void printHelp(final Options options,
                           final String cmdLineSyntax) {
-        PrintWriter writer = new PrintWriter(System.out);
         final HelpFormatter helpFormatter = new HelpFormatter();
-        helpFormatter.printHelp(writer, HelpFormatter.DEFAULT_WIDTH, cmdLineSyntax, "", options, HelpFormatter.DEFAULT_LEFT_PAD, HelpFormatter.DEFAULT_DESC_PAD, "", true);
-        writer.flush();
+        helpFormatter.printHelp(out, HelpFormatter.DEFAULT_WIDTH, cmdLineSyntax, "", options, HelpFormatter.DEFAULT_LEFT_PAD, HelpFormatter.DEFAULT_DESC_PAD, "", true);
     }
 
     void printResults(List<StyleError> errorList) {
         if (errorList.isEmpty()) {
-            System.out.println("There are no style errors in this spec.");
+            printNoError();
         } else {
             for (StyleError error : errorList) {
-                System.out.println(error.toString());
+                printError(error);
             }
-            System.exit(1);
         }
     }
 
+    void printError(StyleError error) {
+        out.println(error.toString());
+    }
+
+    private void printNoError() {
+        out.println("There are no style errors in this spec.");
+    }
+
+    /**
+     * @param withHeader {@code true} to print the source of each spec before its report, in the text format
+     */
+    ReportRenderer createRenderer(ReportFormat format, boolean withHeader) {
+        switch (format) {
+            case JSONL:
+                return new JsonLinesRenderer(createWriter());
+            case SARIF:
+                return new SarifRenderer(createWriter());
+            case JUNIT:
+                return new JUnitXmlRenderer(createWriter());
+            default:
+                return new TextRenderer(withHeader);
+        }
+    }
+
+    /**
+     * @param topCount the number of paths and models with the most errors to print for each spec
+     */
+    ReportRenderer createSummaryRenderer(int topCount, boolean withHeader) {
+        return new SummaryRenderer(topCount, withHeader);
+    }
+
+    /**
+     * @return a writer of the machine readable formats, which are always in UTF-8
+     */
+    private Writer createWriter() {
+        out.flush();
+        return new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    void printReport(SpecReport report, boolean withHeader) {
+        if (withHeader) {
+            printHeader(report.getSource());
+        }
+        if (report.isReadable()) {
+            printResults(report.getErrors());
+        } else {
+            printUnreadable(report);
+        }
+    }
+
+    /**
+     * Completes the output of a spec whose errors were printed with {@link #printError(StyleError)} while it was
+     * validated.
+     */
+    void printStreamedReport(SpecReport report) {
+        if (!report.isReadable()) {
+            printUnreadable(report);
+        } else if (report.getErrorCount() == 0) {
+            printNoError();
+        }
+    }
+
+    private void printHeader(String source) {
+        out.println(String.format("Validating spec: %s", source));
+    }
+
+    private void printUnreadable(SpecReport report) {
+        out.println(String.format("The spec %s could not be read:", report.getSource()));
+        for (String message : report.getParserMessages()) {
+            out.println(String.format("\t%s", message));
+        }
+    }
+
+    void printWatching() {
+        out.println("Watching the specs and the files they reference, press Ctrl+C to stop.");
+    }
+
+    /**
+     * Prints the errors which appeared and the ones which were resolved since the previous validation of a spec.
+     */
+    void printErrorChanges(String source, List<StyleError> newErrors, List<StyleError> resolvedErrors) {
+        out.println(String.format("Validating spec again: %s", source));
+        if (newErrors.isEmpty() && resolvedErrors.isEmpty()) {
+            out.println("The style errors did not change.");
+            return;
+        }
+        for (StyleError error : newErrors) {
+            out.println(String.format("+ %s", error));
+        }
+        for (StyleError error : resolvedErrors) {
+            out.println(String.format("- %s", error));
+        }
+    }
+
+    void printStats(ValidationMetrics metrics) {
+        out.println(metrics);
+    }
+
     void printVersion() {
-        System.out.println(String.format("Current version: %s", getVersion()));
+        out.println(String.format("Current version: %s", getVersion()));
+    }
+
+    void printUnmatchedSource(String source) {
+        out.println(String.format("No spec matches the source: %s", source));
+    }
+
+    /**
+     * Prints a warning about the request, such as an invalid option, apart from the report.
+     */
+    void printWarning(String warning) {
+        if (warningPrefix == null) {
+            System.err.println(warning);
+        } else {
+            out.println(warningPrefix + warning);
+        }
     }
 
     void printRequestError() {
-        System.out.println("There was something wrong in your request. Please check documentation for more info");
-        System.exit(1);
+        out.println("There was something wrong in your request. Please check documentation for more info");
+    }
+
+    /**
+     * Prints the reports as the lines of {@link #printReport(SpecReport, boolean)}.
+     */
+    private class TextRenderer implements ReportRenderer {
+
+        private final boolean withHeader;
+
+        TextRenderer(boolean withHeader) {
+            this.withHeader = withHeader;
+        }
+
+        @Override
+        public void startSpec(String source) {
+            if (withHeader) {
+                printHeader(source);
+            }
+        }
+
+        @Override
+        public void printError(StyleError error) {
+            OutputUtils.this.printError(error);
+        }
+
+        @Override
+        public void endSpec(SpecReport report) {
+            printStreamedReport(report);
+        }
+
+        @Override
+        public void finish() {
+            out.flush();
+        }
+    }
+
+    /**
+     * Prints the number of errors of each spec per section, and the paths and the models with the most errors.
+     */
+    private class SummaryRenderer implements ReportRenderer {
+
+        private final int topCount;
+        private final boolean withHeader;
+        private final Map<StyleError.StyleCheckSection, Integer> sectionCounts = new EnumMap<>(StyleError.StyleCheckSection.class);
+        private final Map<String, Integer> pathCounts = new HashMap<>();
+        private final Map<String, Integer> modelCounts = new HashMap<>();
+
+        SummaryRenderer(int topCount, boolean withHeader) {
+            this.topCount = topCount;
+            this.withHeader = withHeader;
+        }
+
+        @Override
+        public void startSpec(String source) {
+            if (withHeader) {
+                printHeader(source);
+            }
+            sectionCounts.clear();
+            pathCounts.clear();
+            modelCounts.clear();
+        }
+
+        @Override
+        public void printError(StyleError error) {
+            sectionCounts.merge(error.getStyleCheckSection(), 1, Integer::sum);
+            ErrorFields fields = ErrorFields.of(error);
+            if (fields.getPath() != null) {
+                pathCounts.merge(fields.getPath(), 1, Integer::sum);
+            } else if (fields.getModel() != null) {
+                modelCounts.merge(fields.getModel(), 1, Integer::sum);
+            }
+        }
+
+        @Override
+        public void endSpec(SpecReport report) {
+            if (!report.isReadable()) {
+                printUnreadable(report);
+                return;
+            }
+            if (report.getErrorCount() == 0) {
+                printNoError();
+                return;
+            }
+            out.println(String.format("There are %d style errors in this spec:", report.getErrorCount()));
+            for (StyleError.StyleCheckSection section : StyleError.StyleCheckSection.values()) {
+                out.println(String.format("\t%s: %d", section, sectionCounts.getOrDefault(section, 0)));
+            }
+            printTop("paths", pathCounts);
+            printTop("models", modelCounts);
+        }
+
+        private void printTop(String nodes, Map<String, Integer> counts) {
+            if (counts.isEmpty()) {
+                return;
+            }
+            out.println(String.format("The %s with the most errors:", nodes));
+            counts.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                    .limit(topCount)
+                    .forEach(count -> out.println(String.format("\t%d %s", count.getValue(), count.getKey())));
+        }
+
+        @Override
+        public void finish() {
+            out.flush();
+        }
     }
 
     private String getVersion() {
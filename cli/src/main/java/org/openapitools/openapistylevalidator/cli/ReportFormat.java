@@ -0,0 +1,55 @@
+package org.openapitools.openapistylevalidator.cli;
+
+import java.util.Locale;
+
+/**
+ * The formats in which the CLI prints the reports of the specs.
+ */
+enum ReportFormat {
+    /**
+     * The lines read by people, with one report per spec.
+     */
+    TEXT(false),
+    /**
+     * One json object per error, with its spec and its fields.
+     */
+    JSONL(true),
+    /**
+     * One SARIF 2.1.0 log, read by the code scanning tools.
+     */
+    SARIF(true),
+    /**
+     * One JUnit XML report, with one test suite per spec and one failed test case per error.
+     */
+    JUNIT(false);
+
+    private final boolean streamed;
+
+    ReportFormat(boolean streamed) {
+        this.streamed = streamed;
+    }
+
+    /**
+     * @return {@code true} when the errors are written as soon as they are found, in the order the spec is walked,
+     * {@code false} when they are written once the spec is validated, section by section
+     */
+    boolean isStreamed() {
+        return streamed;
+    }
+
+    /**
+     * @return the format with this name, in any case, or {@code null} when there is none
+     */
+    static ReportFormat fromName(String name) {
+        for (ReportFormat format : values()) {
+            if (format.name().equals(name.toUpperCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    String getName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,28 @@
+package org.openapitools.openapistylevalidator.cli;
+
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+/**
+ * Prints the reports of the specs in a {@link ReportFormat}, error by error, so that the errors of a spec can be
+ * printed while it is validated.
+ * <p>
+ * The reports of the specs are printed one after the other, each between {@link #startSpec(String)} and
+ * {@link #endSpec(SpecReport)}, and the output is only complete once {@link #finish()} has been called.
+ */
+interface ReportRenderer {
+
+    void startSpec(String source);
+
+    void printError(StyleError error);
+
+    /**
+     * @param report the report of the spec, which only holds the number of its errors when they were printed while
+     *               it was validated
+     */
+    void endSpec(SpecReport report);
+
+    /**
+     * Completes and flushes the output.
+     */
+    void finish();
+}
@@ -0,0 +1,187 @@
+package org.openapitools.openapistylevalidator.cli;
+
+import com.google.gson.stream.JsonWriter;
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Prints a SARIF 2.1.0 log with one run, whose results are the errors of all the specs, written as they come.
+ * <p>
+ * There is one rule per section. The location of an error is its spec and the json pointer of its node, as the
+ * validator does not know the lines of the nodes: the region is the first line of the spec, which the code scanning
+ * tools require. The specs which cannot be read are reported as notifications of the invocation.
+ */
+class SarifRenderer implements ReportRenderer {
+
+    private static final String SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+    private static final String INFORMATION_URI = "https://github.com/OpenAPITools/openapi-style-validator";
+
+    private final Writer writer;
+    private final JsonWriter json;
+    private final List<SpecReport> unreadableReports = new ArrayList<>();
+    private String uri;
+
+    SarifRenderer(Writer writer) {
+        this.writer = writer;
+        this.json = new JsonWriter(writer);
+        json.setIndent("  ");
+        json.setSerializeNulls(false);
+        write(() -> {
+            json.beginObject();
+            json.name("version").value("2.1.0");
+            json.name("$schema").value(SCHEMA);
+            json.name("runs").beginArray();
+            json.beginObject();
+            writeTool();
+            json.name("results").beginArray();
+        });
+    }
+
+    private void writeTool() throws IOException {
+        json.name("tool").beginObject();
+        json.name("driver").beginObject();
+        json.name("name").value("openapi-style-validator");
+        json.name("informationUri").value(INFORMATION_URI);
+        json.name("rules").beginArray();
+        for (StyleError.StyleCheckSection section : StyleError.StyleCheckSection.values()) {
+            json.beginObject();
+            json.name("id").value(section.name());
+            json.name("shortDescription").beginObject().name("text").value(String.format("Style of the %s section", section.name())).endObject();
+            json.endObject();
+        }
+        json.endArray();
+        json.endObject();
+        json.endObject();
+    }
+
+    @Override
+    public void startSpec(String source) {
+        uri = toUri(source);
+    }
+
+    @Override
+    public void printError(StyleError error) {
+        ErrorFields fields = ErrorFields.of(error);
+        write(() -> {
+            json.beginObject();
+            json.name("ruleId").value(error.getStyleCheckSection().name());
+            json.name("ruleIndex").value(error.getStyleCheckSection().ordinal());
+            json.name("level").value("error");
+            json.name("message").beginObject().name("text").value(error.toString()).endObject();
+            json.name("locations").beginArray();
+            json.beginObject();
+            writePhysicalLocation(uri);
+            json.name("logicalLocations").beginArray();
+            json.beginObject().name("fullyQualifiedName").value(fields.getPointer(error)).endObject();
+            json.endArray();
+            json.endObject();
+            json.endArray();
+            json.name("properties").beginObject();
+            json.name("field").value(error.getFieldNames());
+            json.name("description").value(error.getDescription());
+            json.name("path").value(fields.getPath());
+            json.name("method").value(fields.getMethod());
+            json.name("model").value(fields.getModel());
+            json.name("property").value(fields.getProperty());
+            json.name("parent").value(fields.getParent());
+            json.endObject();
+            json.endObject();
+        });
+    }
+
+    @Override
+    public void endSpec(SpecReport report) {
+        if (!report.isReadable()) {
+            unreadableReports.add(report);
+        }
+    }
+
+    @Override
+    public void finish() {
+        write(() -> {
+            json.endArray();
+            json.name("invocations").beginArray();
+            json.beginObject();
+            json.name("executionSuccessful").value(unreadableReports.isEmpty());
+            json.name("toolExecutionNotifications").beginArray();
+            for (SpecReport report : unreadableReports) {
+                json.beginObject();
+                json.name("level").value("error");
+                json.name("message").beginObject()
+                        .name("text").value(String.format("The spec could not be read: %s", String.join(", ", report.getParserMessages())))
+                        .endObject();
+                json.name("locations").beginArray();
+                json.beginObject();
+                writePhysicalLocation(toUri(report.getSource()));
+                json.endObject();
+                json.endArray();
+                json.endObject();
+            }
+            json.endArray();
+            json.endObject();
+            json.endArray();
+            json.endObject();
+            json.endArray();
+            json.endObject();
+            writer.write('\n');
+            writer.flush();
+        });
+    }
+
+    private void writePhysicalLocation(String uri) throws IOException {
+        json.name("physicalLocation").beginObject();
+        json.name("artifactLocation").beginObject().name("uri").value(uri).endObject();
+        json.name("region").beginObject().name("startLine").value(1).endObject();
+        json.endObject();
+    }
+
+    /**
+     * @return the uri of a spec: relative when its path is, so that the code scanning tools find it in the
+     * repository, and absolute otherwise
+     */
+    static String toUri(String source) {
+        try {
+            URI uri = new URI(source);
+            if (uri.getScheme() != null && uri.getScheme().length() > 1) {
+                return source;
+            }
+        } catch (URISyntaxException ignored) {
+        }
+        try {
+            Path path = Paths.get(source).normalize();
+            if (path.isAbsolute()) {
+                return path.toUri().toString();
+            }
+            List<String> segments = new ArrayList<>();
+            for (Path segment : path) {
+                segments.add(new URI(null, null, segment.toString(), null).getRawPath());
+            }
+            return String.join("/", segments);
+        } catch (InvalidPathException | URISyntaxException e) {
+            return source;
+        }
+    }
+
+    private void write(JsonWrite write) {
+        try {
+            write.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface JsonWrite {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,103 @@
+package org.openapitools.openapistylevalidator.cli;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Expands the values of the source option into the list of specs to validate.
+ * <p>
+ * A value can be a file (or an URL), a directory (all the yaml and json files it contains are validated) or a glob
+ * pattern such as {@code specs/**}{@code /*.yaml}. An URL is never read as a glob pattern, since its query string
+ * holds a {@code ?}.
+ */
+class SourceResolver {
+
+    private static final PathMatcher SPEC_FILE = FileSystems.getDefault().getPathMatcher("glob:**.{yaml,yml,json}");
+    private static final String GLOB_CHARACTERS = "*?[{";
+    // At least two characters, so that a Windows drive letter is not taken for a scheme
+    private static final Pattern URI_SCHEME = Pattern.compile("^[a-zA-Z][a-zA-Z0-9+.-]+:");
+
+    /**
+     * @throws NoSuchFileException when a directory or a glob pattern matches no spec
+     */
+    List<String> resolve(List<String> sources) throws IOException {
+        Set<String> specs = new LinkedHashSet<>();
+        for (String source : sources) {
+            Path path = toPathOrNull(source);
+            List<String> matches;
+            if (path != null && Files.isDirectory(path)) {
+                matches = walk(path, SPEC_FILE);
+            } else if (isGlob(source)) {
+                matches = walk(globBase(source), FileSystems.getDefault().getPathMatcher("glob:" + source));
+            } else {
+                matches = Collections.singletonList(source);
+            }
+            if (matches.isEmpty()) {
+                throw new NoSuchFileException(source, null, "no spec matches this source");
+            }
+            specs.addAll(matches);
+        }
+        return new ArrayList<>(specs);
+    }
+
+    private static List<String> walk(Path base, PathMatcher matcher) throws IOException {
+        if (!Files.isDirectory(base)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.walk(base)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(matcher::matches)
+                    .map(Path::toString)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static boolean isGlob(String source) {
+        if (URI_SCHEME.matcher(source).find()) {
+            return false;
+        }
+        for (char c : GLOB_CHARACTERS.toCharArray()) {
+            if (source.indexOf(c) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the longest leading part of the pattern without glob characters, used as root of the file walk
+     */
+    private static Path globBase(String glob) {
+        int firstGlobCharacter = glob.length();
+        for (char c : GLOB_CHARACTERS.toCharArray()) {
+            int index = glob.indexOf(c);
+            if (index >= 0 && index < firstGlobCharacter) {
+                firstGlobCharacter = index;
+            }
+        }
+        int lastSeparator = glob.lastIndexOf('/', firstGlobCharacter);
+        return lastSeparator < 0 ? Paths.get("") : Paths.get(glob.substring(0, Math.max(lastSeparator, 1)));
+    }
+
+    private static Path toPathOrNull(String source) {
+        try {
+            return Paths.get(source);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
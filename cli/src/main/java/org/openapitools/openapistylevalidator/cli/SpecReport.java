@@ -0,0 +1,63 @@
+package org.openapitools.openapistylevalidator.cli;
+
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of the validation of one spec: either the style errors, or the messages of the parser when the spec
+ * could not be read.
+ * <p>
+ * When the errors were streamed while the spec was validated, only their number is kept.
+ */
+class SpecReport {
+
+    private final String source;
+    private final List<StyleError> errors;
+    private final int errorCount;
+    private final List<String> parserMessages;
+
+    private SpecReport(String source, List<StyleError> errors, int errorCount, List<String> parserMessages) {
+        this.source = source;
+        this.errors = errors;
+        this.errorCount = errorCount;
+        this.parserMessages = parserMessages;
+    }
+
+    static SpecReport validated(String source, List<StyleError> errors) {
+        return new SpecReport(source, errors, errors.size(), Collections.emptyList());
+    }
+
+    static SpecReport streamed(String source, int errorCount) {
+        return new SpecReport(source, Collections.emptyList(), errorCount, Collections.emptyList());
+    }
+
+    static SpecReport unreadable(String source, List<String> parserMessages) {
+        return new SpecReport(source, Collections.emptyList(), 0, parserMessages);
+    }
+
+    String getSource() {
+        return source;
+    }
+
+    List<StyleError> getErrors() {
+        return errors;
+    }
+
+    int getErrorCount() {
+        return errorCount;
+    }
+
+    List<String> getParserMessages() {
+        return parserMessages;
+    }
+
+    boolean isReadable() {
+        return parserMessages.isEmpty();
+    }
+
+    boolean isValid() {
+        return isReadable() && errorCount == 0;
+    }
+}
@@ -0,0 +1,299 @@
+package org.openapitools.openapistylevalidator.cli;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.openapitools.openapistylevalidator.OpenApiSpecStyleValidator;
+import org.openapitools.openapistylevalidator.RefResolver;
+import org.openapitools.openapistylevalidator.ValidationResult;
+import org.openapitools.openapistylevalidator.ValidatorParameters;
+import org.openapitools.openapistylevalidator.cache.ParsedDocumentCache;
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Validates specs again each time they or the local documents they reference with {@code $ref} change, and prints the
+ * errors which appeared and the ones which were resolved since the previous validation.
+ * <p>
+ * The parsed model of a spec is kept while its file does not change: when only a referenced document changes, that
+ * document is the only one read again (the others are taken from {@link ParsedDocumentCache#shared()}). Only the path
+ * items and schemas which changed are validated again (see
+ * {@link OpenApiSpecStyleValidator#revalidate(ValidationResult, Set, Set)}): the ones of the spec which changed, the
+ * path items read from a changed document, and the schemas of other documents which changed. The whole spec is
+ * validated again when the components which the path items can reference, other than the schemas, change.
+ */
+class SpecWatcher implements Closeable {
+
+    /**
+     * The time given to the editors to finish writing the files, since they often do it in several steps.
+     */
+    private static final long SETTLE_MILLIS = 50;
+
+    private final ValidatorParameters parameters;
+    private final OutputUtils outputUtils;
+    private final WatchService watchService;
+    private final List<WatchedSpec> specs = new ArrayList<>();
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+
+    SpecWatcher(List<String> sources, ValidatorParameters parameters, OutputUtils outputUtils) throws IOException {
+        this.parameters = parameters;
+        this.outputUtils = outputUtils;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        for (String source : sources) {
+            specs.add(new WatchedSpec(source));
+        }
+    }
+
+    /**
+     * Validates all the specs, prints their reports, then validates them again each time they change, until the
+     * thread is interrupted.
+     */
+    void run() throws IOException, InterruptedException {
+        start();
+        outputUtils.printWatching();
+        outputUtils.flush();
+        while (true) {
+            Set<Path> changedFiles = new HashSet<>();
+            boolean overflow = collectChangedFiles(watchService.take(), changedFiles);
+            Thread.sleep(SETTLE_MILLIS);
+            for (WatchKey key = watchService.poll(); key != null; key = watchService.poll()) {
+                overflow |= collectChangedFiles(key, changedFiles);
+            }
+            if (overflow) {
+                for (WatchedSpec spec : specs) {
+                    changedFiles.add(spec.file);
+                }
+            }
+            revalidate(changedFiles);
+        }
+    }
+
+    /**
+     * Validates all the specs and prints their reports.
+     */
+    void start() throws IOException {
+        for (WatchedSpec spec : specs) {
+            SpecReport report = spec.file == null ? spec.unreadable("Only local files can be watched") : spec.validate(true, Collections.emptySet());
+            outputUtils.printReport(report, specs.size() > 1);
+            watch(spec);
+        }
+        outputUtils.flush();
+    }
+
+    /**
+     * Validates again the specs which are or reference one of the changed files, and prints the changes of their
+     * errors.
+     *
+     * @return the number of specs validated again
+     */
+    int revalidate(Set<Path> changedFiles) throws IOException {
+        int revalidated = 0;
+        for (WatchedSpec spec : specs) {
+            if (spec.file == null) {
+                continue;
+            }
+            boolean specChanged = changedFiles.contains(spec.file);
+            if (!specChanged && Collections.disjoint(spec.documents, changedFiles)) {
+                continue;
+            }
+            revalidated++;
+            Map<String, StyleError> previousErrors = spec.errors;
+            SpecReport report = spec.validate(specChanged, changedFiles);
+            if (report.isReadable()) {
+                outputUtils.printErrorChanges(spec.source, difference(spec.errors, previousErrors), difference(previousErrors, spec.errors));
+            } else {
+                outputUtils.printReport(report, false);
+            }
+            watch(spec);
+        }
+        outputUtils.flush();
+        return revalidated;
+    }
+
+    private static List<StyleError> difference(Map<String, StyleError> errors, Map<String, StyleError> otherErrors) {
+        List<StyleError> difference = new ArrayList<>();
+        for (Map.Entry<String, StyleError> error : errors.entrySet()) {
+            if (!otherErrors.containsKey(error.getKey())) {
+                difference.add(error.getValue());
+            }
+        }
+        return difference;
+    }
+
+    private void watch(WatchedSpec spec) throws IOException {
+        if (spec.file == null) {
+            return;
+        }
+        watchDirectory(spec.file.getParent());
+        for (Path document : spec.documents) {
+            watchDirectory(document.getParent());
+        }
+    }
+
+    private void watchDirectory(Path directory) throws IOException {
+        if (directory == null || directories.containsValue(directory) || !Files.isDirectory(directory)) {
+            return;
+        }
+        WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        directories.put(key, directory);
+    }
+
+    /**
+     * @return {@code true} when some events were lost, so that the changed files are not known
+     */
+    private boolean collectChangedFiles(WatchKey key, Set<Path> changedFiles) {
+        Path directory = directories.get(key);
+        boolean overflow = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                overflow = true;
+            } else if (directory != null) {
+                changedFiles.add(directory.resolve((Path) event.context()));
+            }
+        }
+        if (!key.reset()) {
+            directories.remove(key);
+        }
+        return overflow;
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    /**
+     * @return whether the components which the path items can reference, other than the schemas, did not change
+     */
+    private static boolean sameComponentsExceptSchemas(io.swagger.v3.oas.models.OpenAPI previous, io.swagger.v3.oas.models.OpenAPI current) {
+        Components previousComponents = previous.getComponents() == null ? new Components() : previous.getComponents();
+        Components components = current.getComponents() == null ? new Components() : current.getComponents();
+        return Objects.equals(previousComponents.getParameters(), components.getParameters())
+                && Objects.equals(previousComponents.getResponses(), components.getResponses())
+                && Objects.equals(previousComponents.getRequestBodies(), components.getRequestBodies())
+                && Objects.equals(previousComponents.getHeaders(), components.getHeaders())
+                && Objects.equals(previousComponents.getCallbacks(), components.getCallbacks());
+    }
+
+    private static Map<String, Schema> schemasOf(io.swagger.v3.oas.models.OpenAPI openAPI) {
+        return openAPI.getComponents() == null ? null : openAPI.getComponents().getSchemas();
+    }
+
+    /**
+     * @return the keys which were added, removed, or whose values changed
+     */
+    private static Set<String> changedKeys(Map<String, ?> previous, Map<String, ?> current) {
+        Map<String, ?> previousEntries = previous == null ? Collections.emptyMap() : previous;
+        Map<String, ?> entries = current == null ? Collections.emptyMap() : current;
+        Set<String> changedKeys = new HashSet<>();
+        for (Map.Entry<String, ?> entry : entries.entrySet()) {
+            if (!previousEntries.containsKey(entry.getKey()) || !Objects.equals(previousEntries.get(entry.getKey()), entry.getValue())) {
+                changedKeys.add(entry.getKey());
+            }
+        }
+        for (String key : previousEntries.keySet()) {
+            if (!entries.containsKey(key)) {
+                changedKeys.add(key);
+            }
+        }
+        return changedKeys;
+    }
+
+    private class WatchedSpec {
+
+        private final String source;
+        private final Path file;
+        private io.swagger.v3.oas.models.OpenAPI openAPI;
+        private Set<Path> documents = Collections.emptySet();
+        /**
+         * The errors of the last validation, by their message, since the errors of the info section are not comparable
+         */
+        private Map<String, StyleError> errors = Collections.emptyMap();
+        private ValidationResult result;
+        /**
+         * The schemas of other documents the spec referenced at the last validation, to find the ones which changed
+         */
+        private Map<String, JsonNode> externalSchemas = Collections.emptyMap();
+
+        WatchedSpec(String source) {
+            this.source = source;
+            this.file = toLocalFile(source);
+        }
+
+        private Path toLocalFile(String source) {
+            try {
+                Path path = Paths.get(source).toAbsolutePath().normalize();
+                return Files.isRegularFile(path) ? path : null;
+            } catch (InvalidPathException e) {
+                return null;
+            }
+        }
+
+        /**
+         * @param parse {@code true} to parse the spec again, {@code false} to validate the model kept from the previous
+         *              validation
+         * @param changedFiles the files which changed since the previous validation
+         * @return the report of the validation, the previous model and errors being kept when the spec cannot be read
+         */
+        SpecReport validate(boolean parse, Set<Path> changedFiles) {
+            io.swagger.v3.oas.models.OpenAPI previousOpenAPI = openAPI;
+            if (parse || openAPI == null) {
+                SwaggerParseResult parserResult = Main.parse(source);
+                if (parserResult.getOpenAPI() == null) {
+                    List<String> messages = parserResult.getMessages();
+                    return messages == null || messages.isEmpty() ? unreadable("Unknown error") : SpecReport.unreadable(source, messages);
+                }
+                openAPI = parserResult.getOpenAPI();
+            }
+
+            RefResolver refResolver = new RefResolver(source, ParsedDocumentCache.shared());
+            OpenApiSpecStyleValidator validator = new OpenApiSpecStyleValidator(openAPI, refResolver);
+            Map<String, JsonNode> previousExternalSchemas = externalSchemas;
+            externalSchemas = refResolver.getExternalSchemas(openAPI);
+            if (result != null && previousOpenAPI != null && sameComponentsExceptSchemas(previousOpenAPI, openAPI)) {
+                Set<Path> changedDocuments = new HashSet<>(changedFiles);
+                changedDocuments.remove(file);
+                Set<String> changedPaths = refResolver.getPathsReadFrom(openAPI, changedDocuments);
+                changedPaths.addAll(changedKeys(previousOpenAPI.getPaths(), openAPI.getPaths()));
+                Set<String> changedSchemas = changedKeys(schemasOf(previousOpenAPI), schemasOf(openAPI));
+                changedSchemas.addAll(changedKeys(previousExternalSchemas, externalSchemas));
+                result = validator.revalidate(result, changedPaths, changedSchemas);
+            } else {
+                result = validator.validateNodes(parameters);
+            }
+            errors = new LinkedHashMap<>();
+            for (StyleError error : result.getErrors()) {
+                errors.put(error.toString(), error);
+            }
+            // The documents of all the path items and schemas, since they were all either walked or read to find the changed ones
+            documents = refResolver.getLocalDocuments();
+            return SpecReport.validated(source, result.getErrors());
+        }
+
+        SpecReport unreadable(String message) {
+            return SpecReport.unreadable(source, Collections.singletonList(message));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package org.openapitools.openapistylevalidator.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+class DaemonServerTest {
+
+    @TempDir
+    Path tokenDirectory;
+
+    @Test
+    void clientShouldPrintTheOutputAndReturnTheExitCodeOfTheDaemon() throws Exception {
+        int port = startDaemon(DaemonProtocol.READ_TIMEOUT_MILLIS);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        int exitCode = forwardWhenReady(new DaemonClient(port, tokenDirectory), output, new ByteArrayOutputStream(),
+                "-s", new File("src/test/resources/ping.yaml").getAbsolutePath(),
+                "-o", new File("src/test/resources/custom.json").getAbsolutePath());
+        String[] lines = new String(output.toByteArray(), StandardCharsets.UTF_8).split("\\R");
+
+        Assertions.assertAll(
+                () -> assertEquals(0, exitCode),
+                () -> assertEquals("There are no style errors in this spec.", lines[0]),
+                () -> assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(DaemonProtocol.getTokenFile(tokenDirectory, port))))
+        );
+    }
+
+    @Test
+    void clientShouldPrintTheWarningsOfTheDaemonOnItsErrorStream() throws Exception {
+        int port = startDaemon(DaemonProtocol.READ_TIMEOUT_MILLIS);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        int exitCode = forwardWhenReady(new DaemonClient(port, tokenDirectory), output, errors,
+                "-s", new File("src/test/resources/ping.yaml").getAbsolutePath(),
+                "-o", new File("src/test/resources/custom.json").getAbsolutePath(), "--format", "unknown");
+
+        Assertions.assertAll(
+                () -> assertEquals(0, exitCode),
+                () -> assertEquals("There are no style errors in this spec.", new String(output.toByteArray(), StandardCharsets.UTF_8).trim()),
+                () -> assertEquals("Invalid format, using text.", new String(errors.toByteArray(), StandardCharsets.UTF_8).trim())
+        );
+    }
+
+    @Test
+    void daemonShouldRefuseTheRequestsWhichWriteFiles() throws Exception {
+        int port = startDaemon(DaemonProtocol.READ_TIMEOUT_MILLIS);
+        Path statsFile = tokenDirectory.resolve("stats.json");
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        int exitCode = forwardWhenReady(new DaemonClient(port, tokenDirectory), output, new ByteArrayOutputStream(),
+                "-s", new File("src/test/resources/ping.yaml").getAbsolutePath(), "--stats-json", statsFile.toString());
+
+        Assertions.assertAll(
+                () -> assertEquals(1, exitCode),
+                () -> assertEquals("There was something wrong in your request. Please check documentation for more info",
+                        new String(output.toByteArray(), StandardCharsets.UTF_8).trim()),
+                () -> assertFalse(Files.exists(statsFile))
+        );
+    }
+
+    @Test
+    void daemonShouldRefuseTheClientsWithoutItsToken() throws Exception {
+        int port = startDaemon(DaemonProtocol.READ_TIMEOUT_MILLIS);
+        forwardWhenReady(new DaemonClient(port, tokenDirectory), new ByteArrayOutputStream(), new ByteArrayOutputStream(), "-v");
+        Files.write(DaemonProtocol.getTokenFile(tokenDirectory, port), "not the token".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IOException.class, () -> new DaemonClient(port, tokenDirectory)
+                .forward(Collections.singletonList("-v"), new PrintStream(new ByteArrayOutputStream()), new PrintStream(new ByteArrayOutputStream())));
+    }
+
+    @Test
+    void daemonShouldDropTheClientsWhichSendNothing() throws Exception {
+        int port = startDaemon(200);
+        forwardWhenReady(new DaemonClient(port, tokenDirectory), new ByteArrayOutputStream(), new ByteArrayOutputStream(), "-v");
+
+        List<Socket> idleClients = new ArrayList<>();
+        try {
+            for (int i = 0; i < Runtime.getRuntime().availableProcessors() + 1; i++) {
+                Socket idleClient = new Socket(InetAddress.getLoopbackAddress(), port);
+                new DataOutputStream(idleClient.getOutputStream()).writeShort(1);
+                idleClients.add(idleClient);
+            }
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+            int exitCode = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> new DaemonClient(port, tokenDirectory)
+                    .forward(Collections.singletonList("-v"), new PrintStream(output, true, "UTF-8"), new PrintStream(new ByteArrayOutputStream())));
+
+            assertEquals(0, exitCode);
+        } finally {
+            for (Socket idleClient : idleClients) {
+                idleClient.close();
+            }
+        }
+    }
+
+    private int startDaemon(int readTimeoutMillis) throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        Thread daemon = new Thread(() -> {
+            try {
+                new DaemonServer(port, tokenDirectory, readTimeoutMillis).run(new PrintStream(new ByteArrayOutputStream()));
+            } catch (Exception ignored) {
+            }
+        });
+        daemon.setDaemon(true);
+        daemon.start();
+        return port;
+    }
+
+    private static int forwardWhenReady(DaemonClient client, ByteArrayOutputStream output, ByteArrayOutputStream errors, String... arguments) throws Exception {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return client.forward(Arrays.asList(arguments), new PrintStream(output, true, "UTF-8"), new PrintStream(errors, true, "UTF-8"));
+            } catch (ConnectException e) {
+                if (attempt == 100) {
+                    throw e;
+                }
+                Thread.sleep(100);
+            }
+        }
+    }
+}
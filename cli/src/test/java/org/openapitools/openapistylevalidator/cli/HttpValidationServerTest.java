@@ -0,0 +1,149 @@
+package org.openapitools.openapistylevalidator.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openapitools.openapistylevalidator.ValidatorParameters;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.CancellationException;
+
+class HttpValidationServerTest {
+
+    private HttpValidationServer server;
+
+    @AfterEach
+    void stopServer() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    void serverShouldRespondWithTheErrorsOfThePostedSpec() throws Exception {
+        int port = startServer(HttpValidationServer.DEFAULT_MAX_REQUEST_BYTES);
+        JsonObject request = new JsonObject();
+        request.addProperty("spec", new String(Files.readAllBytes(Paths.get("src/test/resources/ping.yaml")), StandardCharsets.UTF_8));
+        request.add("options", JsonParser.parseString("{\"validateInfoLicense\": false}"));
+
+        Response response = post(port, request.toString());
+        JsonObject body = JsonParser.parseString(response.body).getAsJsonObject();
+        JsonObject operationError = body.getAsJsonArray("errors").get(2).getAsJsonObject();
+
+        Assertions.assertAll(
+                () -> assertEquals(200, response.status),
+                () -> assertEquals(false, body.get("valid").getAsBoolean()),
+                () -> assertEquals(5, body.getAsJsonArray("errors").size()),
+                () -> assertEquals("APIInfo", body.getAsJsonArray("errors").get(0).getAsJsonObject().get("section").getAsString()),
+                () -> assertEquals("/ping", operationError.get("path").getAsString()),
+                () -> assertEquals("post", operationError.get("method").getAsString()),
+                () -> assertEquals("/paths/~1ping/post", operationError.get("pointer").getAsString())
+        );
+    }
+
+    @Test
+    void serverShouldRefuseTheRequestsLargerThanTheLimit() throws Exception {
+        int port = startServer(64);
+
+        Response response = post(port, "{\"spec\": \"" + new String(new char[128]).replace('\0', 'a') + "\"}");
+
+        assertEquals(413, response.status);
+    }
+
+    @Test
+    void serverShouldRefuseTheRequestsWhichAreNotJson() throws Exception {
+        int port = startServer(HttpValidationServer.DEFAULT_MAX_REQUEST_BYTES);
+
+        Response response = post(port, "openapi: 3.0.1");
+
+        Assertions.assertAll(
+                () -> assertEquals(400, response.status),
+                () -> assertTrue(response.body.contains("\"error\""))
+        );
+    }
+
+    @Test
+    void serverShouldAnswerOnceTheTimeLimitFromTheArrivalIsReached() throws Exception {
+        server = new HttpValidationServer(0, HttpValidationServer.DEFAULT_MAX_REQUEST_BYTES, 1L);
+        int port = server.start();
+        StringBuilder spec = new StringBuilder("openapi: 3.0.1\ninfo: {title: Large, version: '1.0'}\npaths:\n");
+        for (int i = 0; i < 5_000; i++) {
+            spec.append(String.format("  /path%d: {get: {responses: {'200': {description: OK}}}}%n", i));
+        }
+        JsonObject request = new JsonObject();
+        request.addProperty("spec", spec.toString());
+
+        Response response = post(port, request.toString());
+
+        Assertions.assertAll(
+                () -> assertEquals(503, response.status),
+                () -> assertTrue(response.body.contains("The request took longer than 1 ms"))
+        );
+    }
+
+    @Test
+    void cancelledValidationShouldStopAtTheNextNode() throws Exception {
+        String spec = new String(Files.readAllBytes(Paths.get("src/test/resources/ping.yaml")), StandardCharsets.UTF_8);
+        HttpValidationServer.ValidationTask task = new HttpValidationServer.ValidationTask(spec, new ValidatorParameters());
+        HttpValidationServer.ValidationTask cancelledTask = new HttpValidationServer.ValidationTask(spec, new ValidatorParameters());
+        cancelledTask.cancel();
+
+        Assertions.assertAll(
+                () -> assertEquals(6, task.call().getErrors().size()),
+                () -> assertThrows(CancellationException.class, cancelledTask::call),
+                () -> assertThrows(CancellationException.class, cancelledTask::nodeVisited)
+        );
+    }
+
+    private int startServer(int maxRequestBytes) throws IOException {
+        server = new HttpValidationServer(0, maxRequestBytes, 30_000L);
+        return server.start();
+    }
+
+    private static Response post(int port, String body) throws IOException {
+        URL url = new URL("http", InetAddress.getLoopbackAddress().getHostAddress(), port, "/validate");
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setRequestProperty("Content-Type", "application/json");
+        try (OutputStream output = connection.getOutputStream()) {
+            output.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        int status = connection.getResponseCode();
+        try (InputStream input = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            for (int read = input.read(buffer); read != -1; read = input.read(buffer)) {
+                content.write(buffer, 0, read);
+            }
+            return new Response(status, new String(content.toByteArray(), StandardCharsets.UTF_8));
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static final class Response {
+        private final int status;
+        private final String body;
+
+        private Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
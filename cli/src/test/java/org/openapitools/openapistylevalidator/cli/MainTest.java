@@ -2,6 +2,7 @@ package org.openapitools.openapistylevalidator.cli;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import com.google.gson.JsonParser;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.DefaultParser;
 import org.apache.commons.cli.Options;
@@ -12,6 +13,8 @@ import org.openapitools.openapistylevalidator.ValidatorParameters.NamingConventi
 import org.openapitools.openapistylevalidator.styleerror.StyleError;
 import org.opentest4j.MultipleFailuresError;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
@@ -140,6 +143,35 @@ public class MainTest {
                 );
     }
     
+    @Test
+    void textReportShouldListTheErrorsSectionBySection() {
+        String[] lines = runRequest("-s", "src/test/resources/models.yml");
+        String[] multiSpecLines = runRequest("-s", "src/test/resources/models.yml", "src/test/resources/ping.yaml");
+
+        Assertions.assertAll(
+                () -> assertEquals("*ERROR* in Operation GET /foo 'description' -> This field should be present and not empty", lines[0]),
+                () -> assertEquals("*ERROR* in Model 'Foo', property 'name', field 'example' -> This field should be present and not empty", lines[1]),
+                () -> assertEquals("*ERROR* in Operation GET /foo 'description' -> This field should be present and not empty", multiSpecLines[1]),
+                () -> assertEquals("*ERROR* in Model 'Foo', property 'name', field 'example' -> This field should be present and not empty", multiSpecLines[2])
+        );
+    }
+
+    @Test
+    void jsonLinesReportShouldListTheErrorsAsTheyAreFound() {
+        String[] lines = runRequest("-s", "src/test/resources/models.yml", "--format", "jsonl");
+
+        Assertions.assertAll(
+                () -> assertEquals("Models", JsonParser.parseString(lines[0]).getAsJsonObject().get("section").getAsString()),
+                () -> assertEquals("Operations", JsonParser.parseString(lines[1]).getAsJsonObject().get("section").getAsString())
+        );
+    }
+
+    private static String[] runRequest(String... args) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Main.runRequest(args, new OutputUtils(new PrintStream(output)));
+        return new String(output.toByteArray(), StandardCharsets.UTF_8).split("\\R");
+    }
+
     @Test
     void defaultJsonFileContainsConstants() throws Exception {
         String filePath = Objects.requireNonNull(MainTest.class.getClassLoader().getResource("default.json")).getPath();
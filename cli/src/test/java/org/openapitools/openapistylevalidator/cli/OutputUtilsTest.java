@@ -1,4 +1,26 @@
 package org.openapitools.openapistylevalidator.cli;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
 public class OutputUtilsTest {
+
+    @Test
+    void outputShouldBeWrittenWhenFlushed() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        OutputUtils outputUtils = new OutputUtils(new PrintStream(output, true));
+
+        outputUtils.printResults(Collections.singletonList(new StyleError(StyleError.StyleCheckSection.APIInfo, "license", "Should be present and not empty")));
+        assertEquals(0, output.size());
+
+        outputUtils.flush();
+        assertEquals(String.format("*ERROR* Section: APIInfo: 'license' -> Should be present and not empty%n"), new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
 }
@@ -0,0 +1,148 @@
+package org.openapitools.openapistylevalidator.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openapitools.openapistylevalidator.styleerror.ModelStyleError;
+import org.openapitools.openapistylevalidator.styleerror.OperationStyleError;
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+import org.w3c.dom.Document;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+class ReportRendererTest {
+
+    private static final List<StyleError> ERRORS = Arrays.asList(
+            new OperationStyleError("summary", "This field should be present and not empty", "/pets/{id}", PathItem.HttpMethod.GET),
+            new ModelStyleError("description", "This field should be present and not empty", "Pet", "name"));
+
+    @Test
+    void jsonLinesShouldHoldTheTypedFieldsOfTheErrors() {
+        String[] lines = render(ReportFormat.JSONL).split("\n");
+        JsonObject operationError = new JsonParser().parse(lines[0]).getAsJsonObject();
+        JsonObject modelError = new JsonParser().parse(lines[1]).getAsJsonObject();
+
+        Assertions.assertAll(
+                () -> assertEquals(3, lines.length),
+                () -> assertEquals("specs/pets.yaml", operationError.get("source").getAsString()),
+                () -> assertEquals("Operations", operationError.get("section").getAsString()),
+                () -> assertEquals("/pets/{id}", operationError.get("path").getAsString()),
+                () -> assertEquals("get", operationError.get("method").getAsString()),
+                () -> assertEquals("/paths/~1pets~1{id}/get", operationError.get("pointer").getAsString()),
+                () -> assertFalse(operationError.has("model")),
+                () -> assertEquals("Pet", modelError.get("model").getAsString()),
+                () -> assertEquals("name", modelError.get("property").getAsString()),
+                () -> assertEquals("unreadable", new JsonParser().parse(lines[2]).getAsJsonObject().get("type").getAsString())
+        );
+    }
+
+    @Test
+    void sarifShouldHoldOneResultPerErrorAndTheUnreadableSpecs() {
+        JsonObject run = new JsonParser().parse(render(ReportFormat.SARIF)).getAsJsonObject()
+                .getAsJsonArray("runs").get(0).getAsJsonObject();
+        JsonObject result = run.getAsJsonArray("results").get(1).getAsJsonObject();
+        JsonObject location = result.getAsJsonArray("locations").get(0).getAsJsonObject();
+
+        Assertions.assertAll(
+                () -> assertEquals(2, run.getAsJsonArray("results").size()),
+                () -> assertEquals("Models", result.get("ruleId").getAsString()),
+                () -> assertEquals("specs/pets.yaml", location.getAsJsonObject("physicalLocation")
+                        .getAsJsonObject("artifactLocation").get("uri").getAsString()),
+                () -> assertEquals("/components/schemas/Pet/properties/name", location.getAsJsonArray("logicalLocations")
+                        .get(0).getAsJsonObject().get("fullyQualifiedName").getAsString()),
+                () -> assertEquals("name", result.getAsJsonObject("properties").get("property").getAsString()),
+                () -> assertEquals(1, run.getAsJsonArray("invocations").get(0).getAsJsonObject()
+                        .getAsJsonArray("toolExecutionNotifications").size())
+        );
+    }
+
+    @Test
+    void junitShouldHoldOneTestSuitePerSpecAndOneFailurePerError() throws Exception {
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new ByteArrayInputStream(render(ReportFormat.JUNIT).getBytes(StandardCharsets.UTF_8)));
+
+        Assertions.assertAll(
+                () -> assertEquals(2, document.getElementsByTagName("testsuite").getLength()),
+                () -> assertEquals(3, document.getElementsByTagName("testcase").getLength()),
+                () -> assertEquals(2, document.getElementsByTagName("failure").getLength()),
+                () -> assertEquals(1, document.getElementsByTagName("error").getLength())
+        );
+    }
+
+    @Test
+    void junitShouldLeaveOutTheCharactersThatXmlDoesNotAllow() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ReportRenderer renderer = new OutputUtils(new PrintStream(output)).createRenderer(ReportFormat.JUNIT, true);
+        renderer.startSpec("specs/pets\u0001.yaml");
+        renderer.printError(new OperationStyleError("summary", "This field should be present\u0000 and not empty", "/pets\u001b", PathItem.HttpMethod.GET));
+        renderer.endSpec(SpecReport.streamed("specs/pets.yaml", 1));
+        renderer.startSpec("specs/broken.yaml");
+        renderer.endSpec(SpecReport.unreadable("specs/broken.yaml", Collections.singletonList("unexpected character \u0007 or \ud800")));
+        renderer.finish();
+
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new ByteArrayInputStream(output.toByteArray()));
+
+        Assertions.assertAll(
+                () -> assertEquals("specs/pets.yaml", document.getElementsByTagName("testsuite").item(0).getAttributes().getNamedItem("name").getNodeValue()),
+                () -> assertEquals("This field should be present and not empty", document.getElementsByTagName("failure").item(0).getAttributes().getNamedItem("message").getNodeValue()),
+                () -> assertEquals("unexpected character  or ", document.getElementsByTagName("error").item(0).getTextContent())
+        );
+    }
+
+    @Test
+    void summaryShouldCountTheErrorsPerSectionAndPrintTheTopNodes() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ReportRenderer renderer = new OutputUtils(new PrintStream(output)).createSummaryRenderer(1, false);
+        renderer.startSpec("specs/pets.yaml");
+        ERRORS.forEach(renderer::printError);
+        renderer.printError(new OperationStyleError("tags", "The collection should be present and there should be at least one item in it", "/pets", PathItem.HttpMethod.POST));
+        renderer.printError(new OperationStyleError("summary", "This field should be present and not empty", "/pets", PathItem.HttpMethod.POST));
+        renderer.endSpec(SpecReport.streamed("specs/pets.yaml", ERRORS.size() + 2));
+        renderer.finish();
+        String[] lines = new String(output.toByteArray(), StandardCharsets.UTF_8).split("\\R");
+
+        Assertions.assertAll(
+                () -> assertEquals("There are 4 style errors in this spec:", lines[0]),
+                () -> assertEquals("\tOperations: 3", lines[2]),
+                () -> assertEquals("\tModels: 1", lines[3]),
+                () -> assertEquals("The paths with the most errors:", lines[5]),
+                () -> assertEquals("\t2 /pets", lines[6]),
+                () -> assertEquals("The models with the most errors:", lines[7]),
+                () -> assertEquals("\t1 Pet", lines[8]),
+                () -> assertEquals(9, lines.length)
+        );
+    }
+
+    @Test
+    void sarifUriShouldBeRelativeForARelativePath() {
+        Assertions.assertAll(
+                () -> assertEquals("specs/my%20api.yaml", SarifRenderer.toUri("./specs/my api.yaml")),
+                () -> assertEquals("https://example.com/api.yaml", SarifRenderer.toUri("https://example.com/api.yaml"))
+        );
+    }
+
+    private static String render(ReportFormat format) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ReportRenderer renderer = new OutputUtils(new PrintStream(output)).createRenderer(format, true);
+        renderer.startSpec("specs/pets.yaml");
+        ERRORS.forEach(renderer::printError);
+        renderer.endSpec(SpecReport.streamed("specs/pets.yaml", ERRORS.size()));
+        renderer.startSpec("specs/broken.yaml");
+        renderer.endSpec(SpecReport.unreadable("specs/broken.yaml", Collections.singletonList("unable to read location")));
+        renderer.finish();
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,58 @@
+package org.openapitools.openapistylevalidator.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.NoSuchFileException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+class SourceResolverTest {
+
+    private final SourceResolver sourceResolver = new SourceResolver();
+
+    @Test
+    void fileShouldBeKeptAsIs() throws Exception {
+        List<String> specs = sourceResolver.resolve(Collections.singletonList("src/test/resources/ping.yaml"));
+        assertEquals(Collections.singletonList("src/test/resources/ping.yaml"), specs);
+    }
+
+    @Test
+    void globShouldBeExpandedToTheMatchingFiles() throws Exception {
+        List<String> specs = sourceResolver.resolve(Collections.singletonList("src/test/resources/*.yaml"));
+        assertEquals(Arrays.asList(
+                path("src/test/resources/ping.yaml"),
+                path("src/test/resources/some.yaml")), specs);
+    }
+
+    @Test
+    void directoryShouldBeExpandedToAllTheSpecFilesWithoutDuplicates() throws Exception {
+        List<String> specs = sourceResolver.resolve(Arrays.asList("src/test/resources/ping.yaml", "src/test/resources"));
+        assertEquals("src/test/resources/ping.yaml", specs.get(0));
+        assertTrue(specs.contains(path("src/test/resources/some.yaml")));
+        assertTrue(specs.contains(path("src/test/resources/default.json")));
+        assertEquals(specs.size(), specs.stream().distinct().count());
+    }
+
+    @Test
+    void urlWithAQueryStringShouldBeKeptAsIs() throws Exception {
+        List<String> specs = sourceResolver.resolve(Collections.singletonList("https://example.com/openapi.yaml?version=2"));
+        assertEquals(Collections.singletonList("https://example.com/openapi.yaml?version=2"), specs);
+    }
+
+    @Test
+    void globMatchingNoSpecShouldBeRefused() {
+        NoSuchFileException exception = assertThrows(NoSuchFileException.class,
+                () -> sourceResolver.resolve(Collections.singletonList("src/test/resources/*.raml")));
+        assertEquals("src/test/resources/*.raml", exception.getFile());
+    }
+
+    private static String path(String path) {
+        return path.replace('/', File.separatorChar);
+    }
+}
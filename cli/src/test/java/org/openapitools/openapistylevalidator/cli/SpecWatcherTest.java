@@ -0,0 +1,157 @@
+package org.openapitools.openapistylevalidator.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openapitools.openapistylevalidator.ValidatorParameters;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+
+class SpecWatcherTest {
+
+    private static final String SPEC = "openapi: 3.0.1\n" +
+            "info:\n" +
+            "  title: watched\n" +
+            "  version: '1.0'\n" +
+            "  description: A watched spec\n" +
+            "  license:\n" +
+            "    name: MIT\n" +
+            "  contact:\n" +
+            "    name: Team\n" +
+            "paths:\n" +
+            "  /pets:\n" +
+            "    get:\n" +
+            "      operationId: listPets\n" +
+            "      summary: List the pets\n" +
+            "      description: Lists the pets\n" +
+            "      tags:\n" +
+            "        - pets\n" +
+            "      responses:\n" +
+            "        '200':\n" +
+            "          description: OK\n" +
+            "          content:\n" +
+            "            application/json:\n" +
+            "              schema:\n" +
+            "                $ref: 'definitions.yaml#/Pet'\n";
+
+    @TempDir
+    Path directory;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final OutputUtils outputUtils = new OutputUtils(new PrintStream(output, true));
+
+    @Test
+    void revalidateShouldPrintTheNewAndTheResolvedErrors() throws Exception {
+        Path spec = write("spec.yaml", SPEC);
+        Path definitions = write("definitions.yaml", "Pet:\n  properties:\n    petName:\n      type: string\n");
+
+        try (SpecWatcher watcher = new SpecWatcher(Collections.singletonList(spec.toString()), new ValidatorParameters(), outputUtils)) {
+            watcher.start();
+            assertEquals("*ERROR* in Model 'Pet', property 'petName', field 'example' -> This field should be present and not empty",
+                    readOutput().trim());
+
+            write("definitions.yaml", "Pet:\n  properties:\n    petName:\n      type: string\n      example: Rex\n    pet_age:\n      type: integer\n      example: 3\n");
+            assertEquals(1, watcher.revalidate(Collections.singleton(definitions)));
+            assertEquals(String.format("Validating spec again: %s%n" +
+                            "+ *ERROR* in model Pet 'pet_age' -> property should be in camelCase%n" +
+                            "- *ERROR* in Model 'Pet', property 'petName', field 'example' -> This field should be present and not empty%n", spec),
+                    readOutput());
+
+            write("spec.yaml", SPEC.replace("operationId: listPets", "operationId: ''"));
+            assertEquals(1, watcher.revalidate(Collections.singleton(spec)));
+            assertEquals(String.format("Validating spec again: %s%n" +
+                            "+ *ERROR* in Operation GET /pets 'operationId' -> This field should be present and not empty%n", spec),
+                    readOutput());
+        }
+    }
+
+    @Test
+    void revalidateShouldValidateTheChangedNodesOfASelfContainedSpec() throws Exception {
+        String selfContainedSpec = SPEC.replace("$ref: 'definitions.yaml#/Pet'", "$ref: '#/components/schemas/Pet'") +
+                "components:\n" +
+                "  schemas:\n" +
+                "    Pet:\n" +
+                "      properties:\n" +
+                "        petName:\n" +
+                "          type: string\n";
+        Path spec = write("spec.yaml", selfContainedSpec);
+
+        try (SpecWatcher watcher = new SpecWatcher(Collections.singletonList(spec.toString()), new ValidatorParameters(), outputUtils)) {
+            watcher.start();
+            assertEquals("*ERROR* in Model 'Pet', property 'petName', field 'example' -> This field should be present and not empty",
+                    readOutput().trim());
+
+            write("spec.yaml", selfContainedSpec.replace("  /pets:\n", "  /pet_owners:\n    get:\n      operationId: listOwners\n" +
+                    "      summary: List the owners\n      description: Lists the owners\n      tags:\n        - owners\n" +
+                    "      responses:\n        '200':\n          description: OK\n  /pets:\n")
+                    + "          example: Rex\n");
+            assertEquals(1, watcher.revalidate(Collections.singleton(spec)));
+            assertEquals(String.format("Validating spec again: %s%n" +
+                            "+ *ERROR* in path /pet_owners 'pet_owners' -> path should be in hyphen-case%n" +
+                            "- *ERROR* in Model 'Pet', property 'petName', field 'example' -> This field should be present and not empty%n", spec),
+                    readOutput());
+        }
+    }
+
+    @Test
+    void revalidateShouldValidateThePathItemsReadFromTheChangedDocumentOfASplitSpec() throws Exception {
+        String pathItem = "Pets:\n  get:\n    operationId: listPets\n    summary: List the pets\n" +
+                "    description: Lists the pets\n    tags:\n      - pets\n    responses:\n      '200':\n        description: OK\n";
+        Path spec = write("spec.yaml", SPEC + "  /owners:\n    $ref: 'paths.yaml#/Pets'\n");
+        write("definitions.yaml", "Pet:\n  properties:\n    petName:\n      type: string\n      example: Rex\n");
+        Path paths = write("paths.yaml", pathItem);
+
+        try (SpecWatcher watcher = new SpecWatcher(Collections.singletonList(spec.toString()), new ValidatorParameters(), outputUtils)) {
+            watcher.start();
+            assertTrue(readOutput().contains("There are no style errors in this spec."));
+
+            write("paths.yaml", pathItem.replace("operationId: listPets", "operationId: ''"));
+            assertEquals(1, watcher.revalidate(Collections.singleton(paths)));
+            assertEquals(String.format("Validating spec again: %s%n" +
+                            "+ *ERROR* in Operation GET /owners 'operationId' -> This field should be present and not empty%n", spec),
+                    readOutput());
+        }
+    }
+
+    @Test
+    void revalidateShouldIgnoreTheFilesTheSpecDoesNotReference() throws Exception {
+        Path spec = write("spec.yaml", SPEC);
+        write("definitions.yaml", "Pet:\n  properties:\n    petName:\n      type: string\n      example: Rex\n");
+        Path other = write("other.yaml", "Other: {}\n");
+
+        try (SpecWatcher watcher = new SpecWatcher(Collections.singletonList(spec.toString()), new ValidatorParameters(), outputUtils)) {
+            watcher.start();
+            assertTrue(readOutput().contains("There are no style errors in this spec."));
+
+            assertEquals(0, watcher.revalidate(Collections.singleton(other)));
+            assertEquals("", readOutput());
+        }
+    }
+
+    private Path write(String name, String contents) throws IOException {
+        Path file = directory.resolve(name);
+        boolean exists = Files.exists(file);
+        FileTime previousTime = exists ? Files.getLastModifiedTime(file) : null;
+        Files.write(file, contents.getBytes(StandardCharsets.UTF_8));
+        if (exists) {
+            // The parsed documents are kept while their modification time does not change
+            Files.setLastModifiedTime(file, FileTime.fromMillis(previousTime.toMillis() + 1000));
+        }
+        return file.toAbsolutePath().normalize();
+    }
+
+    private String readOutput() {
+        String printed = new String(output.toByteArray(), StandardCharsets.UTF_8);
+        output.reset();
+        return printed;
+    }
+}
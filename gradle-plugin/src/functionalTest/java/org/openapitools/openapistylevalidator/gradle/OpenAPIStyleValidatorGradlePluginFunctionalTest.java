@@ -12,6 +12,7 @@ import java.io.Writer;
 import java.nio.file.Files;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * A simple functional test for the 'org.openapitools.openapistylevalidator' plugin.
@@ -68,6 +69,65 @@ public class OpenAPIStyleValidatorGradlePluginFunctionalTest {
         assertEquals(TaskOutcome.SUCCESS, result.task(":openAPIStyleValidator").getOutcome());
     }
 
+    @Test
+    public void validateSeveralSpecsMustBeUpToDateWhenNothingChanged() throws IOException {
+        // Setup the test build
+        File projectDir = new File("build/functionalTestSeveralSpecs");
+        Files.createDirectories(projectDir.toPath().resolve("specs"));
+        String spec = "openapi: 3.0.1\n" +
+                "info:\n" +
+                "  title: ping test\n" +
+                "  version: '1.0'\n" +
+                "paths:\n" +
+                "  /ping:\n" +
+                "    post:\n" +
+                "      operationId: pingGet\n" +
+                "      responses:\n" +
+                "        '201':\n" +
+                "          $ref: 'responses.yaml#/Ok'";
+        writeString(new File(projectDir, "specs/first.yaml"), spec);
+        writeString(new File(projectDir, "specs/second.yaml"), spec);
+        writeString(new File(projectDir, "specs/responses.yaml"),
+                "Ok:\n" +
+                        "  description: OK");
+        writeString(new File(projectDir, "settings.gradle"), "");
+        writeString(new File(projectDir, "build.gradle"),
+                "plugins {\n" +
+                        "  id('org.openapitools.openapistylevalidator')\n" +
+                        "}\n" +
+                        "\n" +
+                        "openAPIStyleValidator {\n" +
+                        "    inputFiles = fileTree('specs') { include '*t.yaml', 'second.yaml' }\n" +
+                        "    validateInfoLicense = false\n" +
+                        "    validateInfoDescription = false\n" +
+                        "    validateInfoContact = false\n" +
+                        "    validateOperationDescription = false\n" +
+                        "    validateOperationTag = false\n" +
+                        "    validateOperationSummary = false\n" +
+                        "}");
+
+        // Run the build twice, then again after a change in a referenced file
+        GradleRunner runner = GradleRunner.create();
+        runner.forwardOutput();
+        runner.withPluginClasspath();
+        runner.withArguments("openAPIStyleValidator");
+        runner.withProjectDir(projectDir);
+        BuildResult firstResult = runner.build();
+        BuildResult secondResult = runner.build();
+        writeString(new File(projectDir, "specs/responses.yaml"),
+                "Ok:\n" +
+                        "  description: Done");
+        BuildResult thirdResult = runner.build();
+
+        // Verify the result
+        assertEquals(TaskOutcome.SUCCESS, firstResult.task(":openAPIStyleValidator").getOutcome());
+        assertEquals(TaskOutcome.UP_TO_DATE, secondResult.task(":openAPIStyleValidator").getOutcome());
+        assertEquals(TaskOutcome.SUCCESS, thirdResult.task(":openAPIStyleValidator").getOutcome());
+        String report = new String(Files.readAllBytes(projectDir.toPath().resolve("build/reports/openapi-style-validator/openAPIStyleValidator.txt")));
+        assertTrue(report.contains("first.yaml"));
+        assertTrue(report.contains("second.yaml"));
+    }
+
     private void writeString(File file, String string) throws IOException {
         try (Writer writer = new FileWriter(file)) {
             writer.write(string);
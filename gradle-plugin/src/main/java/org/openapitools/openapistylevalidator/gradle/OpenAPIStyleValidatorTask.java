@@ -1,23 +1,66 @@
 package org.openapitools.openapistylevalidator.gradle;
 
-import io.swagger.parser.OpenAPIParser;
-import io.swagger.v3.parser.core.models.ParseOptions;
-import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.Console;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.Optional;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.TaskAction;
 import org.gradle.api.tasks.options.Option;
-import org.openapitools.empoa.swagger.core.internal.SwAdapter;
+import org.gradle.workers.WorkQueue;
+import org.gradle.workers.WorkerExecutionException;
+import org.gradle.workers.WorkerExecutor;
 import org.openapitools.openapistylevalidator.OpenApiSpecStyleValidator;
+import org.openapitools.openapistylevalidator.ValidationMetrics;
 import org.openapitools.openapistylevalidator.ValidatorParameters;
 import org.openapitools.openapistylevalidator.ValidatorParameters.NamingConvention;
-import org.openapitools.openapistylevalidator.styleerror.StyleError;
+import org.openapitools.openapistylevalidator.cache.RefDependencies;
 
+import javax.inject.Inject;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
 
+/**
+ * Validates one or more specs, each one in its own worker.
+ * <p>
+ * The specs, the files they reference with {@code $ref} and the validation options are the inputs of the task, and the
+ * report is its output, so the task is up-to-date (or taken from the build cache) when none of them changed.
+ */
+@CacheableTask
 public class OpenAPIStyleValidatorTask extends DefaultTask {
 
+    private final WorkerExecutor workerExecutor;
+    private final Path projectDirectory;
+
     private String inputFile;
+    private final ConfigurableFileCollection inputFiles;
+    private final ConfigurableFileCollection specFiles;
+    private final ConfigurableFileCollection referencedFiles;
+    private File reportFile;
+    private String cacheDirectory;
+    private boolean streaming;
+    private boolean stats;
+    private File statsFile;
 
     private boolean validateInfoLicense = true;
     private boolean validateInfoDescription = true;
@@ -37,43 +80,270 @@ public class OpenAPIStyleValidatorTask extends DefaultTask {
     private NamingConvention parameterNamingConvention = NamingConvention.CamelCase;
     private NamingConvention propertyNamingConvention = NamingConvention.CamelCase;
 
-    public OpenAPIStyleValidatorTask() {
+    private boolean failFast;
+    private int maxErrors;
+
+    @Inject
+    public OpenAPIStyleValidatorTask(WorkerExecutor workerExecutor) {
+        this.workerExecutor = workerExecutor;
+        this.projectDirectory = getProject().getProjectDir().toPath();
+        this.inputFiles = getProject().getObjects().fileCollection();
+        this.specFiles = getProject().getObjects().fileCollection()
+                .from((Callable<Object>) () -> inputFile == null ? Collections.emptyList() : inputFile, inputFiles);
+        this.referencedFiles = getProject().getObjects().fileCollection()
+                .from((Callable<Set<File>>) this::findReferencedFiles);
+        this.reportFile = new File(getProject().getBuildDir(), String.format("reports/openapi-style-validator/%s.txt", getName()));
         this.setGroup("Verification");
         this.setDescription("Validate that OpenAPI files against style rules");
     }
 
     @TaskAction
     public void execute() {
-        if (inputFile == null) {
+        List<File> specs = new ArrayList<>(getSpecFiles().getFiles());
+        Collections.sort(specs);
+        if (specs.isEmpty()) {
             throw new GradleException(String.format("The input file is not defined, set the '%s' option", OpenApiSpecStyleValidator.INPUT_FILE));
         }
-        getLogger().quiet(String.format("Validating spec: %s", inputFile));
-
-        OpenAPIParser openApiParser = new OpenAPIParser();
-        ParseOptions parseOptions = new ParseOptions();
-        parseOptions.setResolve(true);
-
-        SwaggerParseResult parserResult = openApiParser.readLocation(inputFile, null, parseOptions);
-        io.swagger.v3.oas.models.OpenAPI swaggerOpenAPI = parserResult.getOpenAPI();
-
-        org.eclipse.microprofile.openapi.models.OpenAPI openAPI = SwAdapter.toOpenAPI(swaggerOpenAPI);
-        OpenApiSpecStyleValidator openApiSpecStyleValidator = new OpenApiSpecStyleValidator(openAPI);
 
         ValidatorParameters parameters = createValidatorParameters();
         getLogger().quiet(String.format("Validating with options: %s", parameters));
-        List<StyleError> result = openApiSpecStyleValidator.validate(parameters);
-        if (!result.isEmpty()) {
-            getLogger().error("OpenAPI Specification does not meet the requirements. Issues:\n");
-            result.stream().map(StyleError::toString).forEach(m -> getLogger().error(String.format("\t%s", m)));
+        File resultDirectory = getTemporaryDir();
+        boolean collectMetrics = stats || statsFile != null;
+        WorkQueue workQueue = workerExecutor.noIsolation();
+        for (int i = 0; i < specs.size(); i++) {
+            File spec = specs.get(i);
+            File resultFile = new File(resultDirectory, i + ".txt");
+            File metricsFile = metricsFile(resultDirectory, i);
+            // So that a worker which fails does not leave the result of the previous execution to be reported
+            resultFile.delete();
+            metricsFile.delete();
+            workQueue.submit(ValidateSpecAction.class, workParameters -> {
+                workParameters.getSpecFile().set(spec);
+                workParameters.getValidatorParameters().set(parameters);
+                workParameters.getCacheDirectory().set(cacheDirectory);
+                workParameters.getStreaming().set(streaming);
+                workParameters.getResultFile().set(resultFile);
+                if (collectMetrics) {
+                    workParameters.getMetricsFile().set(metricsFile);
+                }
+            });
+        }
+        WorkerExecutionException workerFailure = null;
+        try {
+            workQueue.await();
+        } catch (WorkerExecutionException e) {
+            workerFailure = e;
+        }
+
+        List<String> report = new ArrayList<>();
+        int failedSpecs = 0;
+        for (int i = 0; i < specs.size(); i++) {
+            if (!reportResult(specs.get(i), new File(resultDirectory, i + ".txt"), report)) {
+                failedSpecs++;
+            }
+        }
+        writeReport(report);
+        if (collectMetrics) {
+            reportMetrics(specs, resultDirectory);
+        }
+        if (workerFailure != null) {
+            throw workerFailure;
+        }
+        if (failedSpecs > 0) {
             throw new GradleException("OpenAPI Style validation failed");
         }
     }
 
+    /**
+     * Logs the result of the validation of a spec, in the order of the specs, and adds it to the report.
+     *
+     * @return {@code true} when the spec meets the requirements
+     */
+    private boolean reportResult(File spec, File resultFile, List<String> report) {
+        // Relative to the project, so that the report can be reused from the build cache by another checkout
+        String header = String.format("Validating spec: %s", projectDirectory.relativize(spec.toPath()));
+        getLogger().quiet(header);
+        report.add(header);
+        if (!resultFile.isFile()) {
+            return false;
+        }
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(resultFile.toPath(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new GradleException(String.format("Unable to read the validation result of %s", spec), e);
+        }
+        String status = lines.get(0);
+        if (ValidateSpecAction.VALID.equals(status)) {
+            return true;
+        }
+        String title = ValidateSpecAction.UNREADABLE.equals(status)
+                ? "Unable to read the OpenAPI Specification:\n"
+                : "OpenAPI Specification does not meet the requirements. Issues:\n";
+        getLogger().error(title);
+        report.add(title);
+        for (String line : lines.subList(1, lines.size())) {
+            String issue = String.format("\t%s", line);
+            getLogger().error(issue);
+            report.add(issue);
+        }
+        return false;
+    }
+
+    private static File metricsFile(File resultDirectory, int index) {
+        return new File(resultDirectory, index + ".metrics");
+    }
+
+    /**
+     * Logs the measures of the validation of each spec when {@link #setStats(boolean)} is set, and exports them to
+     * {@link #getStatsFile()} when it is set.
+     */
+    private void reportMetrics(List<File> specs, File resultDirectory) {
+        Map<String, ValidationMetrics> metricsBySpec = new LinkedHashMap<>();
+        for (int i = 0; i < specs.size(); i++) {
+            File metricsFile = metricsFile(resultDirectory, i);
+            if (!metricsFile.isFile()) {
+                continue;
+            }
+            String spec = projectDirectory.relativize(specs.get(i).toPath()).toString();
+            try (ObjectInputStream input = new ObjectInputStream(Files.newInputStream(metricsFile.toPath()))) {
+                metricsBySpec.put(spec, (ValidationMetrics) input.readObject());
+            } catch (IOException | ClassNotFoundException e) {
+                throw new GradleException(String.format("Unable to read the measures of the validation of %s", spec), e);
+            }
+        }
+        if (stats) {
+            metricsBySpec.forEach((spec, metrics) -> getLogger().quiet(String.format("Measures of %s:%n%s", spec, metrics)));
+        }
+        if (statsFile != null) {
+            try {
+                Files.createDirectories(statsFile.getParentFile().toPath());
+                Files.write(statsFile.toPath(), ValidationMetrics.toJson(metricsBySpec).getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new GradleException(String.format("Unable to write the measures to %s", statsFile), e);
+            }
+        }
+    }
+
+    private void writeReport(List<String> report) {
+        try {
+            Files.createDirectories(reportFile.getParentFile().toPath());
+            Files.write(reportFile.toPath(), report, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new GradleException(String.format("Unable to write the report %s", reportFile), e);
+        }
+    }
+
+    /**
+     * @return the spec set with {@link #setInputFile(String)} and the specs set with {@link #setInputFiles(Object)}, which
+     * are validated (and reported) in the order of their paths
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public FileCollection getSpecFiles() {
+        return specFiles;
+    }
+
+    /**
+     * @return the local files referenced by the specs with {@code $ref}, so that a change in a split spec is seen
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public FileCollection getReferencedFiles() {
+        return referencedFiles;
+    }
+
+    private Set<File> findReferencedFiles() throws IOException {
+        Set<File> specs = specFiles.getFiles();
+        Set<File> files = new LinkedHashSet<>();
+        for (File spec : specs) {
+            if (spec.isFile()) {
+                for (Path dependency : RefDependencies.of(spec.toPath())) {
+                    files.add(dependency.toFile());
+                }
+            }
+        }
+        files.removeAll(specs);
+        return files;
+    }
+
+    @OutputFile
+    public File getReportFile() {
+        return reportFile;
+    }
+
+    public void setReportFile(Object reportFile) {
+        this.reportFile = getProject().file(reportFile);
+    }
+
+    /**
+     * @return {@code true} when the specs are validated while they are read, see
+     * {@link OpenApiSpecStyleValidator#streaming(Path)}
+     */
+    @Input
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    @Option(option = "streaming", description = "Validates the specs while they are read, to validate very large specs in a bounded memory")
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    /**
+     * @return {@code true} when the measures of the validation of each spec are logged
+     */
+    @Console
+    public boolean isStats() {
+        return stats;
+    }
+
+    @Option(option = "stats", description = "Logs the time of each phase, the visited nodes, the checked names and the errors per section")
+    public void setStats(boolean stats) {
+        this.stats = stats;
+    }
+
+    /**
+     * @return the file where the measures of the validation of each spec are exported as json, or {@code null}
+     */
+    @Optional
+    @OutputFile
+    public File getStatsFile() {
+        return statsFile;
+    }
+
+    public void setStatsFile(Object statsFile) {
+        this.statsFile = statsFile == null ? null : getProject().file(statsFile);
+    }
+
+    @Internal
+    public ConfigurableFileCollection getInputFiles() {
+        return inputFiles;
+    }
+
+    /**
+     * Sets the specs to validate, resolved as by {@code project.files(...)} (a {@code fileTree} for example), in
+     * addition to the one set with {@link #setInputFile(String)}.
+     */
+    public void setInputFiles(Object inputFiles) {
+        this.inputFiles.setFrom(inputFiles);
+    }
+
+    @Internal
+    public String getCacheDirectory() {
+        return cacheDirectory;
+    }
+
     @Option(option = OpenApiSpecStyleValidator.INPUT_FILE, description = "OpenAPI specification being validated")
     public void setInputFile(String inputFile) {
         this.inputFile = inputFile;
     }
 
+    @Option(option = "cacheDirectory", description = "Directory of a persistent cache of the validation results")
+    public void setCacheDirectory(String cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
     @Option(option = ValidatorParameters.VALIDATE_INFO_LICENSE, description = "Ensures that there is a license section in the info section")
     public void setValidateInfoLicense(boolean validateInfoLicense) {
         this.validateInfoLicense = validateInfoLicense;
@@ -144,6 +414,99 @@ public class OpenAPIStyleValidatorTask extends DefaultTask {
         this.propertyNamingConvention = propertyNamingConvention;
     }
 
+    @Option(option = ValidatorParameters.FAIL_FAST, description = "Stops the validation of a spec at its first error")
+    public void setFailFast(boolean failFast) {
+        this.failFast = failFast;
+    }
+
+    /**
+     * @param maxErrors the number of errors after which the validation of a spec stops, or 0 to report all of them.
+     *                  The errors are counted in the order the spec is walked, before the report sorts them by section.
+     */
+    public void setMaxErrors(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    @Input
+    public boolean isValidateInfoLicense() {
+        return validateInfoLicense;
+    }
+
+    @Input
+    public boolean isValidateInfoDescription() {
+        return validateInfoDescription;
+    }
+
+    @Input
+    public boolean isValidateInfoContact() {
+        return validateInfoContact;
+    }
+
+    @Input
+    public boolean isValidateOperationOperationId() {
+        return validateOperationOperationId;
+    }
+
+    @Input
+    public boolean isValidateOperationDescription() {
+        return validateOperationDescription;
+    }
+
+    @Input
+    public boolean isValidateOperationTag() {
+        return validateOperationTag;
+    }
+
+    @Input
+    public boolean isValidateOperationSummary() {
+        return validateOperationSummary;
+    }
+
+    @Input
+    public boolean isValidateModelPropertiesExample() {
+        return validateModelPropertiesExample;
+    }
+
+    @Input
+    public boolean isValidateModelNoLocalDef() {
+        return validateModelNoLocalDef;
+    }
+
+    @Input
+    public boolean isValidateNaming() {
+        return validateNaming;
+    }
+
+    @Input
+    public boolean isIgnoreHeaderXNaming() {
+        return ignoreHeaderXNaming;
+    }
+
+    @Input
+    public NamingConvention getPathNamingConvention() {
+        return pathNamingConvention;
+    }
+
+    @Input
+    public NamingConvention getParameterNamingConvention() {
+        return parameterNamingConvention;
+    }
+
+    @Input
+    public NamingConvention getPropertyNamingConvention() {
+        return propertyNamingConvention;
+    }
+
+    @Input
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    @Input
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
     public ValidatorParameters createValidatorParameters() {
         ValidatorParameters parameters = new ValidatorParameters();
         parameters.setValidateInfoLicense(validateInfoLicense);
@@ -160,6 +523,8 @@ public class OpenAPIStyleValidatorTask extends DefaultTask {
         parameters.setPathNamingConvention(pathNamingConvention);
         parameters.setParameterNamingConvention(parameterNamingConvention);
         parameters.setPropertyNamingConvention(propertyNamingConvention);
+        parameters.setFailFast(failFast);
+        parameters.setMaxErrors(maxErrors);
         return parameters;
     }
 
@@ -0,0 +1,151 @@
+package org.openapitools.openapistylevalidator.gradle;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.gradle.api.GradleException;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.workers.WorkAction;
+import org.openapitools.openapistylevalidator.OpenApiSpecStyleValidator;
+import org.openapitools.openapistylevalidator.RefResolver;
+import org.openapitools.openapistylevalidator.ValidationMetrics;
+import org.openapitools.openapistylevalidator.ValidationPhase;
+import org.openapitools.openapistylevalidator.ValidatorParameters;
+import org.openapitools.openapistylevalidator.cache.ParsedDocumentCache;
+import org.openapitools.openapistylevalidator.cache.ValidationResultCache;
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validates one spec in a worker of {@link OpenAPIStyleValidatorTask}.
+ * <p>
+ * The result file starts with {@link #VALID}, {@link #INVALID} or {@link #UNREADABLE}, followed by one line per style
+ * error (or per parser message when the spec cannot be read). When a metrics file is set, the measures of the validation
+ * are serialized in it.
+ */
+public abstract class ValidateSpecAction implements WorkAction<ValidateSpecParameters> {
+
+    static final String VALID = "valid";
+    static final String INVALID = "invalid";
+    static final String UNREADABLE = "unreadable";
+
+    private static final Logger LOGGER = Logging.getLogger(ValidateSpecAction.class);
+
+    @Override
+    public void execute() {
+        File specFile = getParameters().getSpecFile().get().getAsFile();
+        ValidatorParameters parameters = getParameters().getValidatorParameters().get();
+        String cacheDirectory = getParameters().getCacheDirectory().getOrNull();
+        boolean streaming = getParameters().getStreaming().getOrElse(false);
+
+        File metricsFile = getParameters().getMetricsFile().getAsFile().getOrNull();
+        ValidationMetrics metrics = metricsFile == null ? null : new ValidationMetrics();
+
+        List<String> lines = new ArrayList<>();
+        ValidationResultCache cache = cacheDirectory == null ? null : new ValidationResultCache(Paths.get(cacheDirectory));
+        String cacheKey = computeCacheKey(cache, specFile, parameters, streaming);
+        List<StyleError> errors = cacheKey == null ? null : cache.get(cacheKey);
+        if (errors == null) {
+            List<StyleError> validationErrors = new ArrayList<>();
+            if (streaming) {
+                try {
+                    OpenApiSpecStyleValidator.streaming(specFile.toPath()).setListener(metrics)
+                            .validate(parameters, validationErrors::add);
+                } catch (UncheckedIOException e) {
+                    lines.add(UNREADABLE);
+                    lines.add(e.getCause().getMessage());
+                    writeResult(lines);
+                    writeMetrics(metricsFile, metrics);
+                    return;
+                }
+            } else {
+                OpenAPIParser openApiParser = new OpenAPIParser();
+                ParseOptions parseOptions = new ParseOptions();
+                // The references are resolved by the validator, only when it walks them
+                parseOptions.setResolve(false);
+
+                long start = System.nanoTime();
+                SwaggerParseResult parserResult = openApiParser.readLocation(specFile.getPath(), null, parseOptions);
+                timed(metrics, ValidationPhase.PARSING, start);
+                io.swagger.v3.oas.models.OpenAPI swaggerOpenAPI = parserResult.getOpenAPI();
+                if (swaggerOpenAPI == null) {
+                    lines.add(UNREADABLE);
+                    if (parserResult.getMessages() != null) {
+                        lines.addAll(parserResult.getMessages());
+                    }
+                    writeResult(lines);
+                    writeMetrics(metricsFile, metrics);
+                    return;
+                }
+
+                OpenApiSpecStyleValidator openApiSpecStyleValidator = new OpenApiSpecStyleValidator(swaggerOpenAPI, new RefResolver(specFile.getPath(), ParsedDocumentCache.shared())).setListener(metrics);
+                openApiSpecStyleValidator.validate(parameters, validationErrors::add);
+            }
+            errors = validationErrors;
+            if (cacheKey != null) {
+                try {
+                    cache.put(cacheKey, errors);
+                } catch (IOException e) {
+                    LOGGER.warn(String.format("The validation result could not be cached: %s", e.getMessage()));
+                }
+            }
+        } else if (metrics != null) {
+            errors.forEach(metrics::errorEmitted);
+        }
+
+        lines.add(errors.isEmpty() ? VALID : INVALID);
+        for (StyleError error : errors) {
+            lines.add(error.toString());
+        }
+        writeResult(lines);
+        writeMetrics(metricsFile, metrics);
+    }
+
+    private static void timed(ValidationMetrics metrics, ValidationPhase phase, long start) {
+        if (metrics != null) {
+            metrics.phaseTimed(phase, System.nanoTime() - start);
+        }
+    }
+
+    private static String computeCacheKey(ValidationResultCache cache, File specFile, ValidatorParameters parameters, boolean streaming) {
+        if (cache == null) {
+            return null;
+        }
+        try {
+            return cache.computeKey(specFile.toPath(), parameters, streaming);
+        } catch (IOException e) {
+            LOGGER.warn(String.format("The validation result cache is not used: %s", e.getMessage()));
+            return null;
+        }
+    }
+
+    private static void writeMetrics(File metricsFile, ValidationMetrics metrics) {
+        if (metricsFile == null) {
+            return;
+        }
+        try (ObjectOutputStream output = new ObjectOutputStream(Files.newOutputStream(metricsFile.toPath()))) {
+            output.writeObject(metrics);
+        } catch (IOException e) {
+            throw new GradleException(String.format("Unable to write the measures of the validation to %s", metricsFile), e);
+        }
+    }
+
+    private void writeResult(List<String> lines) {
+        File resultFile = getParameters().getResultFile().get().getAsFile();
+        try {
+            Files.write(resultFile.toPath(), lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new GradleException(String.format("Unable to write the validation result to %s", resultFile), e);
+        }
+    }
+}
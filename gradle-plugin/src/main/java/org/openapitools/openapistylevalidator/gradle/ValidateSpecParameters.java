@@ -0,0 +1,34 @@
+package org.openapitools.openapistylevalidator.gradle;
+
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.workers.WorkParameters;
+import org.openapitools.openapistylevalidator.ValidatorParameters;
+
+public interface ValidateSpecParameters extends WorkParameters {
+
+    RegularFileProperty getSpecFile();
+
+    Property<ValidatorParameters> getValidatorParameters();
+
+    /**
+     * Optional, see {@link OpenAPIStyleValidatorTask#setCacheDirectory(String)}.
+     */
+    Property<String> getCacheDirectory();
+
+    /**
+     * See {@link OpenAPIStyleValidatorTask#setStreaming(boolean)}.
+     */
+    Property<Boolean> getStreaming();
+
+    /**
+     * The file where the result of the validation is written, see {@link ValidateSpecAction}.
+     */
+    RegularFileProperty getResultFile();
+
+    /**
+     * Optional, the file where the {@link org.openapitools.openapistylevalidator.ValidationMetrics} of the validation
+     * are serialized, when they are collected.
+     */
+    RegularFileProperty getMetricsFile();
+}
@@ -0,0 +1,36 @@
+package org.openapitools.openapistylevalidator;
+
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A check which runs in a validation: the types of the nodes it needs, and the factory of its visitor, which is created
+ * for each walk of the validation.
+ */
+final class EnabledCheck {
+
+    private final ValidationPhase phase;
+    private final Set<NodeType> nodeTypes;
+    private final Function<ErrorAggregator, OpenApiVisitor> visitorFactory;
+
+    /**
+     * @param phase the phase in which the time spent in the check is counted
+     */
+    EnabledCheck(ValidationPhase phase, Set<NodeType> nodeTypes, Function<ErrorAggregator, OpenApiVisitor> visitorFactory) {
+        this.phase = phase;
+        this.nodeTypes = nodeTypes;
+        this.visitorFactory = visitorFactory;
+    }
+
+    ValidationPhase getPhase() {
+        return phase;
+    }
+
+    Set<NodeType> getNodeTypes() {
+        return nodeTypes;
+    }
+
+    OpenApiVisitor createVisitor(ErrorAggregator errorAggregator) {
+        return visitorFactory.apply(errorAggregator);
+    }
+}
@@ -4,14 +4,90 @@ import org.eclipse.microprofile.openapi.models.PathItem;
 import org.openapitools.openapistylevalidator.styleerror.*;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
-class ErrorAggregator {
+/**
+ * Collects the errors of the checks. It is also the {@link StyleErrorSink} given to the {@link StyleRule}.
+ */
+class ErrorAggregator implements StyleErrorSink {
+
+    private static final Comparator<StyleError> BY_SECTION = Comparator.comparing(StyleError::getStyleCheckSection);
 
     private final List<StyleError> errorList = new ArrayList<>();
+    private final StyleErrorSink sink;
+    private final int maxErrors;
+    private int errorCount;
+
+    /**
+     * Creates an aggregator that keeps the errors, so that they can be read with {@link #getErrorList()}.
+     */
+    ErrorAggregator() {
+        this(0);
+    }
+
+    /**
+     * Creates an aggregator that keeps at most {@code maxErrors} errors (all of them when it is 0).
+     */
+    ErrorAggregator(int maxErrors) {
+        this.sink = errorList::add;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Creates an aggregator that sends every error to the sink as soon as it is logged, without keeping it.
+     */
+    ErrorAggregator(StyleErrorSink sink) {
+        this(sink, 0);
+    }
+
+    /**
+     * Creates an aggregator that sends at most {@code maxErrors} errors (all of them when it is 0) to the sink.
+     */
+    ErrorAggregator(StyleErrorSink sink, int maxErrors) {
+        this.sink = sink;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * @throws ErrorBudgetExhausted once the maximum number of errors has been logged, to stop the walk
+     */
+    private void add(StyleError error) {
+        sink.accept(error);
+        errorCount++;
+        if (isFull()) {
+            throw ErrorBudgetExhausted.INSTANCE;
+        }
+    }
+
+    /**
+     * @return whether the maximum number of errors has been logged
+     */
+    boolean isFull() {
+        return maxErrors > 0 && errorCount >= maxErrors;
+    }
+
+    @Override
+    public void accept(StyleError error) {
+        add(error);
+    }
+
+    /**
+     * Logs all the errors kept by the other aggregator, in the order in which they were logged, until the maximum
+     * number of errors is reached.
+     */
+    void merge(ErrorAggregator other) {
+        for (StyleError error : other.errorList) {
+            if (isFull()) {
+                return;
+            }
+            sink.accept(error);
+            errorCount++;
+        }
+    }
 
     void logMissingOrEmptyAttribute(StyleError.StyleCheckSection styleCheckSection, String fieldNames) {
-        errorList.add(new StyleError(styleCheckSection,
+        add(new StyleError(styleCheckSection,
                 fieldNames,
                 "Should be present and not empty"));
     }
@@ -29,43 +105,49 @@ class ErrorAggregator {
         }
 
         if (!hasMinimumInfo) {
-            errorList.add(new GenericStyleError(styleCheckSection,
+            add(new GenericStyleError(styleCheckSection,
                     parentObjectName,
                     fieldNames,
                     "At least one field should be present and not empty"));
         }
     }
 
+    /**
+     * @return the kept errors ordered section by section, regardless of the order in which the nodes of the
+     * specification were visited
+     */
     List<StyleError> getErrorList() {
-        return errorList;
+        List<StyleError> sortedErrorList = new ArrayList<>(errorList);
+        sortedErrorList.sort(BY_SECTION);
+        return sortedErrorList;
     }
 
     void logMissingOrEmptyOperationAttribute(String path, PathItem.HttpMethod method, String field) {
-        errorList.add(new OperationStyleError(field,
+        add(new OperationStyleError(field,
                 "This field should be present and not empty",
                 path, method));
     }
 
     void logMissingOrEmptyOperationCollection(String path, PathItem.HttpMethod method, String field) {
-        errorList.add(new OperationStyleError(field,
+        add(new OperationStyleError(field,
                 "The collection should be present and there should be at least one item in it",
                 path, method));
     }
 
     void logMissingOrEmptyModelAttribute(String modelName, String propertyName, String field) {
-        errorList.add(new ModelStyleError(
+        add(new ModelStyleError(
                 field,
                 "This field should be present and not empty",
                 modelName, propertyName));
     }
 
-    void logOperationBadNaming(String variableName, String variableType, String neededNamingStrategy, String path, PathItem.HttpMethod httpMethod) {
-        errorList.add(new OperationNamingStyleError(StyleError.StyleCheckSection.Naming, variableName,
-                String.format("%s should be in %s", variableType, neededNamingStrategy), path, httpMethod));
+    void logOperationBadNaming(String variableName, NamedElement namedElement, ValidatorParameters.NamingConvention neededNamingConvention, String path, PathItem.HttpMethod httpMethod) {
+        add(new OperationNamingStyleError(StyleError.StyleCheckSection.Naming, variableName,
+                namedElement.getBadNamingDescription(neededNamingConvention), path, httpMethod));
     }
 
-    void logModelBadNaming(String variableName, String variableType, String neededNamingStrategy, String model) {
-        errorList.add(new ModelNamingStyleError(StyleError.StyleCheckSection.Naming, variableName,
-                String.format("%s should be in %s", variableType, neededNamingStrategy), model));
+    void logModelBadNaming(String variableName, NamedElement namedElement, ValidatorParameters.NamingConvention neededNamingConvention, String model) {
+        add(new ModelNamingStyleError(StyleError.StyleCheckSection.Naming, variableName,
+                namedElement.getBadNamingDescription(neededNamingConvention), model));
     }
 }
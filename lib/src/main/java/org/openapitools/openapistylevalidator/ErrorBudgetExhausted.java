@@ -0,0 +1,15 @@
+package org.openapitools.openapistylevalidator;
+
+/**
+ * Thrown by an {@link ErrorAggregator} when it has logged as many errors as its budget allows, to stop the walk of the
+ * spec wherever it is. It is caught by the one that started the walk.
+ */
+final class ErrorBudgetExhausted extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    static final ErrorBudgetExhausted INSTANCE = new ErrorBudgetExhausted();
+
+    private ErrorBudgetExhausted() {
+        super("The error budget is exhausted", null, false, false);
+    }
+}
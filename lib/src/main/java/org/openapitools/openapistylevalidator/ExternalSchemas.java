@@ -0,0 +1,299 @@
+package org.openapitools.openapistylevalidator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Finds the schemas defined in other documents that a spec references, which the eager resolution of swagger-parser
+ * adds to the component schemas, so that they are validated as models too.
+ * <p>
+ * They get the names the parser gives them (the last part of the reference, followed by {@code _1}, {@code _2}...
+ * when it is already used). The schemas they reference are found as well, but the documents which are not referenced
+ * (or only the parts of them which are not) are not walked.
+ */
+class ExternalSchemas {
+
+    private static final List<String> SCHEMA_LISTS = Arrays.asList("allOf", "anyOf", "oneOf");
+    private static final List<String> SKIPPED_FIELDS = Arrays.asList("example", "examples", "links");
+
+    private final RefResolver refResolver;
+    private final URI specLocation;
+    private final Set<String> names = new HashSet<>();
+    private final Map<URI, String> namesByTarget = new HashMap<>();
+    private final Set<URI> followedTargets = new HashSet<>();
+    private final Map<String, JsonNode> schemas = new LinkedHashMap<>();
+
+    private ExternalSchemas(RefResolver refResolver) {
+        this.refResolver = refResolver;
+        this.specLocation = RefResolver.documentOf(refResolver.getSpecLocation());
+    }
+
+    /**
+     * @return the schemas by name, in the order in which they are found: from the paths, then from the components
+     */
+    static Map<String, JsonNode> find(OpenAPI openAPI, RefResolver refResolver) {
+        ExternalSchemas externalSchemas = new ExternalSchemas(refResolver);
+        Components components = openAPI.getComponents();
+        if (components != null && components.getSchemas() != null) {
+            externalSchemas.names.addAll(components.getSchemas().keySet());
+        }
+        if (openAPI.getPaths() != null) {
+            openAPI.getPaths().values().forEach(externalSchemas::findInPathItem);
+        }
+        if (components != null) {
+            externalSchemas.findInComponents(components);
+        }
+        return externalSchemas.schemas;
+    }
+
+    private void findInComponents(Components components) {
+        forEach(components.getSchemas(), this::findInSchema);
+        forEach(components.getResponses(), this::findInResponse);
+        forEach(components.getParameters(), this::findInParameter);
+        forEach(components.getRequestBodies(), this::findInRequestBody);
+        forEach(components.getHeaders(), this::findInHeader);
+        forEach(components.getCallbacks(), this::findInCallback);
+    }
+
+    private static <T> void forEach(Map<String, T> map, Consumer<T> action) {
+        if (map != null) {
+            map.values().forEach(action);
+        }
+    }
+
+    private void findInPathItem(PathItem pathItem) {
+        if (pathItem.get$ref() != null) {
+            follow(pathItem.get$ref());
+            return;
+        }
+        findInParameters(pathItem.getParameters());
+        for (Operation operation : pathItem.readOperations()) {
+            findInParameters(operation.getParameters());
+            if (operation.getRequestBody() != null) {
+                findInRequestBody(operation.getRequestBody());
+            }
+            if (operation.getResponses() != null) {
+                operation.getResponses().values().forEach(this::findInResponse);
+            }
+            forEach(operation.getCallbacks(), this::findInCallback);
+        }
+    }
+
+    private void findInCallback(Callback callback) {
+        if (callback.get$ref() != null) {
+            follow(callback.get$ref());
+            return;
+        }
+        callback.values().forEach(this::findInPathItem);
+    }
+
+    private void findInParameters(List<Parameter> parameters) {
+        if (parameters != null) {
+            parameters.forEach(this::findInParameter);
+        }
+    }
+
+    private void findInParameter(Parameter parameter) {
+        if (parameter.get$ref() != null) {
+            follow(parameter.get$ref());
+            return;
+        }
+        findInSchema(parameter.getSchema());
+        findInContent(parameter.getContent());
+    }
+
+    private void findInRequestBody(RequestBody requestBody) {
+        if (requestBody.get$ref() != null) {
+            follow(requestBody.get$ref());
+            return;
+        }
+        findInContent(requestBody.getContent());
+    }
+
+    private void findInResponse(ApiResponse response) {
+        if (response.get$ref() != null) {
+            follow(response.get$ref());
+            return;
+        }
+        findInContent(response.getContent());
+        forEach(response.getHeaders(), this::findInHeader);
+    }
+
+    private void findInHeader(Header header) {
+        if (header.get$ref() != null) {
+            follow(header.get$ref());
+            return;
+        }
+        findInSchema(header.getSchema());
+        findInContent(header.getContent());
+    }
+
+    private void findInContent(Content content) {
+        if (content != null) {
+            for (MediaType mediaType : content.values()) {
+                findInSchema(mediaType.getSchema());
+            }
+        }
+    }
+
+    private void findInSchema(Schema<?> schema) {
+        if (schema == null) {
+            return;
+        }
+        if (schema.get$ref() != null) {
+            // The schemas of the spec are walked anyway
+            if (!schema.get$ref().startsWith("#")) {
+                addSchema(specLocation, schema.get$ref());
+            }
+            return;
+        }
+        forEach(schema.getProperties(), this::findInSchema);
+        if (schema instanceof ArraySchema) {
+            findInSchema(((ArraySchema) schema).getItems());
+        }
+        if (schema instanceof ComposedSchema) {
+            ComposedSchema composedSchema = (ComposedSchema) schema;
+            findInSchemas(composedSchema.getAllOf());
+            findInSchemas(composedSchema.getAnyOf());
+            findInSchemas(composedSchema.getOneOf());
+        }
+        if (schema.getAdditionalProperties() instanceof Schema) {
+            findInSchema((Schema<?>) schema.getAdditionalProperties());
+        }
+        findInSchema(schema.getNot());
+    }
+
+    private void findInSchemas(Collection<Schema> schemas) {
+        if (schemas != null) {
+            schemas.forEach(this::findInSchema);
+        }
+    }
+
+    /**
+     * Follows a reference to something else than a schema (a path item, a response...) defined in another document,
+     * to find the schemas it references.
+     */
+    private void follow(String ref) {
+        if (!ref.startsWith("#")) {
+            follow(specLocation, ref);
+        }
+    }
+
+    private void follow(URI document, String ref) {
+        URI target = RefResolver.resolveUri(document, ref);
+        if (target == null || !followedTargets.add(target)) {
+            return;
+        }
+        findInNode(RefResolver.documentOf(target), refResolver.resolve(target));
+    }
+
+    /**
+     * Walks a node of another document which is not a schema, where the schemas are the values of {@code schema}.
+     */
+    private void findInNode(URI document, JsonNode node) {
+        if (node.isArray()) {
+            node.forEach(element -> findInNode(document, element));
+        } else if (node.isObject()) {
+            JsonNode ref = node.get("$ref");
+            if (ref != null && ref.isTextual()) {
+                follow(document, ref.asText());
+                return;
+            }
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if ("schema".equals(field.getKey())) {
+                    findInSchemaNode(document, field.getValue());
+                } else if (!SKIPPED_FIELDS.contains(field.getKey())) {
+                    findInNode(document, field.getValue());
+                }
+            }
+        }
+    }
+
+    private void findInSchemaNode(URI document, JsonNode schema) {
+        if (!schema.isObject()) {
+            return;
+        }
+        JsonNode ref = schema.get("$ref");
+        if (ref != null && ref.isTextual()) {
+            addSchema(document, ref.asText());
+            return;
+        }
+        JsonNode properties = schema.path("properties");
+        if (properties.isObject()) {
+            properties.forEach(property -> findInSchemaNode(document, property));
+        }
+        findInSchemaNode(document, schema.path("items"));
+        for (String schemaList : SCHEMA_LISTS) {
+            schema.path(schemaList).forEach(element -> findInSchemaNode(document, element));
+        }
+        findInSchemaNode(document, schema.path("additionalProperties"));
+        findInSchemaNode(document, schema.path("not"));
+    }
+
+    private void addSchema(URI document, String ref) {
+        URI target = RefResolver.resolveUri(document, ref);
+        if (target == null || namesByTarget.containsKey(target)) {
+            return;
+        }
+        URI targetDocument = RefResolver.documentOf(target);
+        JsonNode schema = refResolver.resolve(target);
+        if (targetDocument.equals(specLocation) || schema.isMissingNode()) {
+            namesByTarget.put(target, null);
+            return;
+        }
+        String name = uniqueName(definitionName(ref));
+        namesByTarget.put(target, name);
+        names.add(name);
+        schemas.put(name, schema);
+        findInSchemaNode(targetDocument, schema);
+    }
+
+    /**
+     * @return the name swagger-parser gives to the schema: the last part of the fragment, or the name of the file
+     * without its extension
+     */
+    private static String definitionName(String ref) {
+        String[] refParts = ref.split("#/");
+        if (refParts.length == 2) {
+            String[] pointer = refParts[1].split("/");
+            return pointer[pointer.length - 1];
+        }
+        String[] filePath = refParts[0].split("/");
+        return filePath[filePath.length - 1].split("\\.")[0];
+    }
+
+    private String uniqueName(String name) {
+        String uniqueName = name;
+        for (int i = 1; names.contains(uniqueName); i++) {
+            uniqueName = name + "_" + i;
+        }
+        return uniqueName;
+    }
+}
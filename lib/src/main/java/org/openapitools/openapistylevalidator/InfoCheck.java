@@ -0,0 +1,64 @@
+package org.openapitools.openapistylevalidator;
+
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+class InfoCheck implements OpenApiVisitor {
+
+    static final Set<NodeType> NODE_TYPES = Collections.unmodifiableSet(EnumSet.of(NodeType.INFO));
+
+    private final ValidatorParameters parameters;
+    private final ErrorAggregator errorAggregator;
+
+    InfoCheck(ValidatorParameters parameters, ErrorAggregator errorAggregator) {
+        this.parameters = parameters;
+        this.errorAggregator = errorAggregator;
+    }
+
+    /**
+     * @return whether at least one field of the info section is checked
+     */
+    static boolean isEnabled(ValidatorParameters parameters) {
+        return parameters.isValidateInfoLicense() || parameters.isValidateInfoDescription() || parameters.isValidateInfoContact();
+    }
+
+    @Override
+    public void visitInfo(InfoNode info) {
+        InfoNode.License license = info.getLicense();
+        if (parameters.isValidateInfoLicense()) {
+            if (license != null) {
+                List<Boolean> infoPresence = new ArrayList<>();
+                infoPresence.add(license.getName() != null && !license.getName().isEmpty());
+                infoPresence.add(license.getUrl() != null && !license.getUrl().isEmpty());
+                errorAggregator.validateMinimumInfo(infoPresence, StyleError.StyleCheckSection.APIInfo, "license", "name|url");
+            } else {
+                errorAggregator.logMissingOrEmptyAttribute(StyleError.StyleCheckSection.APIInfo, "license");
+            }
+        }
+
+        if (parameters.isValidateInfoDescription()) {
+            String description = info.getDescription();
+            if (description == null || description.isEmpty()) {
+                errorAggregator.logMissingOrEmptyAttribute(StyleError.StyleCheckSection.APIInfo, "description");
+            }
+        }
+
+        if (parameters.isValidateInfoContact()) {
+            InfoNode.Contact contact = info.getContact();
+            if (contact != null) {
+                List<Boolean> infoPresence = new ArrayList<>();
+                infoPresence.add(contact.getName() != null && !contact.getName().isEmpty());
+                infoPresence.add(contact.getUrl() != null && !contact.getUrl().isEmpty());
+                infoPresence.add(contact.getEmail() != null && !contact.getEmail().isEmpty());
+                errorAggregator.validateMinimumInfo(infoPresence, StyleError.StyleCheckSection.APIInfo, "contact", "name|url|email");
+            } else {
+                errorAggregator.logMissingOrEmptyAttribute(StyleError.StyleCheckSection.APIInfo, "contact");
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.openapitools.openapistylevalidator;
+
+/**
+ * The fields of the info section that the checks read, whatever the library of the model.
+ */
+public final class InfoNode {
+
+    private final String description;
+    private final License license;
+    private final Contact contact;
+
+    /**
+     * @param license the license section, or {@code null} when it is missing
+     * @param contact the contact section, or {@code null} when it is missing
+     */
+    InfoNode(String description, License license, Contact contact) {
+        this.description = description;
+        this.license = license;
+        this.contact = contact;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public License getLicense() {
+        return license;
+    }
+
+    public Contact getContact() {
+        return contact;
+    }
+
+    public static final class License {
+
+        private final String name;
+        private final String url;
+
+        License(String name, String url) {
+            this.name = name;
+            this.url = url;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+    }
+
+    public static final class Contact {
+
+        private final String name;
+        private final String url;
+        private final String email;
+
+        Contact(String name, String url, String email) {
+            this.name = name;
+            this.url = url;
+            this.email = email;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.openapitools.openapistylevalidator;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.info.Contact;
+import org.eclipse.microprofile.openapi.models.info.Info;
+import org.eclipse.microprofile.openapi.models.info.License;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * An {@link OpenApiModel} of the MicroProfile OpenAPI interfaces.
+ */
+class MicroProfileModel implements OpenApiModel {
+
+    private final OpenAPI openAPI;
+
+    MicroProfileModel(OpenAPI openAPI) {
+        this.openAPI = openAPI;
+    }
+
+    @Override
+    public List<Consumer<OpenApiVisitor>> split(Set<NodeType> nodeTypes) {
+        return split(nodeTypes, schemaName -> true, path -> true);
+    }
+
+    @Override
+    public List<Consumer<OpenApiVisitor>> split(Set<NodeType> nodeTypes, Predicate<String> schemaNames, Predicate<String> paths) {
+        List<Consumer<OpenApiVisitor>> nodes = new ArrayList<>();
+        Info info = openAPI.getInfo();
+        if (info != null && nodeTypes.contains(NodeType.INFO)) {
+            nodes.add(visitor -> visitor.visitInfo(toInfoNode(info)));
+        }
+
+        if (openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null
+                && NodeType.containsAny(nodeTypes, NodeType.SCHEMA_NODES)) {
+            for (Map.Entry<String, Schema> entry : openAPI.getComponents().getSchemas().entrySet()) {
+                if (schemaNames.test(entry.getKey())) {
+                    nodes.add(visitor -> walkSchema(visitor, nodeTypes, entry.getKey(), entry.getValue()));
+                }
+            }
+        }
+
+        if (openAPI.getPaths() != null && openAPI.getPaths().getPathItems() != null
+                && NodeType.containsAny(nodeTypes, NodeType.PATH_ITEM_NODES)) {
+            for (Map.Entry<String, PathItem> entry : openAPI.getPaths().getPathItems().entrySet()) {
+                if (paths.test(entry.getKey())) {
+                    nodes.add(visitor -> walkPathItem(visitor, nodeTypes, entry.getKey(), entry.getValue()));
+                }
+            }
+        }
+        return nodes;
+    }
+
+    private static InfoNode toInfoNode(Info info) {
+        License license = info.getLicense();
+        Contact contact = info.getContact();
+        return new InfoNode(info.getDescription(),
+                license == null ? null : new InfoNode.License(license.getName(), license.getUrl()),
+                contact == null ? null : new InfoNode.Contact(contact.getName(), contact.getUrl(), contact.getEmail()));
+    }
+
+    private static void walkSchema(OpenApiVisitor visitor, Set<NodeType> nodeTypes, String schemaName, Schema schema) {
+        if (schema == null) {
+            return;
+        }
+        visitor.visitSchema(schemaName);
+        if (schema.getProperties() != null && nodeTypes.contains(NodeType.SCHEMA_PROPERTY)) {
+            for (Map.Entry<String, Schema> entry : schema.getProperties().entrySet()) {
+                Schema property = entry.getValue();
+                visitor.visitSchemaProperty(schemaName, entry.getKey(), new PropertyNode(property.getRef(), property.getExample() != null));
+            }
+        }
+    }
+
+    private static void walkPathItem(OpenApiVisitor visitor, Set<NodeType> nodeTypes, String path, PathItem pathItem) {
+        if (pathItem == null) {
+            return;
+        }
+        Map<PathItem.HttpMethod, Operation> operations = pathItem.getOperations();
+        if (operations != null) {
+            for (Map.Entry<PathItem.HttpMethod, Operation> entry : operations.entrySet()) {
+                walkOperation(visitor, nodeTypes, path, entry.getKey(), entry.getValue());
+            }
+        }
+        visitor.visitPathItem(path);
+    }
+
+    private static void walkOperation(OpenApiVisitor visitor, Set<NodeType> nodeTypes, String path, PathItem.HttpMethod method, Operation operation) {
+        if (operation == null) {
+            return;
+        }
+        if (nodeTypes.contains(NodeType.OPERATION)) {
+            visitor.visitOperation(path, method, new OperationNode(operation.getOperationId(), operation.getDescription(),
+                    operation.getSummary(), operation.getTags()));
+        }
+        if (operation.getParameters() != null && nodeTypes.contains(NodeType.PARAMETER)) {
+            for (Parameter parameter : operation.getParameters()) {
+                visitor.visitParameter(path, method, new ParameterNode(parameter.getName(), parameter.getIn(), parameter.getRef()));
+            }
+        }
+    }
+}
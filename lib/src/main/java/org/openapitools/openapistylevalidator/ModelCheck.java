@@ -0,0 +1,39 @@
+package org.openapitools.openapistylevalidator;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+class ModelCheck implements OpenApiVisitor {
+
+    static final Set<NodeType> NODE_TYPES = Collections.unmodifiableSet(EnumSet.of(NodeType.SCHEMA_PROPERTY));
+
+    private final ValidatorParameters parameters;
+    private final ErrorAggregator errorAggregator;
+
+    ModelCheck(ValidatorParameters parameters, ErrorAggregator errorAggregator) {
+        this.parameters = parameters;
+        this.errorAggregator = errorAggregator;
+    }
+
+    /**
+     * @return whether the properties of the models are checked
+     */
+    static boolean isEnabled(ValidatorParameters parameters) {
+        return parameters.isValidateModelPropertiesExample();
+    }
+
+    @Override
+    public void visitSchemaProperty(String schemaName, String propertyName, PropertyNode property) {
+        if (parameters.isValidateModelPropertiesExample()) {
+            if (property.getRef() == null && !property.hasExample()) {
+                errorAggregator.logMissingOrEmptyModelAttribute(schemaName, propertyName, "example");
+            }
+        }
+
+        /*
+        if (parameters.isValidateModelNoLocalDef()) {
+            //TODO:
+        }*/
+    }
+}
@@ -0,0 +1,34 @@
+package org.openapitools.openapistylevalidator;
+
+import org.openapitools.openapistylevalidator.ValidatorParameters.NamingConvention;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The kinds of names checked by {@link NamingCheck}.
+ * <p>
+ * The description of their naming errors is formatted once for each naming convention, so that all the naming errors
+ * of a spec share the same few strings instead of holding a copy each.
+ */
+enum NamedElement {
+    PATH("path"),
+    PARAMETER("parameter"),
+    PROPERTY("property");
+
+    private final Map<NamingConvention, String> badNamingDescriptions = new EnumMap<>(NamingConvention.class);
+
+    NamedElement(String designation) {
+        for (NamingConvention namingConvention : NamingConvention.values()) {
+            badNamingDescriptions.put(namingConvention,
+                    String.format("%s should be in %s", designation, namingConvention.getDesignation()));
+        }
+    }
+
+    /**
+     * @return the description of the error of a name which does not follow the naming convention
+     */
+    String getBadNamingDescription(NamingConvention namingConvention) {
+        return badNamingDescriptions.get(namingConvention);
+    }
+}
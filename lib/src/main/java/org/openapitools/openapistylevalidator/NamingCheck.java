@@ -0,0 +1,135 @@
+package org.openapitools.openapistylevalidator;
+
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+class NamingCheck implements OpenApiVisitor {
+
+    static final Set<NodeType> NODE_TYPES = Collections.unmodifiableSet(EnumSet.of(NodeType.SCHEMA_PROPERTY,
+            NodeType.PARAMETER, NodeType.PATH_ITEM));
+
+    private final ValidatorParameters parameters;
+    private final ErrorAggregator errorAggregator;
+    private final NamingValidator namingValidator;
+    private final NamingVerdictCache namingVerdictCache;
+    private final Map<String, PathSegment> pathSegments;
+    private final ValidationListener listener;
+
+    /**
+     * @param namingVerdictCache remembers the checked names, or {@code null}
+     * @param pathSegments the literal path segments already checked in the spec, shared by the naming checks of a
+     *                     validation so that each distinct segment is checked once
+     * @param listener is told about every checked name, or {@code null}
+     */
+    NamingCheck(ValidatorParameters parameters, ErrorAggregator errorAggregator, NamingValidator namingValidator,
+                NamingVerdictCache namingVerdictCache, Map<String, PathSegment> pathSegments,
+                ValidationListener listener) {
+        this.parameters = parameters;
+        this.errorAggregator = errorAggregator;
+        this.namingValidator = namingValidator;
+        this.namingVerdictCache = namingVerdictCache;
+        this.pathSegments = pathSegments;
+        this.listener = listener;
+    }
+
+    /**
+     * @return whether the names are checked
+     */
+    static boolean isEnabled(ValidatorParameters parameters) {
+        return parameters.isValidateNaming();
+    }
+
+    private boolean isNamingValid(String name, ValidatorParameters.NamingConvention namingConvention) {
+        boolean isValid = namingVerdictCache == null
+                ? namingValidator.isNamingValid(name, namingConvention)
+                : namingVerdictCache.isNamingValid(name, namingConvention, namingValidator);
+        if (listener != null) {
+            listener.nameChecked(namingConvention, isValid);
+        }
+        return isValid;
+    }
+
+    @Override
+    public void visitSchemaProperty(String schemaName, String propertyName, PropertyNode property) {
+        boolean isValid = isNamingValid(propertyName, parameters.getPropertyNamingConvention());
+        if (!isValid) {
+            errorAggregator.logModelBadNaming(propertyName,
+                    NamedElement.PROPERTY,
+                    parameters.getPropertyNamingConvention(),
+                    schemaName);
+        }
+    }
+
+    @Override
+    public void visitParameter(String path, PathItem.HttpMethod method, ParameterNode opParam) {
+        boolean shouldValidate;
+        if (opParam.getIn() == Parameter.In.HEADER && opParam.getName().startsWith("X-")) {
+            shouldValidate = !parameters.isIgnoreHeaderXNaming();
+        } else {
+            shouldValidate = true;
+        }
+
+        if (shouldValidate && opParam.getRef() == null) {
+            boolean isValid = isNamingValid(opParam.getName(), parameters.getParameterNamingConvention());
+            if (!isValid) {
+                errorAggregator.logOperationBadNaming(opParam.getName(),
+                        NamedElement.PARAMETER,
+                        parameters.getParameterNamingConvention(),
+                        path,
+                        method);
+            }
+        }
+    }
+
+    @Override
+    public void visitPathItem(String path) {
+        int start = 0;
+        while (start < path.length()) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            if (end > start && !(path.charAt(start) == '{' && path.charAt(end - 1) == '}')) {
+                PathSegment segment = getPathSegment(path.substring(start, end));
+                if (!segment.valid) {
+                    errorAggregator.logOperationBadNaming(segment.name,
+                            NamedElement.PATH,
+                            parameters.getPathNamingConvention(),
+                            path,
+                            null);
+                }
+            }
+            start = end + 1;
+        }
+    }
+
+    private PathSegment getPathSegment(String name) {
+        PathSegment segment = pathSegments.get(name);
+        if (segment == null) {
+            segment = new PathSegment(name, isNamingValid(name, parameters.getPathNamingConvention()));
+            PathSegment checkedSegment = pathSegments.putIfAbsent(name, segment);
+            if (checkedSegment != null) {
+                segment = checkedSegment;
+            }
+        }
+        return segment;
+    }
+
+    /**
+     * A literal path segment and its verdict. The errors of all the paths containing the segment share its name.
+     */
+    static final class PathSegment {
+        final String name;
+        final boolean valid;
+
+        PathSegment(String name, boolean valid) {
+            this.name = name;
+            this.valid = valid;
+        }
+    }
+}
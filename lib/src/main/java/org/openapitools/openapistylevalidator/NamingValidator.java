@@ -1,44 +1,79 @@
 package org.openapitools.openapistylevalidator;
 
+/**
+ * Checks names against the supported {@link ValidatorParameters.NamingConvention}s.
+ * <p>
+ * Each convention is checked by a single pass over the characters of the name, so no regular expression is compiled
+ * and nothing is allocated per checked name.
+ */
 class NamingValidator {
 
-    private static final String REGEX_LOWER_CASE_ALPHA_NUMERIC_ONLY = "[a-z0-9]+";
-    private static final String REGEX_CAMEL_CASE = "([a-z0-9]+[A-Z]+\\w+)+";
-
     private boolean isUnderscoreCase(String variableName) {
-        return isSeparatorCaseValid(variableName, "_");
+        return isSeparatorCaseValid(variableName, '_');
     }
 
+    /**
+     * Equivalent to matching {@code [a-z0-9]+} or {@code ([a-z0-9]+[A-Z]+\w+)+}.
+     */
     private boolean isCamelCase(String variableName) {
-        return variableName.matches(REGEX_LOWER_CASE_ALPHA_NUMERIC_ONLY) || variableName.matches(REGEX_CAMEL_CASE);
+        int length = variableName.length();
+        int i = 0;
+        while (i < length && isLowerCaseAlphaNumeric(variableName.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return length > 0;
+        }
+        if (i == 0 || !isUpperCaseAlpha(variableName.charAt(i)) || i + 1 == length) {
+            return false;
+        }
+        for (int j = i + 1; j < length; j++) {
+            if (!isWordCharacter(variableName.charAt(j))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private boolean isHyphenCase(String variableName) {
-        return isSeparatorCaseValid(variableName, "-");
+        return isSeparatorCaseValid(variableName, '-');
     }
 
-    private boolean isSeparatorCaseValid(String variableName, String separator) {
-        if (variableName.startsWith(separator) || variableName.endsWith(separator)) {
+    /**
+     * Accepts non-empty {@code [a-z0-9]+} tokens joined by single separators, without leading or trailing separator.
+     */
+    private boolean isSeparatorCaseValid(String variableName, char separator) {
+        int length = variableName.length();
+        if (length == 0) {
             return false;
         }
-
-        String[] tokens = variableName.split(separator);
-        int totalLength = 0;
-        for (String token : tokens) {
-            if (token.isEmpty()) {
-                return false;
-            }
-            totalLength += token.length();
-            if (!token.toLowerCase().equals(token)) {
-                return false;
-            }
-
-            if (!token.matches(REGEX_LOWER_CASE_ALPHA_NUMERIC_ONLY)) {
+        boolean previousIsSeparator = true;
+        for (int i = 0; i < length; i++) {
+            char c = variableName.charAt(i);
+            if (c == separator) {
+                if (previousIsSeparator) {
+                    return false;
+                }
+                previousIsSeparator = true;
+            } else if (isLowerCaseAlphaNumeric(c)) {
+                previousIsSeparator = false;
+            } else {
                 return false;
             }
         }
+        return !previousIsSeparator;
+    }
+
+    private static boolean isLowerCaseAlphaNumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isUpperCaseAlpha(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
 
-        return variableName.length() == (totalLength + tokens.length - 1);
+    private static boolean isWordCharacter(char c) {
+        return isLowerCaseAlphaNumeric(c) || isUpperCaseAlpha(c) || c == '_';
     }
 
     boolean isNamingValid(String name, ValidatorParameters.NamingConvention namingStrategy) {
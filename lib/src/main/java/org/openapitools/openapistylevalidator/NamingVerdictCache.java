@@ -0,0 +1,71 @@
+package org.openapitools.openapistylevalidator;
+
+import org.openapitools.openapistylevalidator.ValidatorParameters.NamingConvention;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers whether names follow a {@link NamingConvention}, so that a name which is used many times (such as
+ * {@code id} or {@code createdAt}) is checked once. It can be shared by concurrent validations, of a batch of specs
+ * for example (see {@link OpenApiSpecStyleValidator#setNamingVerdictCache(NamingVerdictCache)}).
+ * <p>
+ * The cache is bounded: once it holds its maximum number of verdicts, the other names are checked each time.
+ */
+public class NamingVerdictCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 100_000;
+
+    private final int maxEntries;
+    private final Map<NamingConvention, Map<String, Boolean>> verdicts = new EnumMap<>(NamingConvention.class);
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public NamingVerdictCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param maxEntries the maximum number of verdicts kept, for all the conventions
+     */
+    public NamingVerdictCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        for (NamingConvention namingConvention : NamingConvention.values()) {
+            verdicts.put(namingConvention, new ConcurrentHashMap<>());
+        }
+    }
+
+    boolean isNamingValid(String name, NamingConvention namingConvention, NamingValidator namingValidator) {
+        Map<String, Boolean> conventionVerdicts = verdicts.get(namingConvention);
+        Boolean verdict = conventionVerdicts.get(name);
+        if (verdict != null) {
+            hits.increment();
+            return verdict;
+        }
+        misses.increment();
+        boolean valid = namingValidator.isNamingValid(name, namingConvention);
+        if (size.get() < maxEntries && conventionVerdicts.putIfAbsent(name, valid) == null) {
+            size.incrementAndGet();
+        }
+        return valid;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of kept verdicts
+     */
+    public int size() {
+        return size.get();
+    }
+}
@@ -0,0 +1,45 @@
+package org.openapitools.openapistylevalidator;
+
+import org.eclipse.microprofile.openapi.models.PathItem;
+
+/**
+ * Reports every node sent by the {@link OpenApiWalker} to a {@link ValidationListener}.
+ */
+class NodeCounter implements OpenApiVisitor {
+
+    private final ValidationListener listener;
+
+    NodeCounter(ValidationListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void visitInfo(InfoNode info) {
+        listener.nodeVisited();
+    }
+
+    @Override
+    public void visitSchema(String schemaName) {
+        listener.nodeVisited();
+    }
+
+    @Override
+    public void visitSchemaProperty(String schemaName, String propertyName, PropertyNode property) {
+        listener.nodeVisited();
+    }
+
+    @Override
+    public void visitOperation(String path, PathItem.HttpMethod method, OperationNode operation) {
+        listener.nodeVisited();
+    }
+
+    @Override
+    public void visitParameter(String path, PathItem.HttpMethod method, ParameterNode parameter) {
+        listener.nodeVisited();
+    }
+
+    @Override
+    public void visitPathItem(String path) {
+        listener.nodeVisited();
+    }
+}
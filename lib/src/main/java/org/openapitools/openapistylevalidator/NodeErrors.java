@@ -0,0 +1,86 @@
+package org.openapitools.openapistylevalidator;
+
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the errors of a walk by the node which owns them: the info section, a schema or a path item.
+ * <p>
+ * It is the first visitor of every type of node sent by the {@link OpenApiWalker}, so it knows which node the
+ * checks are visiting when they log an error.
+ */
+class NodeErrors implements OpenApiVisitor, StyleErrorSink {
+
+    private final List<StyleError> infoErrors = new ArrayList<>();
+    private final Map<String, List<StyleError>> schemaErrors = new LinkedHashMap<>();
+    private final Map<String, List<StyleError>> pathErrors = new LinkedHashMap<>();
+    private Map<String, List<StyleError>> currentErrors;
+    private String currentNode;
+
+    @Override
+    public void accept(StyleError error) {
+        if (currentErrors == null) {
+            infoErrors.add(error);
+        } else {
+            currentErrors.computeIfAbsent(currentNode, node -> new ArrayList<>()).add(error);
+        }
+    }
+
+    List<StyleError> getInfoErrors() {
+        return infoErrors;
+    }
+
+    /**
+     * @return the errors of the schemas which have some, in the order of the walk
+     */
+    Map<String, List<StyleError>> getSchemaErrors() {
+        return schemaErrors;
+    }
+
+    /**
+     * @return the errors of the path items which have some, in the order of the walk
+     */
+    Map<String, List<StyleError>> getPathErrors() {
+        return pathErrors;
+    }
+
+    @Override
+    public void visitInfo(InfoNode info) {
+        currentErrors = null;
+    }
+
+    @Override
+    public void visitSchema(String schemaName) {
+        setCurrentNode(schemaErrors, schemaName);
+    }
+
+    @Override
+    public void visitSchemaProperty(String schemaName, String propertyName, PropertyNode property) {
+        setCurrentNode(schemaErrors, schemaName);
+    }
+
+    @Override
+    public void visitOperation(String path, PathItem.HttpMethod method, OperationNode operation) {
+        setCurrentNode(pathErrors, path);
+    }
+
+    @Override
+    public void visitParameter(String path, PathItem.HttpMethod method, ParameterNode parameter) {
+        setCurrentNode(pathErrors, path);
+    }
+
+    @Override
+    public void visitPathItem(String path) {
+        setCurrentNode(pathErrors, path);
+    }
+
+    private void setCurrentNode(Map<String, List<StyleError>> errors, String node) {
+        currentErrors = errors;
+        currentNode = node;
+    }
+}
@@ -0,0 +1,55 @@
+package org.openapitools.openapistylevalidator;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The types of the nodes sent to an {@link OpenApiVisitor}, one for each of its methods.
+ * <p>
+ * A validation only walks the types of nodes needed by its enabled checks: the sections of the spec which contain none
+ * of them are not walked at all.
+ */
+public enum NodeType {
+    /**
+     * {@link OpenApiVisitor#visitInfo(InfoNode)}
+     */
+    INFO,
+    /**
+     * {@link OpenApiVisitor#visitSchema(String)}
+     */
+    SCHEMA,
+    /**
+     * {@link OpenApiVisitor#visitSchemaProperty(String, String, PropertyNode)}
+     */
+    SCHEMA_PROPERTY,
+    /**
+     * {@link OpenApiVisitor#visitOperation(String, org.eclipse.microprofile.openapi.models.PathItem.HttpMethod, OperationNode)}
+     */
+    OPERATION,
+    /**
+     * {@link OpenApiVisitor#visitParameter(String, org.eclipse.microprofile.openapi.models.PathItem.HttpMethod, ParameterNode)}
+     */
+    PARAMETER,
+    /**
+     * {@link OpenApiVisitor#visitPathItem(String)}
+     */
+    PATH_ITEM;
+
+    /**
+     * The types of the nodes of a component schema.
+     */
+    static final Set<NodeType> SCHEMA_NODES = Collections.unmodifiableSet(EnumSet.of(SCHEMA, SCHEMA_PROPERTY));
+
+    /**
+     * The types of the nodes of a path item.
+     */
+    static final Set<NodeType> PATH_ITEM_NODES = Collections.unmodifiableSet(EnumSet.of(OPERATION, PARAMETER, PATH_ITEM));
+
+    /**
+     * @return whether the set contains at least one of the other types
+     */
+    static boolean containsAny(Set<NodeType> nodeTypes, Set<NodeType> others) {
+        return !Collections.disjoint(nodeTypes, others);
+    }
+}
@@ -0,0 +1,34 @@
+package org.openapitools.openapistylevalidator;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A parsed specification, in the model of the library that read it, which the checks can walk without converting it
+ * to another model first.
+ */
+interface OpenApiModel {
+
+    /**
+     * Splits the model into independent units of work (the info section, each component schema and each path item),
+     * in this order. Each unit sends its nodes to the given visitor, so the units can be walked by different walkers.
+     *
+     * @param nodeTypes the types of the nodes to send: the units and the parts of the units which contain none of them
+     *                  are left out
+     */
+    List<Consumer<OpenApiVisitor>> split(Set<NodeType> nodeTypes);
+
+    /**
+     * Splits the info section and the selected component schemas and path items only, in the order of
+     * {@link #split(Set)}, so that the nodes which changed can be validated again without walking the others.
+     *
+     * @param schemaNames selects the schemas by name: the component schemas, and the schemas found in other documents
+     * @param paths selects the path items by path
+     * @throws UnsupportedOperationException when the model can only be walked as a whole
+     */
+    default List<Consumer<OpenApiVisitor>> split(Set<NodeType> nodeTypes, Predicate<String> schemaNames, Predicate<String> paths) {
+        throw new UnsupportedOperationException("The nodes of this model cannot be walked one by one");
+    }
+}
@@ -2,198 +2,309 @@ package org.openapitools.openapistylevalidator;
 
 import org.openapitools.openapistylevalidator.styleerror.StyleError;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
-import org.eclipse.microprofile.openapi.models.Operation;
-import org.eclipse.microprofile.openapi.models.PathItem;
-import org.eclipse.microprofile.openapi.models.info.Contact;
-import org.eclipse.microprofile.openapi.models.info.Info;
-import org.eclipse.microprofile.openapi.models.info.License;
-import org.eclipse.microprofile.openapi.models.media.Schema;
-import org.eclipse.microprofile.openapi.models.parameters.Parameter;
-
 
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 public class OpenApiSpecStyleValidator {
     public static final String INPUT_FILE = "inputFile";
 
-    private final OpenAPI openAPI;
-    private final ErrorAggregator errorAggregator;
-    private ValidatorParameters parameters;
+    private final OpenApiModel model;
     private final NamingValidator namingValidator;
+    private ForkJoinPool forkJoinPool;
+    private ValidationListener listener;
+    private NamingVerdictCache namingVerdictCache;
+    private List<StyleRule> rules = DiscoveredRules.RULES;
 
     public OpenApiSpecStyleValidator(OpenAPI openApi) {
-        this.openAPI = openApi;
-        errorAggregator = new ErrorAggregator();
+        this(new MicroProfileModel(openApi));
+    }
+
+    /**
+     * Validates the model read by swagger-parser as it is, without adapting it to the MicroProfile interfaces first.
+     */
+    public OpenApiSpecStyleValidator(io.swagger.v3.oas.models.OpenAPI openApi) {
+        this(new SwaggerModel(openApi));
+    }
+
+    /**
+     * Validates the model read by swagger-parser without resolving its {@code $ref}, and resolves them only when they
+     * are walked, with the given resolver. The same errors are found as in the model resolved by the parser, but the
+     * documents which are referenced are read once, and the parts of them which are not referenced are not read.
+     */
+    public OpenApiSpecStyleValidator(io.swagger.v3.oas.models.OpenAPI openApi, RefResolver refResolver) {
+        this(new SwaggerModel(openApi, refResolver));
+    }
+
+    /**
+     * Creates a validator that reads the yaml or json spec as a stream while validating it, instead of validating a
+     * model of the whole spec, so that very large specs can be validated in little memory.
+     * <p>
+     * The spec must be an OpenAPI 3 file, and the documents it references with {@code $ref} are not read. The errors
+     * are found in the order of the file. When the spec cannot be read, {@code validate} throws an
+     * {@link java.io.UncheckedIOException}.
+     */
+    public static OpenApiSpecStyleValidator streaming(Path spec) {
+        return new OpenApiSpecStyleValidator(new StreamingModel(spec));
+    }
+
+    private OpenApiSpecStyleValidator(OpenApiModel model) {
+        this.model = model;
         namingValidator = new NamingValidator();
     }
 
+    /**
+     * Enables or disables the parallel validation of the path items and of the component schemas in the common
+     * fork-join pool. The reported errors are the same, in the same order, as with the sequential validation.
+     */
+    public OpenApiSpecStyleValidator setParallel(boolean parallel) {
+        return setForkJoinPool(parallel ? ForkJoinPool.commonPool() : null);
+    }
+
+    /**
+     * @param forkJoinPool the pool used to validate the path items and the component schemas in parallel,
+     *                     or {@code null} to validate them sequentially
+     */
+    public OpenApiSpecStyleValidator setForkJoinPool(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+        return this;
+    }
+
+    /**
+     * @param listener receives the measures of the validations (see {@link ValidationMetrics}), or {@code null}
+     */
+    public OpenApiSpecStyleValidator setListener(ValidationListener listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * @param namingVerdictCache remembers whether the checked names follow their convention, so that the names used
+     *                           many times are checked once, or {@code null}
+     */
+    public OpenApiSpecStyleValidator setNamingVerdictCache(NamingVerdictCache namingVerdictCache) {
+        this.namingVerdictCache = namingVerdictCache;
+        return this;
+    }
+
+    /**
+     * @param rules the rules run after the checks of the library, instead of the ones found in the class path with
+     *              {@link ServiceLoader} (see {@link StyleRule})
+     */
+    public OpenApiSpecStyleValidator setRules(List<StyleRule> rules) {
+        this.rules = rules;
+        return this;
+    }
+
+    /**
+     * @return the rules found in the class path of the library, which every validator runs by default
+     */
+    public static List<StyleRule> getDiscoveredRules() {
+        return DiscoveredRules.RULES;
+    }
+
+    /**
+     * @return the errors, section by section. With an error budget (see {@link ValidatorParameters#getErrorBudget()}),
+     * the walk of the specification stops once the budget is reached, and only the first errors found are returned,
+     * then sorted by section.
+     */
     public List<StyleError> validate(ValidatorParameters parameters) {
-        this.parameters = parameters;
-        validateInfo();
-        validateOperations();
-        validateModels();
-        validateNaming();
-
-        return errorAggregator.getErrorList();
-    }
-
-    private void validateInfo() {
-        Info info = openAPI.getInfo();
-        License license = info.getLicense();
-        if (parameters.isValidateInfoLicense()) {
-            if (license != null) {
-                List<Boolean> infoPresence = new ArrayList<>();
-                infoPresence.add(license.getName() != null && !license.getName().isEmpty());
-                infoPresence.add(license.getUrl() != null && !license.getUrl().isEmpty());
-                errorAggregator.validateMinimumInfo(infoPresence, StyleError.StyleCheckSection.APIInfo, "license", "name|url");
-            } else {
-                errorAggregator.logMissingOrEmptyAttribute(StyleError.StyleCheckSection.APIInfo, "license");
-            }
+        ErrorAggregator errorAggregator = new ErrorAggregator(parameters.getErrorBudget());
+        validate(parameters, errorAggregator);
+
+        List<StyleError> errorList = errorAggregator.getErrorList();
+        if (listener != null) {
+            errorList.forEach(listener::errorEmitted);
         }
+        return errorList;
+    }
 
-        if (parameters.isValidateInfoDescription()) {
-            String description = info.getDescription();
-            if (description == null || description.isEmpty()) {
-                errorAggregator.logMissingOrEmptyAttribute(StyleError.StyleCheckSection.APIInfo, "description");
-            }
+    /**
+     * Validates the specification and sends each error to the sink as soon as it is found, without keeping it.
+     * <p>
+     * The errors are sent in the order in which the nodes are visited (the info section, then each component schema,
+     * then each path item), which is not the section by section order of {@link #validate(ValidatorParameters)}. In
+     * parallel mode, the errors are sent once all the nodes have been validated. With an error budget, the walk stops
+     * once the budget is reached.
+     */
+    public void validate(ValidatorParameters parameters, StyleErrorSink sink) {
+        if (listener != null) {
+            validate(parameters, new ErrorAggregator(error -> {
+                listener.errorEmitted(error);
+                sink.accept(error);
+            }, parameters.getErrorBudget()));
+        } else {
+            validate(parameters, new ErrorAggregator(sink, parameters.getErrorBudget()));
         }
+    }
 
-        if (parameters.isValidateInfoContact()) {
-            Contact contact = info.getContact();
-            if (contact != null) {
-                List<Boolean> infoPresence = new ArrayList<>();
-                infoPresence.add(contact.getName() != null && !contact.getName().isEmpty());
-                infoPresence.add(contact.getUrl() != null && !contact.getUrl().isEmpty());
-                infoPresence.add(contact.getEmail() != null && !contact.getEmail().isEmpty());
-                errorAggregator.validateMinimumInfo(infoPresence, StyleError.StyleCheckSection.APIInfo, "contact", "name|url|email");
-            } else {
-                errorAggregator.logMissingOrEmptyAttribute(StyleError.StyleCheckSection.APIInfo, "contact");
-            }
+    /**
+     * Validates the specification and keeps the errors of each node, so that the nodes which change can be validated
+     * again with {@link #revalidate(ValidationResult, Set, Set)}.
+     * <p>
+     * The nodes are validated sequentially, and the error budget of the parameters does not apply.
+     *
+     * @throws UnsupportedOperationException with a {@link #streaming(Path) streaming} validator
+     */
+    public ValidationResult validateNodes(ValidatorParameters parameters) {
+        return ValidationResult.of(parameters, validateNodes(parameters, schemaName -> true, path -> true));
+    }
+
+    /**
+     * Validates again the info section and the given path items and schemas of this specification, which is the
+     * previous specification after an edit, so that the time taken depends on the size of the edit rather than on the
+     * size of the specification.
+     *
+     * @param previous the result of the validation of the previous specification, whose parameters are used again
+     * @param changedPaths the paths of the path items which were added, changed or removed
+     * @param changedSchemas the names of the schemas which were added, changed or removed
+     * @return the result of the previous validation, with the errors of the given nodes replaced
+     * @throws UnsupportedOperationException with a {@link #streaming(Path) streaming} validator
+     */
+    public ValidationResult revalidate(ValidationResult previous, Set<String> changedPaths, Set<String> changedSchemas) {
+        NodeErrors nodeErrors = validateNodes(previous.getParameters(), changedSchemas::contains, changedPaths::contains);
+        return previous.update(nodeErrors, changedSchemas, changedPaths);
+    }
+
+    private NodeErrors validateNodes(ValidatorParameters parameters, Predicate<String> schemaNames, Predicate<String> paths) {
+        long start = System.nanoTime();
+        NodeErrors nodeErrors = new NodeErrors();
+        StyleErrorSink sink = listener == null ? nodeErrors : error -> {
+            listener.errorEmitted(error);
+            nodeErrors.accept(error);
+        };
+        OpenApiWalker walker = createWalker(enableChecks(parameters), new ErrorAggregator(sink), nodeErrors);
+        for (Consumer<OpenApiVisitor> node : model.split(walker.getNodeTypes(), schemaNames, paths)) {
+            node.accept(walker);
         }
+        if (listener != null) {
+            listener.phaseTimed(ValidationPhase.VALIDATION, System.nanoTime() - start);
+        }
+        return nodeErrors;
     }
 
-    private void validateOperations() {
-        for (String key : openAPI.getPaths().getPathItems().keySet()) {
-            PathItem path = openAPI.getPaths().getPathItems().get(key);
-            for (PathItem.HttpMethod method : path.getOperations().keySet()) {
-                Operation op = path.getOperations().get(method);
-                if (parameters.isValidateOperationOperationId()) {
-                    if (op.getOperationId() == null || op.getOperationId().isEmpty()) {
-                        errorAggregator.logMissingOrEmptyOperationAttribute(key, method, "operationId");
-                    }
-                }
-
-                if (parameters.isValidateOperationDescription()) {
-                    if (op.getDescription() == null || op.getDescription().isEmpty()) {
-                        errorAggregator.logMissingOrEmptyOperationAttribute(key, method, "description");
-                    }
-                }
-
-                if (parameters.isValidateOperationSummary()) {
-                    if (op.getSummary() == null || op.getSummary().isEmpty()) {
-                        errorAggregator.logMissingOrEmptyOperationAttribute(key, method, "summary");
-                    }
-                }
-
-                if (parameters.isValidateOperationTag()) {
-                    if (op.getTags() == null || op.getTags().isEmpty()) {
-                        errorAggregator.logMissingOrEmptyOperationCollection(key, method, "tags");
-                    }
-                }
-            }
+    private void validate(ValidatorParameters parameters, ErrorAggregator errorAggregator) {
+        long start = System.nanoTime();
+        walk(parameters, errorAggregator);
+        if (listener != null) {
+            listener.phaseTimed(ValidationPhase.VALIDATION, System.nanoTime() - start);
         }
     }
 
-    private void validateModels() {
-        if (openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null) {
-            for (String definition : openAPI.getComponents().getSchemas().keySet()) {
-                Schema model = openAPI.getComponents().getSchemas().get(definition);
-
-                if (model.getProperties() != null) {
-                    for (Map.Entry<String, Schema> entry : model.getProperties().entrySet()) {
-                        Schema property = entry.getValue();
-
-                        if (parameters.isValidateModelPropertiesExample()) {
-                            if (property.getRef() == null && property.getExample() == null) {
-                                errorAggregator.logMissingOrEmptyModelAttribute(definition, entry.getKey(), "example");
-                            }
-                        }
-                        
-                        /*
-                    if (parameters.isValidateModelNoLocalDef()) {
-                        //TODO:
-                    }*/
-                    }
-                }
+    private void walk(ValidatorParameters parameters, ErrorAggregator errorAggregator) {
+        List<EnabledCheck> checks = enableChecks(parameters);
+        if (forkJoinPool != null) {
+            Set<NodeType> nodeTypes = EnumSet.noneOf(NodeType.class);
+            for (EnabledCheck check : checks) {
+                nodeTypes.addAll(check.getNodeTypes());
+            }
+            List<Consumer<OpenApiVisitor>> nodes = model.split(nodeTypes);
+            OpenApiWalkTask task = new OpenApiWalkTask(nodes, taskErrorAggregator -> createWalker(checks, taskErrorAggregator),
+                    parameters.getErrorBudget());
+            errorAggregator.merge(forkJoinPool.invoke(task));
+        } else {
+            try {
+                createWalker(checks, errorAggregator).walk(model);
+            } catch (ErrorBudgetExhausted stopped) {
+                // The rest of the specification is not walked
             }
         }
     }
 
-    private void validateNaming() {
-        if (parameters.isValidateNaming()) {
-            if (openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null) {
-                for (String definition : openAPI.getComponents().getSchemas().keySet()) {
-                    Schema model = openAPI.getComponents().getSchemas().get(definition);
-
-                    if (model.getProperties() != null) {
-                        for (Map.Entry<String, Schema> entry : model.getProperties().entrySet()) {
-                            boolean isValid = namingValidator.isNamingValid(entry.getKey(), parameters.getPropertyNamingConvention());
-                            if (!isValid) {
-                                errorAggregator.logModelBadNaming(entry.getKey(),
-                                        "property",
-                                        parameters.getPropertyNamingConvention().getDesignation(),
-                                        definition);
-                            }
-                        }
-                    }
-                }
+    private List<EnabledCheck> enableChecks(ValidatorParameters parameters) {
+        // The segments such as "api" or "v1" which start most paths are checked once per spec
+        Map<String, NamingCheck.PathSegment> pathSegments = new ConcurrentHashMap<>();
+        List<EnabledCheck> checks = new ArrayList<>();
+        if (InfoCheck.isEnabled(parameters)) {
+            checks.add(new EnabledCheck(ValidationPhase.INFO, InfoCheck.NODE_TYPES,
+                    errorAggregator -> new InfoCheck(parameters, errorAggregator)));
+        }
+        if (OperationCheck.isEnabled(parameters)) {
+            checks.add(new EnabledCheck(ValidationPhase.OPERATIONS, OperationCheck.NODE_TYPES,
+                    errorAggregator -> new OperationCheck(parameters, errorAggregator)));
+        }
+        if (ModelCheck.isEnabled(parameters)) {
+            checks.add(new EnabledCheck(ValidationPhase.MODELS, ModelCheck.NODE_TYPES,
+                    errorAggregator -> new ModelCheck(parameters, errorAggregator)));
+        }
+        if (NamingCheck.isEnabled(parameters)) {
+            checks.add(new EnabledCheck(ValidationPhase.NAMING, NamingCheck.NODE_TYPES,
+                    errorAggregator -> new NamingCheck(parameters, errorAggregator, namingValidator,
+                            namingVerdictCache, pathSegments, listener)));
+        }
+        for (StyleRule rule : rules) {
+            if (rule.isEnabled(parameters)) {
+                checks.add(new EnabledCheck(ValidationPhase.RULES, rule.getNodeTypes(),
+                        errorAggregator -> rule.createVisitor(parameters, errorAggregator)));
             }
+        }
+        return checks;
+    }
 
-            if (openAPI.getPaths() != null && openAPI.getPaths().getPathItems() != null) {
-                for (String key : openAPI.getPaths().getPathItems().keySet()) {
-                    PathItem path = openAPI.getPaths().getPathItems().get(key);
-                    for (PathItem.HttpMethod method : path.getOperations().keySet()) {
-                        Operation op = path.getOperations().get(method);
-                        if (op != null && op.getParameters() != null) {
-                            for (Parameter opParam : op.getParameters()) {
-                                boolean shouldValidate;
-                                if (opParam.getIn() == Parameter.In.HEADER && opParam.getName().startsWith("X-")) {
-                                    shouldValidate = !parameters.isIgnoreHeaderXNaming();
-                                } else {
-                                    shouldValidate = true;
-                                }
-
-                                if (shouldValidate && opParam.getRef() == null) {
-                                    boolean isValid = namingValidator.isNamingValid(opParam.getName(), parameters.getParameterNamingConvention());
-                                    if (!isValid) {
-                                        errorAggregator.logOperationBadNaming(opParam.getName(),
-                                                "parameter",
-                                                parameters.getParameterNamingConvention().getDesignation(),
-                                                key,
-                                                method);
-                                    }
-                                }
-                            }
-                        }
-                    }
-
-                    String[] pathParts = key.split("/");
-                    for (String part : pathParts) {
-                        if (!part.isEmpty() && !(part.startsWith("{") && part.endsWith("}"))) {
-                            boolean isValid = namingValidator.isNamingValid(part, parameters.getPathNamingConvention());
-                            if (!isValid) {
-                                errorAggregator.logOperationBadNaming(part,
-                                        "path",
-                                        parameters.getPathNamingConvention().getDesignation(),
-                                        key,
-                                        null);
-                            }
-                        }
-                    }
-                }
+    /**
+     * Creates the visitors of the checks for a walk, and the table which dispatches each type of node to the visitors
+     * which need it.
+     */
+    private OpenApiWalker createWalker(List<EnabledCheck> checks, ErrorAggregator errorAggregator) {
+        return createWalker(checks, errorAggregator, null);
+    }
+
+    /**
+     * @param nodeErrors the visitor which receives every node before the checks, to know the owner of their errors,
+     *                   or {@code null}
+     */
+    private OpenApiWalker createWalker(List<EnabledCheck> checks, ErrorAggregator errorAggregator, NodeErrors nodeErrors) {
+        Map<NodeType, List<OpenApiVisitor>> dispatchTable = new EnumMap<>(NodeType.class);
+        for (EnabledCheck check : checks) {
+            OpenApiVisitor visitor = check.createVisitor(errorAggregator);
+            if (listener != null) {
+                visitor = new TimedCheck(check.getPhase(), visitor, listener);
+            }
+            for (NodeType nodeType : check.getNodeTypes()) {
+                dispatchTable.computeIfAbsent(nodeType, type -> new ArrayList<>()).add(visitor);
+            }
+        }
+        if (listener != null) {
+            NodeCounter nodeCounter = new NodeCounter(listener);
+            for (List<OpenApiVisitor> visitors : dispatchTable.values()) {
+                visitors.add(0, nodeCounter);
             }
         }
+        if (nodeErrors != null) {
+            for (List<OpenApiVisitor> visitors : dispatchTable.values()) {
+                visitors.add(0, nodeErrors);
+            }
+        }
+        return new OpenApiWalker(dispatchTable);
+    }
+
+    /**
+     * The rules are looked up once, when the first validator is created.
+     */
+    private static final class DiscoveredRules {
+        static final List<StyleRule> RULES;
+
+        static {
+            RULES = loadRules(StyleRule.class.getClassLoader());
+        }
+    }
+
+    static List<StyleRule> loadRules(ClassLoader classLoader) {
+        List<StyleRule> rules = new ArrayList<>();
+        for (StyleRule rule : ServiceLoader.load(StyleRule.class, classLoader)) {
+            rules.add(rule);
+        }
+        return Collections.unmodifiableList(rules);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package org.openapitools.openapistylevalidator;
+
+import org.eclipse.microprofile.openapi.models.PathItem;
+
+/**
+ * Receives the nodes of an {@link OpenApiModel} while it is walked by an {@link OpenApiWalker}. All methods do nothing
+ * by default, so a check only overrides the nodes it is interested in (see {@link NodeType}).
+ * <p>
+ * The nodes only hold the fields read by the checks, whatever the library of the model.
+ */
+public interface OpenApiVisitor {
+
+    default void visitInfo(InfoNode info) {
+    }
+
+    default void visitSchema(String schemaName) {
+    }
+
+    default void visitSchemaProperty(String schemaName, String propertyName, PropertyNode property) {
+    }
+
+    default void visitOperation(String path, PathItem.HttpMethod method, OperationNode operation) {
+    }
+
+    default void visitParameter(String path, PathItem.HttpMethod method, ParameterNode parameter) {
+    }
+
+    /**
+     * Called once all the operations of the path item (and their parameters) have been visited.
+     */
+    default void visitPathItem(String path) {
+    }
+}
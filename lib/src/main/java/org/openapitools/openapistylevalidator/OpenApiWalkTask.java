@@ -0,0 +1,74 @@
+package org.openapitools.openapistylevalidator;
+
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Walks a range of the units returned by {@link OpenApiModel#split(java.util.Set)} in a fork-join pool.
+ * <p>
+ * Each leaf task collects its errors in its own {@link ErrorAggregator}. The results are merged left to right, so the
+ * final error list is in the same order as the one of a sequential walk.
+ * <p>
+ * With an error budget, a leaf stops once it has found as many errors as the budget, and the leaves on the right of a
+ * leaf which stopped are skipped, since their errors come after the ones kept by a sequential walk.
+ */
+class OpenApiWalkTask extends RecursiveTask<ErrorAggregator> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int SEQUENTIAL_THRESHOLD = 32;
+
+    private final List<Consumer<OpenApiVisitor>> nodes;
+    private final Function<ErrorAggregator, OpenApiWalker> walkerFactory;
+    private final int maxErrors;
+    private final AtomicInteger firstStoppedLeaf;
+    private final int from;
+    private final int to;
+
+    /**
+     * @param maxErrors the error budget, or 0 to find all the errors
+     */
+    OpenApiWalkTask(List<Consumer<OpenApiVisitor>> nodes, Function<ErrorAggregator, OpenApiWalker> walkerFactory, int maxErrors) {
+        this(nodes, walkerFactory, maxErrors, new AtomicInteger(Integer.MAX_VALUE), 0, nodes.size());
+    }
+
+    private OpenApiWalkTask(List<Consumer<OpenApiVisitor>> nodes, Function<ErrorAggregator, OpenApiWalker> walkerFactory,
+                            int maxErrors, AtomicInteger firstStoppedLeaf, int from, int to) {
+        this.nodes = nodes;
+        this.walkerFactory = walkerFactory;
+        this.maxErrors = maxErrors;
+        this.firstStoppedLeaf = firstStoppedLeaf;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected ErrorAggregator compute() {
+        if (to - from <= SEQUENTIAL_THRESHOLD) {
+            ErrorAggregator errorAggregator = new ErrorAggregator(maxErrors);
+            OpenApiWalker walker = walkerFactory.apply(errorAggregator);
+            try {
+                for (Consumer<OpenApiVisitor> node : nodes.subList(from, to)) {
+                    if (firstStoppedLeaf.get() < from) {
+                        break;
+                    }
+                    node.accept(walker);
+                }
+            } catch (ErrorBudgetExhausted stopped) {
+                firstStoppedLeaf.accumulateAndGet(from, Math::min);
+            }
+            return errorAggregator;
+        }
+
+        int middle = (from + to) >>> 1;
+        OpenApiWalkTask left = new OpenApiWalkTask(nodes, walkerFactory, maxErrors, firstStoppedLeaf, from, middle);
+        OpenApiWalkTask right = new OpenApiWalkTask(nodes, walkerFactory, maxErrors, firstStoppedLeaf, middle, to);
+        right.fork();
+        ErrorAggregator result = left.compute();
+        result.merge(right.join());
+        return result;
+    }
+}
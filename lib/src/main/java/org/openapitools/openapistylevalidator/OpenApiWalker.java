@@ -0,0 +1,119 @@
+package org.openapitools.openapistylevalidator;
+
+import org.eclipse.microprofile.openapi.models.PathItem;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Walks an {@link OpenApiModel} once and sends every node to the visitors which need its type.
+ * <p>
+ * The visitors are dispatched with a table from each {@link NodeType} to its visitors, and the types of nodes that
+ * no visitor needs are not walked. The info section is visited first, then the component schemas and finally the
+ * paths.
+ */
+class OpenApiWalker implements OpenApiVisitor {
+
+    private static final OpenApiVisitor[] NO_VISITORS = new OpenApiVisitor[0];
+
+    private final Set<NodeType> nodeTypes;
+    private final OpenApiVisitor[] infoVisitors;
+    private final OpenApiVisitor[] schemaVisitors;
+    private final OpenApiVisitor[] schemaPropertyVisitors;
+    private final OpenApiVisitor[] operationVisitors;
+    private final OpenApiVisitor[] parameterVisitors;
+    private final OpenApiVisitor[] pathItemVisitors;
+
+    /**
+     * Creates a walker which sends all the nodes to all the visitors.
+     */
+    OpenApiWalker(List<OpenApiVisitor> visitors) {
+        this(toDispatchTable(visitors));
+    }
+
+    /**
+     * @param dispatchTable the visitors of each type of node
+     */
+    OpenApiWalker(Map<NodeType, List<OpenApiVisitor>> dispatchTable) {
+        Map<NodeType, OpenApiVisitor[]> visitors = new EnumMap<>(NodeType.class);
+        for (Map.Entry<NodeType, List<OpenApiVisitor>> entry : dispatchTable.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                visitors.put(entry.getKey(), entry.getValue().toArray(NO_VISITORS));
+            }
+        }
+        nodeTypes = visitors.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(visitors.keySet());
+        infoVisitors = visitors.getOrDefault(NodeType.INFO, NO_VISITORS);
+        schemaVisitors = visitors.getOrDefault(NodeType.SCHEMA, NO_VISITORS);
+        schemaPropertyVisitors = visitors.getOrDefault(NodeType.SCHEMA_PROPERTY, NO_VISITORS);
+        operationVisitors = visitors.getOrDefault(NodeType.OPERATION, NO_VISITORS);
+        parameterVisitors = visitors.getOrDefault(NodeType.PARAMETER, NO_VISITORS);
+        pathItemVisitors = visitors.getOrDefault(NodeType.PATH_ITEM, NO_VISITORS);
+    }
+
+    private static Map<NodeType, List<OpenApiVisitor>> toDispatchTable(List<OpenApiVisitor> visitors) {
+        Map<NodeType, List<OpenApiVisitor>> dispatchTable = new EnumMap<>(NodeType.class);
+        for (NodeType nodeType : NodeType.values()) {
+            dispatchTable.put(nodeType, visitors);
+        }
+        return dispatchTable;
+    }
+
+    /**
+     * @return the types of the nodes which at least one visitor needs
+     */
+    Set<NodeType> getNodeTypes() {
+        return nodeTypes;
+    }
+
+    void walk(OpenApiModel model) {
+        for (Consumer<OpenApiVisitor> node : model.split(nodeTypes)) {
+            node.accept(this);
+        }
+    }
+
+    @Override
+    public void visitInfo(InfoNode info) {
+        for (OpenApiVisitor visitor : infoVisitors) {
+            visitor.visitInfo(info);
+        }
+    }
+
+    @Override
+    public void visitSchema(String schemaName) {
+        for (OpenApiVisitor visitor : schemaVisitors) {
+            visitor.visitSchema(schemaName);
+        }
+    }
+
+    @Override
+    public void visitSchemaProperty(String schemaName, String propertyName, PropertyNode property) {
+        for (OpenApiVisitor visitor : schemaPropertyVisitors) {
+            visitor.visitSchemaProperty(schemaName, propertyName, property);
+        }
+    }
+
+    @Override
+    public void visitOperation(String path, PathItem.HttpMethod method, OperationNode operation) {
+        for (OpenApiVisitor visitor : operationVisitors) {
+            visitor.visitOperation(path, method, operation);
+        }
+    }
+
+    @Override
+    public void visitParameter(String path, PathItem.HttpMethod method, ParameterNode parameter) {
+        for (OpenApiVisitor visitor : parameterVisitors) {
+            visitor.visitParameter(path, method, parameter);
+        }
+    }
+
+    @Override
+    public void visitPathItem(String path) {
+        for (OpenApiVisitor visitor : pathItemVisitors) {
+            visitor.visitPathItem(path);
+        }
+    }
+}
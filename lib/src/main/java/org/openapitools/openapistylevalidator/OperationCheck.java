@@ -0,0 +1,55 @@
+package org.openapitools.openapistylevalidator;
+
+import org.eclipse.microprofile.openapi.models.PathItem;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+class OperationCheck implements OpenApiVisitor {
+
+    static final Set<NodeType> NODE_TYPES = Collections.unmodifiableSet(EnumSet.of(NodeType.OPERATION));
+
+    private final ValidatorParameters parameters;
+    private final ErrorAggregator errorAggregator;
+
+    OperationCheck(ValidatorParameters parameters, ErrorAggregator errorAggregator) {
+        this.parameters = parameters;
+        this.errorAggregator = errorAggregator;
+    }
+
+    /**
+     * @return whether at least one field of the operations is checked
+     */
+    static boolean isEnabled(ValidatorParameters parameters) {
+        return parameters.isValidateOperationOperationId() || parameters.isValidateOperationDescription()
+                || parameters.isValidateOperationSummary() || parameters.isValidateOperationTag();
+    }
+
+    @Override
+    public void visitOperation(String path, PathItem.HttpMethod method, OperationNode op) {
+        if (parameters.isValidateOperationOperationId()) {
+            if (op.getOperationId() == null || op.getOperationId().isEmpty()) {
+                errorAggregator.logMissingOrEmptyOperationAttribute(path, method, "operationId");
+            }
+        }
+
+        if (parameters.isValidateOperationDescription()) {
+            if (op.getDescription() == null || op.getDescription().isEmpty()) {
+                errorAggregator.logMissingOrEmptyOperationAttribute(path, method, "description");
+            }
+        }
+
+        if (parameters.isValidateOperationSummary()) {
+            if (op.getSummary() == null || op.getSummary().isEmpty()) {
+                errorAggregator.logMissingOrEmptyOperationAttribute(path, method, "summary");
+            }
+        }
+
+        if (parameters.isValidateOperationTag()) {
+            if (op.getTags() == null || op.getTags().isEmpty()) {
+                errorAggregator.logMissingOrEmptyOperationCollection(path, method, "tags");
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.openapitools.openapistylevalidator;
+
+import java.util.List;
+
+/**
+ * The fields of an operation that the checks read, whatever the library of the model.
+ */
+public final class OperationNode {
+
+    private final String operationId;
+    private final String description;
+    private final String summary;
+    private final List<String> tags;
+
+    OperationNode(String operationId, String description, String summary, List<String> tags) {
+        this.operationId = operationId;
+        this.description = description;
+        this.summary = summary;
+        this.tags = tags;
+    }
+
+    public String getOperationId() {
+        return operationId;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getSummary() {
+        return summary;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+}
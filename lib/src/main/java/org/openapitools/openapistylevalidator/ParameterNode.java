@@ -0,0 +1,34 @@
+package org.openapitools.openapistylevalidator;
+
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+
+/**
+ * The fields of an operation parameter that the checks read, whatever the library of the model.
+ */
+public final class ParameterNode {
+
+    private final String name;
+    private final Parameter.In in;
+    private final String ref;
+
+    /**
+     * @param in the location of the parameter, or {@code null} when it is missing or unknown
+     */
+    ParameterNode(String name, Parameter.In in, String ref) {
+        this.name = name;
+        this.in = in;
+        this.ref = ref;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Parameter.In getIn() {
+        return in;
+    }
+
+    public String getRef() {
+        return ref;
+    }
+}
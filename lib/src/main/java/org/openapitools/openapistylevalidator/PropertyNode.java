@@ -0,0 +1,23 @@
+package org.openapitools.openapistylevalidator;
+
+/**
+ * The fields of a property of a component schema that the checks read, whatever the library of the model.
+ */
+public final class PropertyNode {
+
+    private final String ref;
+    private final boolean hasExample;
+
+    PropertyNode(String ref, boolean hasExample) {
+        this.ref = ref;
+        this.hasExample = hasExample;
+    }
+
+    public String getRef() {
+        return ref;
+    }
+
+    public boolean hasExample() {
+        return hasExample;
+    }
+}
@@ -0,0 +1,182 @@
+package org.openapitools.openapistylevalidator;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import org.openapitools.openapistylevalidator.cache.ParsedDocumentCache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resolves the {@code $ref} of a spec parsed without resolving them (the default of swagger-parser), when the
+ * validation needs what they reference: the path items, the parameters and the schemas defined in other documents.
+ * <p>
+ * Each referenced document is read once, as a tree, and only the parts of it which are referenced are walked. The
+ * documents which cannot be read are resolved as missing, like the unresolved references of the parser. The local
+ * documents can be taken from a {@link ParsedDocumentCache}, to parse the documents shared by several specs once.
+ */
+public class RefResolver {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper(new YAMLFactory());
+
+    private final URI specLocation;
+    private final ParsedDocumentCache documentCache;
+    private final ConcurrentMap<URI, JsonNode> documents = new ConcurrentHashMap<>();
+
+    /**
+     * @param specLocation the path or the URL of the spec, the references are relative to
+     */
+    public RefResolver(String specLocation) {
+        this(specLocation, null);
+    }
+
+    /**
+     * @param specLocation the path or the URL of the spec, the references are relative to
+     * @param documentCache the cache of the local documents (see {@link ParsedDocumentCache#shared()}), or {@code null}
+     */
+    public RefResolver(String specLocation, ParsedDocumentCache documentCache) {
+        this.specLocation = toUri(specLocation);
+        this.documentCache = documentCache;
+    }
+
+    private static URI toUri(String location) {
+        try {
+            URI uri = new URI(location);
+            // A scheme of one letter is a Windows drive
+            if (uri.isAbsolute() && uri.getScheme().length() > 1) {
+                return uri;
+            }
+        } catch (URISyntaxException e) {
+            // A path
+        }
+        try {
+            return Paths.get(location).toAbsolutePath().normalize().toUri();
+        } catch (InvalidPathException e) {
+            // Not a location (the contents of a spec for example), so the references are relative to the working directory
+            return Paths.get("").toAbsolutePath().toUri();
+        }
+    }
+
+    URI getSpecLocation() {
+        return specLocation;
+    }
+
+    /**
+     * @return the local documents the references were resolved in so far, including the ones which could not be read
+     */
+    public Set<Path> getLocalDocuments() {
+        Set<Path> localDocuments = new LinkedHashSet<>();
+        for (URI document : documents.keySet()) {
+            if ("file".equalsIgnoreCase(document.getScheme())) {
+                localDocuments.add(Paths.get(document));
+            }
+        }
+        return localDocuments;
+    }
+
+    /**
+     * @param localDocuments local documents, such as the ones which changed since a validation
+     * @return the paths of the spec whose path item or parameters are read from one of these documents, once their
+     * references are resolved
+     */
+    public Set<String> getPathsReadFrom(OpenAPI openAPI, Set<Path> localDocuments) {
+        Set<String> paths = new LinkedHashSet<>();
+        if (openAPI.getPaths() == null) {
+            return paths;
+        }
+        SwaggerModel model = new SwaggerModel(openAPI, this);
+        for (Map.Entry<String, PathItem> entry : openAPI.getPaths().entrySet()) {
+            for (URI document : model.getDocuments(entry.getValue())) {
+                if ("file".equalsIgnoreCase(document.getScheme()) && localDocuments.contains(Paths.get(document))) {
+                    paths.add(entry.getKey());
+                    break;
+                }
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * @return the schemas of other documents which the spec references, by the names under which they are validated
+     * as models, so that the ones which changed can be found by comparing them
+     */
+    public Map<String, JsonNode> getExternalSchemas(OpenAPI openAPI) {
+        return ExternalSchemas.find(openAPI, this);
+    }
+
+    /**
+     * @param document the document which contains the reference
+     * @return the absolute URI of the target of the reference, or {@code null} when the reference is not a valid URI
+     */
+    static URI resolveUri(URI document, String ref) {
+        try {
+            return document.resolve(new URI(ref));
+        } catch (IllegalArgumentException | URISyntaxException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the URI of the document which contains the target
+     */
+    static URI documentOf(URI target) {
+        try {
+            return new URI(target.getScheme(), target.getSchemeSpecificPart(), null);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * @param target the absolute URI of the target of a reference, see {@link #resolveUri(URI, String)}
+     * @return the referenced node, or a missing node when its document cannot be read or does not contain it
+     */
+    JsonNode resolve(URI target) {
+        JsonNode document = documents.computeIfAbsent(documentOf(target), this::readOrMissing);
+        String fragment = target.getFragment();
+        if (fragment == null || fragment.isEmpty()) {
+            return document;
+        }
+        try {
+            return document.at(JsonPointer.compile(fragment));
+        } catch (IllegalArgumentException e) {
+            return MissingNode.getInstance();
+        }
+    }
+
+    private JsonNode readOrMissing(URI document) {
+        try {
+            JsonNode node = read(document);
+            return node == null ? MissingNode.getInstance() : node;
+        } catch (IOException | RuntimeException e) {
+            return MissingNode.getInstance();
+        }
+    }
+
+    /**
+     * Reads a whole yaml or json document, which happens once per document.
+     */
+    JsonNode read(URI document) throws IOException {
+        if (documentCache != null && "file".equalsIgnoreCase(document.getScheme())) {
+            return documentCache.get(Paths.get(document));
+        }
+        try (InputStream input = document.toURL().openStream()) {
+            return MAPPER.readTree(input);
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package org.openapitools.openapistylevalidator;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import org.eclipse.microprofile.openapi.models.PathItem.HttpMethod;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * An {@link OpenApiModel} of a yaml or json file which is never loaded: the file is read as a stream of tokens, and
+ * each node is sent to the visitor as soon as its section has been read.
+ * <p>
+ * Only the fields read by the checks are kept, and only until the end of their node (or of their path item, whose
+ * operations are visited in the same order as in the other models), so the memory does not depend on the size of the
+ * spec. The other sections are skipped. The nodes are visited in the order of the file, and:
+ * <ul>
+ * <li>only OpenAPI 3 specs are supported (not the Swagger 2 ones, which the parser converts)</li>
+ * <li>the documents referenced with {@code $ref} are not read, so the schemas they define are not validated</li>
+ * </ul>
+ * A spec which cannot be read makes the walk fail with an {@link UncheckedIOException}.
+ */
+class StreamingModel implements OpenApiModel {
+
+    /**
+     * The order of {@code PathItem.getOperations()} of MicroProfile.
+     */
+    private static final List<HttpMethod> OPERATION_ORDER = Arrays.asList(HttpMethod.GET, HttpMethod.PUT, HttpMethod.POST,
+            HttpMethod.DELETE, HttpMethod.OPTIONS, HttpMethod.HEAD, HttpMethod.PATCH, HttpMethod.TRACE);
+
+    private final Path spec;
+
+    StreamingModel(Path spec) {
+        this.spec = spec;
+    }
+
+    /**
+     * @return a single unit, since the file can only be read from its beginning
+     */
+    @Override
+    public List<Consumer<OpenApiVisitor>> split(Set<NodeType> nodeTypes) {
+        return Collections.singletonList(visitor -> {
+            try (JsonParser parser = createParser()) {
+                walkDocument(parser, visitor, nodeTypes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private JsonParser createParser() throws IOException {
+        boolean json = spec.getFileName() != null && spec.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json");
+        JsonFactory factory = json ? new JsonFactory() : new YAMLFactory();
+        return factory.createParser(spec.toFile());
+    }
+
+    private static void walkDocument(JsonParser parser, OpenApiVisitor visitor, Set<NodeType> nodeTypes) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "The spec is not an object");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if ("swagger".equals(field)) {
+                throw new JsonParseException(parser, "Only OpenAPI 3 specs can be validated while they are read");
+            } else if ("info".equals(field) && token == JsonToken.START_OBJECT && nodeTypes.contains(NodeType.INFO)) {
+                visitor.visitInfo(readInfo(parser));
+            } else if ("paths".equals(field) && token == JsonToken.START_OBJECT
+                    && NodeType.containsAny(nodeTypes, NodeType.PATH_ITEM_NODES)) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String path = parser.getCurrentName();
+                    parser.nextToken();
+                    walkPathItem(parser, visitor, nodeTypes, path);
+                }
+            } else if ("components".equals(field) && token == JsonToken.START_OBJECT
+                    && NodeType.containsAny(nodeTypes, NodeType.SCHEMA_NODES)) {
+                walkComponents(parser, visitor, nodeTypes.contains(NodeType.SCHEMA_PROPERTY));
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static InfoNode readInfo(JsonParser parser) throws IOException {
+        String description = null;
+        InfoNode.License license = null;
+        InfoNode.Contact contact = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if ("description".equals(field)) {
+                description = readText(parser);
+            } else if ("license".equals(field) && token == JsonToken.START_OBJECT) {
+                Map<String, String> fields = readTexts(parser);
+                license = new InfoNode.License(fields.get("name"), fields.get("url"));
+            } else if ("contact".equals(field) && token == JsonToken.START_OBJECT) {
+                Map<String, String> fields = readTexts(parser);
+                contact = new InfoNode.Contact(fields.get("name"), fields.get("url"), fields.get("email"));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new InfoNode(description, license, contact);
+    }
+
+    private static void walkComponents(JsonParser parser, OpenApiVisitor visitor, boolean properties) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if ("schemas".equals(field) && token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String schemaName = parser.getCurrentName();
+                    parser.nextToken();
+                    walkSchema(parser, visitor, properties, schemaName);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static void walkSchema(JsonParser parser, OpenApiVisitor visitor, boolean properties, String schemaName) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        visitor.visitSchema(schemaName);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if ("properties".equals(field) && token == JsonToken.START_OBJECT && properties) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String propertyName = parser.getCurrentName();
+                    parser.nextToken();
+                    PropertyNode property = readProperty(parser);
+                    if (property != null) {
+                        visitor.visitSchemaProperty(schemaName, propertyName, property);
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static PropertyNode readProperty(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String ref = null;
+        boolean hasExample = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if ("$ref".equals(field)) {
+                ref = readText(parser);
+            } else {
+                if ("example".equals(field)) {
+                    hasExample = token != JsonToken.VALUE_NULL;
+                }
+                parser.skipChildren();
+            }
+        }
+        return new PropertyNode(ref, hasExample);
+    }
+
+    private static void walkPathItem(JsonParser parser, OpenApiVisitor visitor, Set<NodeType> nodeTypes, String path) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        Map<HttpMethod, OperationNode> operations = new EnumMap<>(HttpMethod.class);
+        Map<HttpMethod, List<ParameterNode>> parameters = new EnumMap<>(HttpMethod.class);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            HttpMethod method = toHttpMethod(parser.getCurrentName());
+            if (parser.nextToken() == JsonToken.START_OBJECT && method != null) {
+                List<ParameterNode> operationParameters = new ArrayList<>();
+                operations.put(method, readOperation(parser, nodeTypes.contains(NodeType.PARAMETER) ? operationParameters : null));
+                parameters.put(method, operationParameters);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        for (HttpMethod method : OPERATION_ORDER) {
+            OperationNode operation = operations.get(method);
+            if (operation != null) {
+                if (nodeTypes.contains(NodeType.OPERATION)) {
+                    visitor.visitOperation(path, method, operation);
+                }
+                for (ParameterNode parameter : parameters.get(method)) {
+                    visitor.visitParameter(path, method, parameter);
+                }
+            }
+        }
+        visitor.visitPathItem(path);
+    }
+
+    /**
+     * @param parameters receives the parameters of the operation, or {@code null} to skip them
+     */
+    private static OperationNode readOperation(JsonParser parser, List<ParameterNode> parameters) throws IOException {
+        String operationId = null;
+        String description = null;
+        String summary = null;
+        List<String> tags = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if ("operationId".equals(field)) {
+                operationId = readText(parser);
+            } else if ("description".equals(field)) {
+                description = readText(parser);
+            } else if ("summary".equals(field)) {
+                summary = readText(parser);
+            } else if ("tags".equals(field) && token == JsonToken.START_ARRAY) {
+                tags = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    String tag = readText(parser);
+                    if (tag != null) {
+                        tags.add(tag);
+                    }
+                }
+            } else if ("parameters".equals(field) && token == JsonToken.START_ARRAY && parameters != null) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (parser.currentToken() == JsonToken.START_OBJECT) {
+                        Map<String, String> fields = readTexts(parser);
+                        parameters.add(new ParameterNode(fields.get("name"), toIn(fields.get("in")), fields.get("$ref")));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new OperationNode(operationId, description, summary, tags);
+    }
+
+    /**
+     * Reads the scalar fields of the current object, and skips the other ones.
+     */
+    private static Map<String, String> readTexts(JsonParser parser) throws IOException {
+        Map<String, String> fields = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            String text = readText(parser);
+            if (text != null) {
+                fields.put(field, text);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * @return the current value as text when it is a scalar, {@code null} otherwise (the object or array is skipped)
+     */
+    private static String readText(JsonParser parser) throws IOException {
+        if (parser.currentToken().isScalarValue()) {
+            return parser.getValueAsString();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private static HttpMethod toHttpMethod(String field) {
+        for (HttpMethod method : OPERATION_ORDER) {
+            if (method.name().toLowerCase(Locale.ROOT).equals(field)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static Parameter.In toIn(String in) {
+        for (Parameter.In value : Parameter.In.values()) {
+            if (value.toString().equals(in)) {
+                return value;
+            }
+        }
+        return null;
+    }
+}
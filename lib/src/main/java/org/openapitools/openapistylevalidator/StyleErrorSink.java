@@ -0,0 +1,13 @@
+package org.openapitools.openapistylevalidator;
+
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+/**
+ * Receives the style errors one by one, as soon as they are found by
+ * {@link OpenApiSpecStyleValidator#validate(ValidatorParameters, StyleErrorSink)}.
+ */
+@FunctionalInterface
+public interface StyleErrorSink {
+
+    void accept(StyleError error);
+}
@@ -0,0 +1,36 @@
+package org.openapitools.openapistylevalidator;
+
+import java.util.Set;
+
+/**
+ * A check of the style of a spec which is added to the ones of the library.
+ * <p>
+ * The rules are found with {@link java.util.ServiceLoader}: a jar declares its rules in a
+ * {@code META-INF/services/org.openapitools.openapistylevalidator.StyleRule} file, and the validator runs them as soon
+ * as the jar is in the class path. The rules can also be given to
+ * {@link OpenApiSpecStyleValidator#setRules(java.util.List)}.
+ * <p>
+ * A rule declares the types of the nodes it needs, and its visitor only receives these nodes. When no enabled check
+ * needs a type of node, the nodes of this type are not walked.
+ */
+public interface StyleRule {
+
+    /**
+     * @return the types of the nodes sent to the visitor of the rule
+     */
+    Set<NodeType> getNodeTypes();
+
+    /**
+     * @return whether the rule runs with these parameters (by default, it always runs)
+     */
+    default boolean isEnabled(ValidatorParameters parameters) {
+        return true;
+    }
+
+    /**
+     * Creates the visitor of a walk. The walks of a parallel validation run at the same time, each with its own visitor.
+     *
+     * @param errorSink receives the errors found by the visitor
+     */
+    OpenApiVisitor createVisitor(ValidatorParameters parameters, StyleErrorSink errorSink);
+}
@@ -0,0 +1,286 @@
+package org.openapitools.openapistylevalidator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.info.Contact;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.info.License;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.PathItem.HttpMethod;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter.In;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * An {@link OpenApiModel} of the swagger-parser classes, walked as it is, with the nodes visited in the same order as
+ * in its MicroProfile adaptation.
+ * <p>
+ * With a {@link RefResolver}, the {@code $ref} left by a parser which did not resolve them are resolved when they are
+ * walked, so that the same nodes are visited as in a resolved model: the path items and the parameters are replaced by
+ * the ones they reference, and the schemas of other documents are walked after the component schemas (see
+ * {@link ExternalSchemas}).
+ */
+class SwaggerModel implements OpenApiModel {
+
+    private static final List<String> OPERATION_ORDER = Arrays.asList("get", "put", "post", "delete", "options", "head", "patch", "trace");
+    private static final String LOCAL_PARAMETER_PREFIX = "#/components/parameters/";
+
+    private final OpenAPI openAPI;
+    private final RefResolver refResolver;
+
+    SwaggerModel(OpenAPI openAPI) {
+        this(openAPI, null);
+    }
+
+    /**
+     * @param refResolver resolves the references of a spec parsed without resolving them, or {@code null}
+     */
+    SwaggerModel(OpenAPI openAPI, RefResolver refResolver) {
+        this.openAPI = openAPI;
+        this.refResolver = refResolver;
+    }
+
+    @Override
+    public List<Consumer<OpenApiVisitor>> split(Set<NodeType> nodeTypes) {
+        return split(nodeTypes, schemaName -> true, path -> true);
+    }
+
+    @Override
+    public List<Consumer<OpenApiVisitor>> split(Set<NodeType> nodeTypes, Predicate<String> schemaNames, Predicate<String> paths) {
+        List<Consumer<OpenApiVisitor>> nodes = new ArrayList<>();
+        Info info = openAPI.getInfo();
+        if (info != null && nodeTypes.contains(NodeType.INFO)) {
+            nodes.add(visitor -> visitor.visitInfo(toInfoNode(info)));
+        }
+
+        if (NodeType.containsAny(nodeTypes, NodeType.SCHEMA_NODES)) {
+            boolean properties = nodeTypes.contains(NodeType.SCHEMA_PROPERTY);
+            if (openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null) {
+                for (Map.Entry<String, Schema> entry : openAPI.getComponents().getSchemas().entrySet()) {
+                    if (schemaNames.test(entry.getKey())) {
+                        nodes.add(visitor -> walkSchema(visitor, properties, entry.getKey(), entry.getValue()));
+                    }
+                }
+            }
+            if (refResolver != null) {
+                for (Map.Entry<String, JsonNode> entry : ExternalSchemas.find(openAPI, refResolver).entrySet()) {
+                    if (schemaNames.test(entry.getKey())) {
+                        nodes.add(visitor -> walkSchema(visitor, properties, entry.getKey(), entry.getValue()));
+                    }
+                }
+            }
+        }
+
+        if (openAPI.getPaths() != null && NodeType.containsAny(nodeTypes, NodeType.PATH_ITEM_NODES)) {
+            for (Map.Entry<String, PathItem> entry : openAPI.getPaths().entrySet()) {
+                if (paths.test(entry.getKey())) {
+                    nodes.add(visitor -> walkPathItem(visitor, nodeTypes, entry.getKey(), entry.getValue()));
+                }
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * @return the documents which the walk of the path item reads: the document of the path item it references, and
+     * the documents of the parameters it references
+     */
+    Set<URI> getDocuments(PathItem pathItem) {
+        Set<URI> documents = new HashSet<>();
+        if (pathItem == null || refResolver == null) {
+            return documents;
+        }
+        if (pathItem.get$ref() != null) {
+            URI target = RefResolver.resolveUri(refResolver.getSpecLocation(), pathItem.get$ref());
+            if (target != null) {
+                URI document = RefResolver.documentOf(target);
+                documents.add(document);
+                JsonNode referenced = refResolver.resolve(target);
+                for (String method : OPERATION_ORDER) {
+                    for (JsonNode parameter : referenced.path(method).path("parameters")) {
+                        addDocument(documents, document, text(parameter, "$ref"));
+                    }
+                }
+                return documents;
+            }
+        }
+        for (Operation operation : pathItem.readOperations()) {
+            if (operation.getParameters() != null) {
+                for (Parameter parameter : operation.getParameters()) {
+                    String ref = parameter.get$ref();
+                    if (ref != null && !ref.startsWith("#")) {
+                        addDocument(documents, refResolver.getSpecLocation(), ref);
+                    }
+                }
+            }
+        }
+        return documents;
+    }
+
+    private void addDocument(Set<URI> documents, URI document, String ref) {
+        URI target = ref == null ? null : RefResolver.resolveUri(document, ref);
+        if (target != null) {
+            // Read like in the walk, so that the resolver knows the document
+            refResolver.resolve(target);
+            documents.add(RefResolver.documentOf(target));
+        }
+    }
+
+    private static InfoNode toInfoNode(Info info) {
+        License license = info.getLicense();
+        Contact contact = info.getContact();
+        return new InfoNode(info.getDescription(),
+                license == null ? null : new InfoNode.License(license.getName(), license.getUrl()),
+                contact == null ? null : new InfoNode.Contact(contact.getName(), contact.getUrl(), contact.getEmail()));
+    }
+
+    private static void walkSchema(OpenApiVisitor visitor, boolean properties, String schemaName, Schema<?> schema) {
+        if (schema == null) {
+            return;
+        }
+        visitor.visitSchema(schemaName);
+        if (schema.getProperties() != null && properties) {
+            for (Map.Entry<String, Schema> entry : schema.getProperties().entrySet()) {
+                Schema<?> property = entry.getValue();
+                visitor.visitSchemaProperty(schemaName, entry.getKey(), new PropertyNode(property.get$ref(), property.getExample() != null));
+            }
+        }
+    }
+
+    private static void walkSchema(OpenApiVisitor visitor, boolean properties, String schemaName, JsonNode schema) {
+        visitor.visitSchema(schemaName);
+        JsonNode propertyNodes = schema.path("properties");
+        if (propertyNodes.isObject() && properties) {
+            propertyNodes.fields().forEachRemaining(entry -> visitor.visitSchemaProperty(schemaName, entry.getKey(),
+                    new PropertyNode(text(entry.getValue(), "$ref"), entry.getValue().hasNonNull("example"))));
+        }
+    }
+
+    private void walkPathItem(OpenApiVisitor visitor, Set<NodeType> nodeTypes, String path, PathItem pathItem) {
+        if (pathItem == null) {
+            return;
+        }
+        if (pathItem.get$ref() != null && refResolver != null) {
+            URI target = RefResolver.resolveUri(refResolver.getSpecLocation(), pathItem.get$ref());
+            if (target != null) {
+                walkPathItem(visitor, nodeTypes, path, RefResolver.documentOf(target), refResolver.resolve(target));
+                return;
+            }
+        }
+        // In the order of PathItem.getOperations() of MicroProfile, which is not the one of readOperationsMap()
+        walkOperation(visitor, nodeTypes, path, HttpMethod.GET, pathItem.getGet());
+        walkOperation(visitor, nodeTypes, path, HttpMethod.PUT, pathItem.getPut());
+        walkOperation(visitor, nodeTypes, path, HttpMethod.POST, pathItem.getPost());
+        walkOperation(visitor, nodeTypes, path, HttpMethod.DELETE, pathItem.getDelete());
+        walkOperation(visitor, nodeTypes, path, HttpMethod.OPTIONS, pathItem.getOptions());
+        walkOperation(visitor, nodeTypes, path, HttpMethod.HEAD, pathItem.getHead());
+        walkOperation(visitor, nodeTypes, path, HttpMethod.PATCH, pathItem.getPatch());
+        walkOperation(visitor, nodeTypes, path, HttpMethod.TRACE, pathItem.getTrace());
+        visitor.visitPathItem(path);
+    }
+
+    private void walkOperation(OpenApiVisitor visitor, Set<NodeType> nodeTypes, String path, HttpMethod method, Operation operation) {
+        if (operation == null) {
+            return;
+        }
+        if (nodeTypes.contains(NodeType.OPERATION)) {
+            visitor.visitOperation(path, method, new OperationNode(operation.getOperationId(), operation.getDescription(),
+                    operation.getSummary(), operation.getTags()));
+        }
+        if (operation.getParameters() != null && nodeTypes.contains(NodeType.PARAMETER)) {
+            for (Parameter parameter : operation.getParameters()) {
+                visitor.visitParameter(path, method, toParameterNode(parameter));
+            }
+        }
+    }
+
+    private ParameterNode toParameterNode(Parameter parameter) {
+        String ref = parameter.get$ref();
+        if (ref != null && refResolver != null) {
+            if (ref.startsWith(LOCAL_PARAMETER_PREFIX)) {
+                Parameter referenced = openAPI.getComponents() == null || openAPI.getComponents().getParameters() == null
+                        ? null : openAPI.getComponents().getParameters().get(ref.substring(LOCAL_PARAMETER_PREFIX.length()));
+                if (referenced != null && referenced.get$ref() == null) {
+                    return new ParameterNode(referenced.getName(), toIn(referenced.getIn()), null);
+                }
+            } else if (!ref.startsWith("#")) {
+                return toParameterNode(refResolver.getSpecLocation(), parameter.getName(), ref);
+            }
+        }
+        return new ParameterNode(parameter.getName(), toIn(parameter.getIn()), ref);
+    }
+
+    /**
+     * Walks a path item of another document, whose references are relative to this document.
+     */
+    private void walkPathItem(OpenApiVisitor visitor, Set<NodeType> nodeTypes, String path, URI document, JsonNode pathItem) {
+        for (String method : OPERATION_ORDER) {
+            JsonNode operation = pathItem.path(method);
+            if (operation.isObject()) {
+                walkOperation(visitor, nodeTypes, path, HttpMethod.valueOf(method.toUpperCase(Locale.ROOT)), document, operation);
+            }
+        }
+        visitor.visitPathItem(path);
+    }
+
+    private void walkOperation(OpenApiVisitor visitor, Set<NodeType> nodeTypes, String path, HttpMethod method, URI document, JsonNode operation) {
+        if (nodeTypes.contains(NodeType.OPERATION)) {
+            List<String> tags = null;
+            if (operation.path("tags").isArray()) {
+                tags = new ArrayList<>();
+                for (JsonNode tag : operation.get("tags")) {
+                    tags.add(tag.asText());
+                }
+            }
+            visitor.visitOperation(path, method, new OperationNode(text(operation, "operationId"), text(operation, "description"),
+                    text(operation, "summary"), tags));
+        }
+        if (!nodeTypes.contains(NodeType.PARAMETER)) {
+            return;
+        }
+        for (JsonNode parameter : operation.path("parameters")) {
+            String ref = text(parameter, "$ref");
+            visitor.visitParameter(path, method, ref == null
+                    ? new ParameterNode(text(parameter, "name"), toIn(text(parameter, "in")), null)
+                    : toParameterNode(document, text(parameter, "name"), ref));
+        }
+    }
+
+    /**
+     * @return the referenced parameter, or the reference itself when it cannot be resolved
+     */
+    private ParameterNode toParameterNode(URI document, String name, String ref) {
+        URI target = RefResolver.resolveUri(document, ref);
+        JsonNode parameter = target == null ? null : refResolver.resolve(target);
+        if (parameter == null || !parameter.isObject() || parameter.has("$ref")) {
+            return new ParameterNode(name, null, ref);
+        }
+        return new ParameterNode(text(parameter, "name"), toIn(text(parameter, "in")), null);
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() || value.isContainerNode() ? null : value.asText();
+    }
+
+    private static In toIn(String in) {
+        for (In value : In.values()) {
+            if (value.toString().equals(in)) {
+                return value;
+            }
+        }
+        return null;
+    }
+}
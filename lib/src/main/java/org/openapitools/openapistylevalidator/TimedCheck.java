@@ -0,0 +1,61 @@
+package org.openapitools.openapistylevalidator;
+
+import org.eclipse.microprofile.openapi.models.PathItem;
+
+/**
+ * Reports the time spent in each visit of a check to a {@link ValidationListener}, as a part of the given phase.
+ */
+class TimedCheck implements OpenApiVisitor {
+
+    private final ValidationPhase phase;
+    private final OpenApiVisitor check;
+    private final ValidationListener listener;
+
+    TimedCheck(ValidationPhase phase, OpenApiVisitor check, ValidationListener listener) {
+        this.phase = phase;
+        this.check = check;
+        this.listener = listener;
+    }
+
+    @Override
+    public void visitInfo(InfoNode info) {
+        long start = System.nanoTime();
+        check.visitInfo(info);
+        listener.phaseTimed(phase, System.nanoTime() - start);
+    }
+
+    @Override
+    public void visitSchema(String schemaName) {
+        long start = System.nanoTime();
+        check.visitSchema(schemaName);
+        listener.phaseTimed(phase, System.nanoTime() - start);
+    }
+
+    @Override
+    public void visitSchemaProperty(String schemaName, String propertyName, PropertyNode property) {
+        long start = System.nanoTime();
+        check.visitSchemaProperty(schemaName, propertyName, property);
+        listener.phaseTimed(phase, System.nanoTime() - start);
+    }
+
+    @Override
+    public void visitOperation(String path, PathItem.HttpMethod method, OperationNode operation) {
+        long start = System.nanoTime();
+        check.visitOperation(path, method, operation);
+        listener.phaseTimed(phase, System.nanoTime() - start);
+    }
+
+    @Override
+    public void visitParameter(String path, PathItem.HttpMethod method, ParameterNode parameter) {
+        long start = System.nanoTime();
+        check.visitParameter(path, method, parameter);
+        listener.phaseTimed(phase, System.nanoTime() - start);
+    }
+
+    @Override
+    public void visitPathItem(String path) {
+        long start = System.nanoTime();
+        check.visitPathItem(path);
+        listener.phaseTimed(phase, System.nanoTime() - start);
+    }
+}
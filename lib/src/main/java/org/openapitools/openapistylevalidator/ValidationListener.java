@@ -0,0 +1,32 @@
+package org.openapitools.openapistylevalidator;
+
+import org.openapitools.openapistylevalidator.ValidatorParameters.NamingConvention;
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+/**
+ * Receives the measures of a validation, see {@link OpenApiSpecStyleValidator#setListener(ValidationListener)} and
+ * {@link ValidationMetrics}.
+ * <p>
+ * In parallel mode, the methods are called concurrently from the threads of the pool.
+ */
+public interface ValidationListener {
+
+    /**
+     * Called once per phase, or once per visited node for the phases of the checks.
+     */
+    default void phaseTimed(ValidationPhase phase, long durationNanos) {
+    }
+
+    /**
+     * Called for the info section, each component schema and schema property, each path item, operation and
+     * parameter.
+     */
+    default void nodeVisited() {
+    }
+
+    default void nameChecked(NamingConvention namingConvention, boolean valid) {
+    }
+
+    default void errorEmitted(StyleError error) {
+    }
+}
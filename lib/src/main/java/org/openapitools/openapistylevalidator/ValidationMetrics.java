@@ -0,0 +1,147 @@
+package org.openapitools.openapistylevalidator;
+
+import org.openapitools.openapistylevalidator.ValidatorParameters.NamingConvention;
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+import org.openapitools.openapistylevalidator.styleerror.StyleError.StyleCheckSection;
+
+import java.io.Serializable;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ValidationListener} that adds up the measures of a validation: the wall time of each
+ * {@link ValidationPhase}, the number of visited nodes, of checked names and of errors per {@link StyleCheckSection}.
+ * <p>
+ * It can be shared by concurrent validations, and rendered as text or as json.
+ */
+public class ValidationMetrics implements ValidationListener, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final Map<ValidationPhase, LongAdder> phaseNanos = new EnumMap<>(ValidationPhase.class);
+    private final LongAdder nodesVisited = new LongAdder();
+    private final LongAdder namesChecked = new LongAdder();
+    private final LongAdder invalidNames = new LongAdder();
+    private final Map<StyleCheckSection, LongAdder> errors = new EnumMap<>(StyleCheckSection.class);
+
+    public ValidationMetrics() {
+        for (ValidationPhase phase : ValidationPhase.values()) {
+            phaseNanos.put(phase, new LongAdder());
+        }
+        for (StyleCheckSection section : StyleCheckSection.values()) {
+            errors.put(section, new LongAdder());
+        }
+    }
+
+    @Override
+    public void phaseTimed(ValidationPhase phase, long durationNanos) {
+        phaseNanos.get(phase).add(durationNanos);
+    }
+
+    @Override
+    public void nodeVisited() {
+        nodesVisited.increment();
+    }
+
+    @Override
+    public void nameChecked(NamingConvention namingConvention, boolean valid) {
+        namesChecked.increment();
+        if (!valid) {
+            invalidNames.increment();
+        }
+    }
+
+    @Override
+    public void errorEmitted(StyleError error) {
+        errors.get(error.getStyleCheckSection()).increment();
+    }
+
+    public long getPhaseNanos(ValidationPhase phase) {
+        return phaseNanos.get(phase).sum();
+    }
+
+    public long getNodesVisited() {
+        return nodesVisited.sum();
+    }
+
+    public long getNamesChecked() {
+        return namesChecked.sum();
+    }
+
+    public long getInvalidNames() {
+        return invalidNames.sum();
+    }
+
+    public long getErrorCount(StyleCheckSection section) {
+        return errors.get(section).sum();
+    }
+
+    /**
+     * @return the measures as a json object, with the durations in nanoseconds
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{\"phaseNanos\":{");
+        for (ValidationPhase phase : ValidationPhase.values()) {
+            json.append('"').append(phase).append("\":").append(getPhaseNanos(phase)).append(',');
+        }
+        json.setLength(json.length() - 1);
+        json.append("},\"nodesVisited\":").append(getNodesVisited())
+                .append(",\"namesChecked\":").append(getNamesChecked())
+                .append(",\"invalidNames\":").append(getInvalidNames())
+                .append(",\"errors\":{");
+        for (StyleCheckSection section : StyleCheckSection.values()) {
+            json.append('"').append(section).append("\":").append(getErrorCount(section)).append(',');
+        }
+        json.setLength(json.length() - 1);
+        return json.append("}}").toString();
+    }
+
+    /**
+     * @return a json object with the measures of each spec, in the order of the map
+     */
+    public static String toJson(Map<String, ValidationMetrics> metricsBySpec) {
+        StringBuilder json = new StringBuilder("{");
+        for (Map.Entry<String, ValidationMetrics> entry : metricsBySpec.entrySet()) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append('"');
+            appendEscaped(json, entry.getKey());
+            json.append("\":").append(entry.getValue().toJson());
+        }
+        return json.append('}').toString();
+    }
+
+    private static void appendEscaped(StringBuilder json, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+    }
+
+    /**
+     * @return the measures as text, with the durations in milliseconds
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("Phases (ms):");
+        for (ValidationPhase phase : ValidationPhase.values()) {
+            text.append(' ').append(phase.name().toLowerCase(Locale.ROOT)).append('=')
+                    .append(String.format(Locale.ROOT, "%.3f", getPhaseNanos(phase) / (double) TimeUnit.MILLISECONDS.toNanos(1)));
+        }
+        text.append(String.format("%nNodes visited: %d, names checked: %d (%d invalid)%nErrors:",
+                getNodesVisited(), getNamesChecked(), getInvalidNames()));
+        for (StyleCheckSection section : StyleCheckSection.values()) {
+            text.append(' ').append(section).append('=').append(getErrorCount(section));
+        }
+        return text.toString();
+    }
+}
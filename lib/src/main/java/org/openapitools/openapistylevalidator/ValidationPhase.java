@@ -0,0 +1,19 @@
+package org.openapitools.openapistylevalidator;
+
+/**
+ * The stages of a validation timed by a {@link ValidationListener}.
+ * <p>
+ * {@link #PARSING} is timed by the front ends, which read the spec. The other phases are timed
+ * by {@link OpenApiSpecStyleValidator}: {@link #VALIDATION} is the whole walk of the model, and the time spent in
+ * each check ({@link #INFO}, {@link #OPERATIONS}, {@link #MODELS}, {@link #NAMING} and all the {@link StyleRule} in
+ * {@link #RULES}) is a part of it.
+ */
+public enum ValidationPhase {
+    PARSING,
+    VALIDATION,
+    INFO,
+    OPERATIONS,
+    MODELS,
+    NAMING,
+    RULES
+}
@@ -0,0 +1,109 @@
+package org.openapitools.openapistylevalidator;
+
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The errors of a specification, kept by the node which owns them (the info section, a schema or a path item), so
+ * that the nodes which change can be validated again with
+ * {@link OpenApiSpecStyleValidator#revalidate(ValidationResult, Set, Set)} without validating the others.
+ * <p>
+ * A result is immutable: validating nodes again returns a new result, which shares the errors of the other nodes
+ * with this one.
+ */
+public final class ValidationResult {
+
+    private static final Comparator<StyleError> BY_SECTION = Comparator.comparing(StyleError::getStyleCheckSection);
+
+    private final ValidatorParameters parameters;
+    private final List<StyleError> infoErrors;
+    private final Map<String, List<StyleError>> schemaErrors;
+    private final Map<String, List<StyleError>> pathErrors;
+    private List<StyleError> errors;
+
+    private ValidationResult(ValidatorParameters parameters, List<StyleError> infoErrors,
+                             Map<String, List<StyleError>> schemaErrors, Map<String, List<StyleError>> pathErrors) {
+        this.parameters = parameters;
+        this.infoErrors = infoErrors;
+        this.schemaErrors = schemaErrors;
+        this.pathErrors = pathErrors;
+    }
+
+    static ValidationResult of(ValidatorParameters parameters, NodeErrors nodeErrors) {
+        return new ValidationResult(parameters, nodeErrors.getInfoErrors(), nodeErrors.getSchemaErrors(), nodeErrors.getPathErrors());
+    }
+
+    /**
+     * @param nodeErrors the errors of the info section and of the given schemas and paths, validated again
+     * @return the result with the errors of these nodes replaced, the nodes which are no more in the specification
+     * having no errors
+     */
+    ValidationResult update(NodeErrors nodeErrors, Set<String> schemaNames, Set<String> paths) {
+        return new ValidationResult(parameters, nodeErrors.getInfoErrors(),
+                update(schemaErrors, nodeErrors.getSchemaErrors(), schemaNames),
+                update(pathErrors, nodeErrors.getPathErrors(), paths));
+    }
+
+    /**
+     * The nodes which had errors keep their place, and the others are added at the end.
+     */
+    private static Map<String, List<StyleError>> update(Map<String, List<StyleError>> errors,
+                                                        Map<String, List<StyleError>> newErrors, Set<String> nodes) {
+        Map<String, List<StyleError>> updatedErrors = new LinkedHashMap<>(errors);
+        for (String node : nodes) {
+            List<StyleError> nodeErrors = newErrors.get(node);
+            if (nodeErrors == null) {
+                updatedErrors.remove(node);
+            } else {
+                updatedErrors.put(node, nodeErrors);
+            }
+        }
+        return updatedErrors;
+    }
+
+    /**
+     * @return the parameters of the validation, which are used again to validate the nodes which change
+     */
+    public ValidatorParameters getParameters() {
+        return parameters;
+    }
+
+    /**
+     * @return all the errors, section by section, and node by node in each section
+     */
+    public synchronized List<StyleError> getErrors() {
+        if (errors == null) {
+            List<StyleError> allErrors = new ArrayList<>(infoErrors);
+            schemaErrors.values().forEach(allErrors::addAll);
+            pathErrors.values().forEach(allErrors::addAll);
+            allErrors.sort(BY_SECTION);
+            errors = Collections.unmodifiableList(allErrors);
+        }
+        return errors;
+    }
+
+    public List<StyleError> getInfoErrors() {
+        return Collections.unmodifiableList(infoErrors);
+    }
+
+    /**
+     * @return the errors of the properties and of the naming of a schema
+     */
+    public List<StyleError> getSchemaErrors(String schemaName) {
+        return Collections.unmodifiableList(schemaErrors.getOrDefault(schemaName, Collections.emptyList()));
+    }
+
+    /**
+     * @return the errors of the operations, of the parameters and of the naming of a path item
+     */
+    public List<StyleError> getPathErrors(String path) {
+        return Collections.unmodifiableList(pathErrors.getOrDefault(path, Collections.emptyList()));
+    }
+}
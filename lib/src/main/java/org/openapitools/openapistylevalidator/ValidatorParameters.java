@@ -1,6 +1,10 @@
 package org.openapitools.openapistylevalidator;
 
-public class ValidatorParameters {
+import java.io.Serializable;
+
+public class ValidatorParameters implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     public static final String VALIDATE_INFO_LICENSE = "validateInfoLicense";
     public static final String VALIDATE_INFO_DESCRIPTION = "validateInfoDescription";
     public static final String VALIDATE_INFO_CONTACT = "validateInfoContact";
@@ -19,6 +23,9 @@ public class ValidatorParameters {
     public static final String PARAMETER_NAMING_CONVENTION = "parameterNamingConvention";
     public static final String PROPERTY_NAMING_CONVENTION = "propertyNamingConvention";
 
+    public static final String FAIL_FAST = "failFast";
+    public static final String MAX_ERRORS = "maxErrors";
+
     public static enum NamingConvention {
         UnderscoreCase("underscore_case"),
         CamelCase("camelCase"),
@@ -89,6 +96,9 @@ public class ValidatorParameters {
     private NamingConvention parameterNamingConvention = NamingConvention.CamelCase;
     private NamingConvention propertyNamingConvention= NamingConvention.CamelCase;
 
+    private boolean failFast = false;
+    private int maxErrors = 0;
+
     public ValidatorParameters() {
         //For Gson
     }
@@ -246,10 +256,47 @@ public class ValidatorParameters {
         return this;
     }
 
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    /**
+     * @param failFast whether the validation stops at the first error, as with a {@link #setMaxErrors(int) maxErrors}
+     *                 of 1
+     */
+    public ValidatorParameters setFailFast(boolean failFast) {
+        this.failFast = failFast;
+        return this;
+    }
+
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    /**
+     * @param maxErrors the number of errors after which the validation stops walking the spec, or 0 to find all the
+     *                  errors (see {@link #getErrorBudget()} for the errors which are kept)
+     */
+    public ValidatorParameters setMaxErrors(int maxErrors) {
+        this.maxErrors = maxErrors;
+        return this;
+    }
+
+    /**
+     * The errors are counted in the order the nodes of the spec are walked, not in the order of the report, which
+     * sorts them by section: the errors kept are the first ones found, which are not always the first ones of the
+     * full report.
+     *
+     * @return the number of errors after which the validation stops, or 0 when it finds all the errors
+     */
+    public int getErrorBudget() {
+        return failFast ? 1 : Math.max(0, maxErrors);
+    }
+
     @Override
     public String toString() {
         return String.format(
-                "ValidatorParameters [validateInfoLicense=%s, validateInfoDescription=%s, validateInfoContact=%s, validateOperationOperationId=%s, validateOperationDescription=%s, validateOperationTag=%s, validateOperationSummary=%s, validateModelPropertiesExample=%s, validateModelNoLocalDef=%s, validateNaming=%s, ignoreHeaderXNaming=%s, pathNamingConvention=%s, parameterNamingConvention=%s, propertyNamingConvention=%s]",
+                "ValidatorParameters [validateInfoLicense=%s, validateInfoDescription=%s, validateInfoContact=%s, validateOperationOperationId=%s, validateOperationDescription=%s, validateOperationTag=%s, validateOperationSummary=%s, validateModelPropertiesExample=%s, validateModelNoLocalDef=%s, validateNaming=%s, ignoreHeaderXNaming=%s, pathNamingConvention=%s, parameterNamingConvention=%s, propertyNamingConvention=%s, failFast=%s, maxErrors=%s]",
                 validateInfoLicense, 
                 validateInfoDescription, 
                 validateInfoContact, 
@@ -263,6 +310,8 @@ public class ValidatorParameters {
                 ignoreHeaderXNaming,
                 pathNamingConvention, 
                 parameterNamingConvention,
-                propertyNamingConvention);
+                propertyNamingConvention,
+                failFast,
+                maxErrors);
     }
 }
@@ -0,0 +1,147 @@
+package org.openapitools.openapistylevalidator.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * An in-memory cache of the documents referenced with {@code $ref} (see
+ * {@link org.openapitools.openapistylevalidator.RefResolver}), so that the documents shared by several specs are
+ * parsed once while they do not change.
+ * <p>
+ * The entries are keyed by the real path of the file, and are parsed again when its modification time or its size
+ * changes. The least recently used ones are evicted when the sizes of their files add up to more than the limit. A
+ * document requested by several threads at once is parsed by one of them only.
+ */
+public class ParsedDocumentCache {
+
+    /**
+     * The limit of {@link #shared()}, in bytes of yaml or json.
+     */
+    public static final long DEFAULT_MAX_BYTES = 16L * 1024 * 1024;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper(new YAMLFactory());
+    private static final ParsedDocumentCache SHARED = new ParsedDocumentCache(DEFAULT_MAX_BYTES);
+
+    private final long maxBytes;
+    private final Map<Path, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * @param maxBytes the limit of the sizes of the cached files, beyond which the least recently used are evicted
+     */
+    public ParsedDocumentCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * @return the cache shared by all the validations of the process
+     */
+    public static ParsedDocumentCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * @return the parsed document, which must not be modified
+     */
+    public JsonNode get(Path file) throws IOException {
+        Path realPath = file.toRealPath();
+        long lastModified = Files.getLastModifiedTime(realPath).toMillis();
+        long size = Files.size(realPath);
+
+        Entry entry;
+        boolean parse = false;
+        synchronized (this) {
+            entry = entries.get(realPath);
+            if (entry != null && entry.lastModified == lastModified && entry.size == size) {
+                hitCount++;
+            } else {
+                missCount++;
+                if (entry != null) {
+                    remove(realPath);
+                }
+                entry = new Entry(lastModified, size);
+                if (size <= maxBytes) {
+                    entries.put(realPath, entry);
+                    bytes += size;
+                    evict();
+                }
+                parse = true;
+            }
+        }
+
+        if (parse) {
+            try (InputStream input = Files.newInputStream(realPath)) {
+                entry.document.complete(MAPPER.readTree(input));
+            } catch (IOException | RuntimeException e) {
+                synchronized (this) {
+                    if (entries.get(realPath) == entry) {
+                        remove(realPath);
+                    }
+                }
+                entry.document.completeExceptionally(e);
+            }
+        }
+        try {
+            return entry.document.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void remove(Path realPath) {
+        bytes -= entries.remove(realPath).size;
+    }
+
+    private void evict() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (bytes > maxBytes && iterator.hasNext()) {
+            bytes -= iterator.next().size;
+            iterator.remove();
+        }
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the number of cached documents
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        private final long lastModified;
+        private final long size;
+        private final CompletableFuture<JsonNode> document = new CompletableFuture<>();
+
+        private Entry(long lastModified, long size) {
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.openapitools.openapistylevalidator.cache;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Finds the local files a spec depends on through its {@code $ref}s, without loading it.
+ * <p>
+ * The spec and its dependencies are read as a stream of yaml or json tokens, so that large specs are never loaded,
+ * and the values of their {@code $ref} keys are resolved as URIs, like the references of the validator.
+ */
+public final class RefDependencies {
+
+    private static final YAMLFactory YAML_FACTORY = new YAMLFactory();
+
+    private RefDependencies() {
+    }
+
+    /**
+     * Finds the dependencies which can be watched: the references to remote documents and to missing files are left
+     * out.
+     *
+     * @return the spec followed by all the local files it references, directly or transitively, in the order in which
+     * they are found
+     */
+    public static Set<Path> of(Path spec) throws IOException {
+        return find(spec, false);
+    }
+
+    /**
+     * Finds all the dependencies, which must all be local files, so that the result of the validation can be cached.
+     *
+     * @return the spec followed by all the local files it references, directly or transitively, in the order in which
+     * they are found
+     * @throws IOException when a file cannot be read, or when a reference is remote or points to a missing file: the
+     *                     content the result depends on is then unknown
+     */
+    public static Set<Path> ofAll(Path spec) throws IOException {
+        return find(spec, true);
+    }
+
+    private static Set<Path> find(Path spec, boolean all) throws IOException {
+        Set<Path> files = new LinkedHashSet<>();
+        Deque<Path> toScan = new ArrayDeque<>();
+        toScan.add(spec.toAbsolutePath().normalize());
+        while (!toScan.isEmpty()) {
+            Path file = toScan.poll();
+            if (!files.add(file)) {
+                continue;
+            }
+            for (String target : findTargets(file)) {
+                Path dependency = toLocalFile(file, target);
+                if (dependency == null) {
+                    if (all) {
+                        throw new IOException(String.format("The $ref '%s' of %s is not a local file", target, file));
+                    }
+                } else if (!files.contains(dependency)) {
+                    toScan.add(dependency);
+                }
+            }
+        }
+        return files;
+    }
+
+    /**
+     * @return the file the reference points to, the file itself for a reference inside it, or {@code null} when it is
+     * not an existing local file
+     */
+    private static Path toLocalFile(Path file, String target) {
+        try {
+            URI uri = file.toUri().resolve(new URI(target));
+            if (!"file".equalsIgnoreCase(uri.getScheme())) {
+                return null;
+            }
+            Path dependency = Paths.get(new URI(uri.getScheme(), uri.getSchemeSpecificPart(), null)).normalize();
+            return Files.isRegularFile(dependency) ? dependency : null;
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the values of the {@code $ref}s of the file, in order
+     */
+    private static List<String> findTargets(Path file) throws IOException {
+        List<String> targets = new ArrayList<>();
+        try (InputStream input = Files.newInputStream(file);
+             JsonParser parser = YAML_FACTORY.createParser(input)) {
+            for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+                // A property named $ref has an object as value, which is walked as any other
+                if (token == JsonToken.FIELD_NAME && "$ref".equals(parser.getCurrentName())
+                        && parser.nextToken() == JsonToken.VALUE_STRING) {
+                    targets.add(parser.getText());
+                }
+            }
+        }
+        return targets;
+    }
+}
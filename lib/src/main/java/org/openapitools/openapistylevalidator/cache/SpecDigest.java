@@ -0,0 +1,174 @@
+package org.openapitools.openapistylevalidator.cache;
+
+import org.openapitools.openapistylevalidator.OpenApiSpecStyleValidator;
+import org.openapitools.openapistylevalidator.StyleRule;
+import org.openapitools.openapistylevalidator.ValidatorParameters;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Computes a SHA-256 hash of everything the result of the validation of a spec depends on: the version of the
+ * library, whose checks may change, the content of the spec, the content of the local files it references with
+ * {@code $ref} (see {@link RefDependencies}), the effective {@link ValidatorParameters}, which decide the checks
+ * which run, and the enabled rules found in the class path (see {@link StyleRule}).
+ */
+public final class SpecDigest {
+
+    /**
+     * Part of every digest, to be changed when the validation rules or the stored results change.
+     */
+    private static final String FORMAT_VERSION = "2";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String LIBRARY_VERSION = readLibraryVersion();
+
+    private static final Map<Class<?>, String> RULE_FINGERPRINTS = new ConcurrentHashMap<>();
+
+    private SpecDigest() {
+    }
+
+    /**
+     * @return the digest as a lower case hexadecimal string
+     */
+    public static String of(Path spec, ValidatorParameters parameters) throws IOException {
+        return of(spec, parameters, false);
+    }
+
+    /**
+     * @param streaming whether the spec is validated while it is read, which does not follow its {@code $ref}, so
+     *                  that the result may differ from the one of the parsed spec
+     * @return the digest as a lower case hexadecimal string
+     * @throws IOException when the spec or a file it references cannot be read, or when it references a remote
+     *                     document or a missing file (see {@link RefDependencies#ofAll(Path)}): its result must not be
+     *                     cached then
+     */
+    public static String of(Path spec, ValidatorParameters parameters, boolean streaming) throws IOException {
+        return of(spec, parameters, streaming, OpenApiSpecStyleValidator.getDiscoveredRules());
+    }
+
+    static String of(Path spec, ValidatorParameters parameters, boolean streaming, List<StyleRule> rules) throws IOException {
+        MessageDigest digest = newDigest();
+        update(digest, FORMAT_VERSION);
+        update(digest, LIBRARY_VERSION);
+        update(digest, parameters.toString());
+        if (streaming) {
+            update(digest, "streaming");
+        }
+        for (StyleRule rule : rules) {
+            if (rule.isEnabled(parameters)) {
+                update(digest, rule.getClass().getName());
+                update(digest, RULE_FINGERPRINTS.computeIfAbsent(rule.getClass(), SpecDigest::fingerprint));
+            }
+        }
+        Path base = spec.toAbsolutePath().normalize().getParent();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        for (Path file : RefDependencies.ofAll(spec)) {
+            update(digest, base.relativize(file).toString());
+            update(digest, Long.toString(Files.size(file)));
+            try (InputStream input = Files.newInputStream(file)) {
+                update(digest, input, buffer);
+            }
+        }
+        return toHex(digest);
+    }
+
+    /**
+     * @return the implementation version of the rule and a hash of the jar holding it, or of its class when it does
+     * not come from a jar. When neither can be read, a value which changes with every run, so that the results of
+     * the rule are not reused.
+     */
+    private static String fingerprint(Class<?> ruleClass) {
+        Package rulePackage = ruleClass.getPackage();
+        String version = rulePackage == null ? null : rulePackage.getImplementationVersion();
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try {
+            Path jar = jarOf(ruleClass);
+            try (InputStream input = jar != null
+                    ? Files.newInputStream(jar)
+                    : ruleClass.getResourceAsStream("/" + ruleClass.getName().replace('.', '/') + ".class")) {
+                if (input == null) {
+                    return UUID.randomUUID().toString();
+                }
+                update(digest, input, buffer);
+            }
+        } catch (IOException e) {
+            return UUID.randomUUID().toString();
+        }
+        return version + ":" + toHex(digest);
+    }
+
+    private static Path jarOf(Class<?> ruleClass) {
+        CodeSource codeSource = ruleClass.getProtectionDomain().getCodeSource();
+        URL location = codeSource == null ? null : codeSource.getLocation();
+        if (location == null || !"file".equals(location.getProtocol())) {
+            return null;
+        }
+        try {
+            Path path = Paths.get(location.toURI());
+            return Files.isRegularFile(path) ? path : null;
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void update(MessageDigest digest, InputStream input, byte[] buffer) throws IOException {
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+    }
+
+    private static String toHex(MessageDigest digest) {
+        StringBuilder hexDigest = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hexDigest.append(String.format("%02x", b));
+        }
+        return hexDigest.toString();
+    }
+
+    /**
+     * @return the version written in the jar of the library by the build, or a placeholder when the classes do not
+     * come from the jar
+     */
+    private static String readLibraryVersion() {
+        try (InputStream input = SpecDigest.class.getResourceAsStream("version.properties")) {
+            if (input != null) {
+                Properties properties = new Properties();
+                properties.load(input);
+                return properties.getProperty("version", "unknown");
+            }
+        } catch (IOException ignored) {
+        }
+        return "unknown";
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
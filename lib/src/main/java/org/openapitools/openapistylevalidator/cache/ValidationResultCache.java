@@ -0,0 +1,203 @@
+package org.openapitools.openapistylevalidator.cache;
+
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.openapitools.openapistylevalidator.ValidatorParameters;
+import org.openapitools.openapistylevalidator.styleerror.GenericStyleError;
+import org.openapitools.openapistylevalidator.styleerror.ModelNamingStyleError;
+import org.openapitools.openapistylevalidator.styleerror.ModelStyleError;
+import org.openapitools.openapistylevalidator.styleerror.OperationNamingStyleError;
+import org.openapitools.openapistylevalidator.styleerror.OperationStyleError;
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A persistent cache of validation results, stored as one file per entry in a directory.
+ * <p>
+ * The key of an entry is the {@link SpecDigest} of the spec and of the effective {@link ValidatorParameters}. A hit
+ * gives back the stored style errors without parsing the spec.
+ * <p>
+ * Only the style error classes are read back from an entry, any other class makes it unreadable. The entries which
+ * were not used for the longest time are deleted when the entries take more than the maximum size.
+ */
+public class ValidationResultCache {
+
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    private static final String ENTRY_EXTENSION = ".errors";
+
+    /**
+     * Bounds the memory allocated up front for the size read from an entry, which may be corrupted
+     */
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+
+    private static final Set<String> ALLOWED_CLASSES = new HashSet<>(Arrays.asList(
+            StyleError.class.getName(),
+            StyleError.StyleCheckSection.class.getName(),
+            GenericStyleError.class.getName(),
+            ModelNamingStyleError.class.getName(),
+            ModelStyleError.class.getName(),
+            OperationNamingStyleError.class.getName(),
+            OperationStyleError.class.getName(),
+            PathItem.HttpMethod.class.getName(),
+            Enum.class.getName(),
+            String.class.getName()));
+
+    private final Path directory;
+    private final long maxBytes;
+
+    public ValidationResultCache(Path directory) {
+        this(directory, DEFAULT_MAX_BYTES);
+    }
+
+    public ValidationResultCache(Path directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * @see SpecDigest#of(Path, ValidatorParameters)
+     */
+    public String computeKey(Path spec, ValidatorParameters parameters) throws IOException {
+        return SpecDigest.of(spec, parameters);
+    }
+
+    /**
+     * @see SpecDigest#of(Path, ValidatorParameters, boolean)
+     */
+    public String computeKey(Path spec, ValidatorParameters parameters, boolean streaming) throws IOException {
+        return SpecDigest.of(spec, parameters, streaming);
+    }
+
+    /**
+     * @return the stored style errors, or {@code null} when there is no (readable) entry for the key
+     */
+    public List<StyleError> get(String key) {
+        Path entry = entry(key);
+        try (InputStream input = Files.newInputStream(entry);
+             ObjectInputStream objectInput = new StyleErrorInputStream(input)) {
+            int size = objectInput.readInt();
+            if (size < 0) {
+                return null;
+            }
+            List<StyleError> errors = new ArrayList<>(Math.min(size, MAX_INITIAL_CAPACITY));
+            for (int i = 0; i < size; i++) {
+                errors.add((StyleError) objectInput.readObject());
+            }
+            touch(entry);
+            return errors;
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            return null;
+        }
+    }
+
+    public void put(String key, List<StyleError> errors) throws IOException {
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, key, ".tmp");
+        try {
+            try (OutputStream output = Files.newOutputStream(temporary);
+                 ObjectOutputStream objectOutput = new ObjectOutputStream(output)) {
+                objectOutput.writeInt(errors.size());
+                for (StyleError error : errors) {
+                    objectOutput.writeObject(error);
+                }
+            }
+            Files.move(temporary, entry(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        evict();
+    }
+
+    /**
+     * Deletes the least recently used entries until the entries take no more than the maximum size.
+     */
+    private void evict() throws IOException {
+        List<Path> entries;
+        try (Stream<Path> files = Files.list(directory)) {
+            entries = files.filter(file -> file.getFileName().toString().endsWith(ENTRY_EXTENSION))
+                    .collect(Collectors.toList());
+        }
+        List<CachedEntry> cachedEntries = new ArrayList<>(entries.size());
+        long totalBytes = 0;
+        for (Path entry : entries) {
+            try {
+                CachedEntry cachedEntry = new CachedEntry(entry, Files.size(entry), Files.getLastModifiedTime(entry));
+                cachedEntries.add(cachedEntry);
+                totalBytes += cachedEntry.size;
+            } catch (IOException e) {
+                // deleted by another process in the meantime
+            }
+        }
+        cachedEntries.sort(Comparator.comparing((CachedEntry cachedEntry) -> cachedEntry.lastUsed));
+        for (int i = 0; totalBytes > maxBytes && i < cachedEntries.size(); i++) {
+            Files.deleteIfExists(cachedEntries.get(i).path);
+            totalBytes -= cachedEntries.get(i).size;
+        }
+    }
+
+    private static void touch(Path entry) {
+        try {
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // the entry is only evicted sooner
+        }
+    }
+
+    private Path entry(String key) {
+        return directory.resolve(key + ENTRY_EXTENSION);
+    }
+
+    private static final class CachedEntry {
+        private final Path path;
+        private final long size;
+        private final FileTime lastUsed;
+
+        private CachedEntry(Path path, long size, FileTime lastUsed) {
+            this.path = path;
+            this.size = size;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+    /**
+     * Refuses to create any object but the style errors, so that a tampered entry can not run code of the classpath.
+     */
+    private static final class StyleErrorInputStream extends ObjectInputStream {
+
+        private StyleErrorInputStream(InputStream input) throws IOException {
+            super(input);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass description) throws IOException, ClassNotFoundException {
+            if (!ALLOWED_CLASSES.contains(description.getName())) {
+                throw new InvalidClassException(description.getName(), "not allowed in a cache entry");
+            }
+            return super.resolveClass(description);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+            throw new InvalidClassException("proxy classes are not allowed in a cache entry");
+        }
+    }
+}
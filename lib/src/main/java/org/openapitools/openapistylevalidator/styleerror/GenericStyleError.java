@@ -4,6 +4,8 @@ import java.util.Objects;
 
 public final class GenericStyleError extends StyleError {
 
+    private static final long serialVersionUID = 1L;
+
     private final String parentObjectName;
 
     public GenericStyleError(StyleCheckSection styleCheckSection, String parentObjectName, String fieldNames, @SuppressWarnings("SameParameterValue") String description) {
@@ -12,6 +14,10 @@ public final class GenericStyleError extends StyleError {
         this.parentObjectName = parentObjectName;
     }
 
+    public String getParentObjectName() {
+        return parentObjectName;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -4,6 +4,8 @@ import java.util.Objects;
 
 public final class ModelNamingStyleError extends StyleError {
 
+    private static final long serialVersionUID = 1L;
+
     private final String model;
 
     public ModelNamingStyleError(StyleCheckSection styleCheckSection, String fieldNames, String description, String model) {
@@ -11,6 +13,10 @@ public final class ModelNamingStyleError extends StyleError {
         this.model = model;
     }
 
+    public String getModel() {
+        return model;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
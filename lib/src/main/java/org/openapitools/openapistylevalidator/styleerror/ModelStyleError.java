@@ -4,6 +4,8 @@ import java.util.Objects;
 
 public final class ModelStyleError extends StyleError {
 
+    private static final long serialVersionUID = 1L;
+
     private final String modelName;
     private final String propertyName;
 
@@ -17,6 +19,14 @@ public final class ModelStyleError extends StyleError {
 
     }
 
+    public String getModelName() {
+        return modelName;
+    }
+
+    public String getPropertyName() {
+        return propertyName;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -6,6 +6,8 @@ import java.util.Objects;
 
 public final class OperationNamingStyleError extends StyleError {
 
+    private static final long serialVersionUID = 1L;
+
     private final String path;
     private final PathItem.HttpMethod method;
 
@@ -15,6 +17,17 @@ public final class OperationNamingStyleError extends StyleError {
         this.method = method;
     }
 
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return the method of the operation, or {@code null} when the error is in the path itself
+     */
+    public PathItem.HttpMethod getMethod() {
+        return method;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
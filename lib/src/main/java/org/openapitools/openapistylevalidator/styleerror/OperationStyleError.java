@@ -6,6 +6,8 @@ import java.util.Objects;
 
 public final class OperationStyleError extends StyleError {
 
+    private static final long serialVersionUID = 1L;
+
     private final String path;
     private final PathItem.HttpMethod method;
 
@@ -19,6 +21,14 @@ public final class OperationStyleError extends StyleError {
 
     }
 
+    public String getPath() {
+        return path;
+    }
+
+    public PathItem.HttpMethod getMethod() {
+        return method;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,6 +1,10 @@
 package org.openapitools.openapistylevalidator.styleerror;
 
-public class StyleError {
+import java.io.Serializable;
+
+public class StyleError implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     public enum StyleCheckSection {
         APIInfo,
@@ -21,6 +25,21 @@ public class StyleError {
         this.description = description;
     }
 
+    public StyleCheckSection getStyleCheckSection() {
+        return styleCheckSection;
+    }
+
+    public String getFieldNames() {
+        return fieldNames;
+    }
+
+    /**
+     * @return the description of the error, which is shared by all the errors of the same kind
+     */
+    public String getDescription() {
+        return description;
+    }
+
     @Override
     public String toString() {
         return String.format("*ERROR* Section: %s: '%s' -> %s",
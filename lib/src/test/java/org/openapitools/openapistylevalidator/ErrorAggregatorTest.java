@@ -3,9 +3,17 @@ package org.openapitools.openapistylevalidator;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
 import org.openapitools.openapistylevalidator.styleerror.StyleError;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ErrorAggregatorTest {
 
@@ -31,4 +39,94 @@ class ErrorAggregatorTest {
         );
     }
 
+    @Test
+    void errorsShouldBeSentToTheSinkWithoutBeingKept() {
+        //Arrange
+        List<StyleError> received = new ArrayList<>();
+        ErrorAggregator streamingErrorAggregator = new ErrorAggregator(received::add);
+
+        //Act
+        streamingErrorAggregator.logMissingOrEmptyModelAttribute("Pet", "name", "example");
+        streamingErrorAggregator.logMissingOrEmptyAttribute(StyleError.StyleCheckSection.APIInfo, "contact");
+
+        //Assert
+        Assertions.assertAll(
+                () -> assertEquals(2, received.size()),
+                () -> assertEquals(StyleError.StyleCheckSection.Models, received.get(0).getStyleCheckSection()),
+                () -> assertEquals(StyleError.StyleCheckSection.APIInfo, received.get(1).getStyleCheckSection()),
+                () -> assertEquals(0, streamingErrorAggregator.getErrorList().size())
+        );
+    }
+
+    @Test
+    void logShouldStopTheWalkOnceTheBudgetIsReached() {
+        //Arrange
+        ErrorAggregator limitedErrorAggregator = new ErrorAggregator(2);
+
+        //Act
+        limitedErrorAggregator.logMissingOrEmptyAttribute(StyleError.StyleCheckSection.APIInfo, "license");
+        boolean fullAfterFirstError = limitedErrorAggregator.isFull();
+        Executable secondError = () -> limitedErrorAggregator.logMissingOrEmptyAttribute(StyleError.StyleCheckSection.APIInfo, "contact");
+
+        //Assert
+        Assertions.assertAll(
+                () -> assertFalse(fullAfterFirstError),
+                () -> assertThrows(ErrorBudgetExhausted.class, secondError),
+                () -> assertTrue(limitedErrorAggregator.isFull()),
+                () -> assertEquals(2, limitedErrorAggregator.getErrorList().size())
+        );
+    }
+
+    @Test
+    void mergeShouldKeepTheErrorsOfTheOtherAggregatorUntilTheBudgetIsReached() {
+        //Arrange
+        ErrorAggregator limitedErrorAggregator = new ErrorAggregator(2);
+        limitedErrorAggregator.logMissingOrEmptyAttribute(StyleError.StyleCheckSection.APIInfo, "license");
+        errorAggregator.logMissingOrEmptyModelAttribute("Pet", "name", "example");
+        errorAggregator.logMissingOrEmptyModelAttribute("Owner", "name", "example");
+
+        //Act
+        limitedErrorAggregator.merge(errorAggregator);
+
+        //Assert
+        List<StyleError> errors = limitedErrorAggregator.getErrorList();
+        Assertions.assertAll(
+                () -> assertEquals(2, errors.size()),
+                () -> assertEquals("*ERROR* in Model 'Pet', property 'name', field 'example' -> This field should be present and not empty", errors.get(1).toString())
+        );
+    }
+
+    @Test
+    void getErrorListShouldOrderTheErrorsBySection() {
+        //Arrange
+
+        //Act
+        errorAggregator.logMissingOrEmptyModelAttribute("Pet", "name", "example");
+        errorAggregator.logMissingOrEmptyAttribute(StyleError.StyleCheckSection.APIInfo, "contact");
+
+        //Assert
+        Assertions.assertAll(
+                () -> assertEquals(StyleError.StyleCheckSection.APIInfo, errorAggregator.getErrorList().get(0).getStyleCheckSection()),
+                () -> assertEquals(StyleError.StyleCheckSection.Models, errorAggregator.getErrorList().get(1).getStyleCheckSection())
+        );
+    }
+
+    @Test
+    void logBadNamingShouldShareTheDescriptionOfTheErrors() {
+        //Arrange
+
+        //Act
+        errorAggregator.logOperationBadNaming("page_size", NamedElement.PARAMETER, ValidatorParameters.NamingConvention.CamelCase, "/pets", null);
+        errorAggregator.logOperationBadNaming("sort_order", NamedElement.PARAMETER, ValidatorParameters.NamingConvention.CamelCase, "/owners", null);
+        errorAggregator.logModelBadNaming("pet_id", NamedElement.PROPERTY, ValidatorParameters.NamingConvention.CamelCase, "Pet");
+
+        //Assert
+        List<StyleError> errors = errorAggregator.getErrorList();
+        Assertions.assertAll(
+                () -> assertEquals("parameter should be in camelCase", errors.get(0).getDescription()),
+                () -> assertSame(errors.get(0).getDescription(), errors.get(1).getDescription()),
+                () -> assertEquals("*ERROR* in path /owners 'sort_order' -> parameter should be in camelCase", errors.get(1).toString()),
+                () -> assertEquals("*ERROR* in model Pet 'pet_id' -> property should be in camelCase", errors.get(2).toString())
+        );
+    }
 }
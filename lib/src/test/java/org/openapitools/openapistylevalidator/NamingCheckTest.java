@@ -0,0 +1,74 @@
+package org.openapitools.openapistylevalidator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+class NamingCheckTest {
+
+    @Test
+    void visitPathItemShouldCheckEachSegmentOnceAndShareItsName() {
+        //Arrange
+        ErrorAggregator errorAggregator = new ErrorAggregator();
+        Map<String, NamingCheck.PathSegment> pathSegments = new HashMap<>();
+        ValidationMetrics metrics = new ValidationMetrics();
+        NamingCheck namingCheck = new NamingCheck(new ValidatorParameters(), errorAggregator, new NamingValidator(),
+                null, pathSegments, metrics);
+
+        //Act
+        namingCheck.visitPathItem("/my_api/v1/pets/{id}");
+        namingCheck.visitPathItem("/my_api/v1/owners");
+
+        //Assert
+        List<StyleError> errors = errorAggregator.getErrorList();
+        Assertions.assertAll(
+                () -> assertEquals(4, metrics.getNamesChecked()),
+                () -> assertEquals(new HashSet<>(Arrays.asList("my_api", "v1", "pets", "owners")), pathSegments.keySet()),
+                () -> assertEquals("*ERROR* in path /my_api/v1/pets/{id} 'my_api' -> path should be in hyphen-case", errors.get(0).toString()),
+                () -> assertEquals("*ERROR* in path /my_api/v1/owners 'my_api' -> path should be in hyphen-case", errors.get(1).toString()),
+                () -> assertSame(errors.get(0).getFieldNames(), errors.get(1).getFieldNames())
+        );
+    }
+
+    @Test
+    void validateShouldCheckEachPathSegmentOnceAndReportEachPath() {
+        //Arrange
+        Paths paths = OASFactory.createPaths();
+        for (int i = 0; i < 40; i++) {
+            paths.addPathItem("/my_api/v1/resource" + i + "/{id}", OASFactory.createPathItem());
+        }
+        OpenAPI openAPI = OASFactory.createOpenAPI().paths(paths);
+        ValidatorParameters parameters = new ValidatorParameters()
+                .setValidateInfoLicense(false)
+                .setValidateInfoDescription(false)
+                .setValidateInfoContact(false);
+
+        for (boolean parallel : Arrays.asList(false, true)) {
+            //Act
+            ValidationMetrics metrics = new ValidationMetrics();
+            List<StyleError> errors = new OpenApiSpecStyleValidator(openAPI).setListener(metrics).setParallel(parallel)
+                    .validate(parameters);
+
+            //Assert
+            assertEquals(40, errors.size());
+            assertEquals("*ERROR* in path /my_api/v1/resource0/{id} 'my_api' -> path should be in hyphen-case", errors.get(0).toString());
+            assertEquals("*ERROR* in path /my_api/v1/resource39/{id} 'my_api' -> path should be in hyphen-case", errors.get(39).toString());
+            // The segments shared by the paths may be checked by each parallel task
+            assertTrue(metrics.getNamesChecked() >= 2 + 40);
+            assertTrue(metrics.getNamesChecked() <= (parallel ? 2 * 2 : 2) + 40);
+        }
+    }
+}
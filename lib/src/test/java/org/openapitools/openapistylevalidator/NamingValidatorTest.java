@@ -169,4 +169,34 @@ class NamingValidatorTest {
         );
     }
 
-}
\ No newline at end of file
+    @Test
+    void edgeCasesShouldReturnFalse() {
+        //Arrange
+        String empty = "";
+        String camelCaseEndingWithCapital = "myV";
+        String camelCaseWithNonAsciiLetter = "my\u00e9Variable";
+        String hyphenCaseWithCapital = "my-Variable";
+        String underscoreCaseWithDoubleSeparator = "my__variable";
+
+        //Act
+        boolean actual1 = validator.isNamingValid(empty, ValidatorParameters.NamingConvention.CamelCase);
+        boolean actual2 = validator.isNamingValid(empty, ValidatorParameters.NamingConvention.HyphenCase);
+        boolean actual3 = validator.isNamingValid(empty, ValidatorParameters.NamingConvention.UnderscoreCase);
+        boolean actual4 = validator.isNamingValid(camelCaseEndingWithCapital, ValidatorParameters.NamingConvention.CamelCase);
+        boolean actual5 = validator.isNamingValid(camelCaseWithNonAsciiLetter, ValidatorParameters.NamingConvention.CamelCase);
+        boolean actual6 = validator.isNamingValid(hyphenCaseWithCapital, ValidatorParameters.NamingConvention.HyphenCase);
+        boolean actual7 = validator.isNamingValid(underscoreCaseWithDoubleSeparator, ValidatorParameters.NamingConvention.UnderscoreCase);
+
+        //Assert
+        Assertions.assertAll(
+                () -> assertFalse(actual1),
+                () -> assertFalse(actual2),
+                () -> assertFalse(actual3),
+                () -> assertFalse(actual4),
+                () -> assertFalse(actual5),
+                () -> assertFalse(actual6),
+                () -> assertFalse(actual7)
+        );
+    }
+
+}
@@ -0,0 +1,59 @@
+package org.openapitools.openapistylevalidator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.openapitools.openapistylevalidator.ValidatorParameters.NamingConvention;
+
+class NamingVerdictCacheTest {
+
+    private final NamingValidator namingValidator = new NamingValidator();
+
+    @Test
+    void isNamingValidShouldCheckEachNameOncePerConvention() {
+        NamingVerdictCache cache = new NamingVerdictCache();
+
+        assertTrue(cache.isNamingValid("createdAt", NamingConvention.CamelCase, namingValidator));
+        assertTrue(cache.isNamingValid("createdAt", NamingConvention.CamelCase, namingValidator));
+        assertFalse(cache.isNamingValid("createdAt", NamingConvention.HyphenCase, namingValidator));
+        assertFalse(cache.isNamingValid("created_at", NamingConvention.CamelCase, namingValidator));
+        assertFalse(cache.isNamingValid("created_at", NamingConvention.CamelCase, namingValidator));
+
+        assertEquals(2, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void isNamingValidShouldKeepAtMostTheMaximumNumberOfVerdicts() {
+        NamingVerdictCache cache = new NamingVerdictCache(2);
+
+        cache.isNamingValid("first", NamingConvention.CamelCase, namingValidator);
+        cache.isNamingValid("second", NamingConvention.CamelCase, namingValidator);
+        cache.isNamingValid("third", NamingConvention.CamelCase, namingValidator);
+        assertFalse(cache.isNamingValid("third_one", NamingConvention.CamelCase, namingValidator));
+
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void validateShouldShareTheCacheBetweenSpecs() {
+        NamingVerdictCache cache = new NamingVerdictCache();
+        io.swagger.v3.oas.models.OpenAPI openAPI = new io.swagger.v3.oas.models.OpenAPI()
+                .components(new io.swagger.v3.oas.models.Components()
+                        .addSchemas("Pet", new io.swagger.v3.oas.models.media.Schema<>()
+                                .addProperties("pet_id", new io.swagger.v3.oas.models.media.Schema<>()))
+                        .addSchemas("Owner", new io.swagger.v3.oas.models.media.Schema<>()
+                                .addProperties("pet_id", new io.swagger.v3.oas.models.media.Schema<>())));
+
+        int errors = new OpenApiSpecStyleValidator(openAPI).setNamingVerdictCache(cache).validate(new ValidatorParameters()).size();
+        int otherSpecErrors = new OpenApiSpecStyleValidator(openAPI).setNamingVerdictCache(cache).validate(new ValidatorParameters()).size();
+
+        assertEquals(errors, otherSpecErrors);
+        assertEquals(1, cache.getMissCount());
+        assertEquals(3, cache.getHitCount());
+    }
+}
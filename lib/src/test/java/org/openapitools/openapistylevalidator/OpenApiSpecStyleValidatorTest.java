@@ -3,11 +3,17 @@ package org.openapitools.openapistylevalidator;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.openapi.OASFactory;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.openapitools.openapistylevalidator.styleerror.StyleError;
 
@@ -44,6 +50,96 @@ class OpenApiSpecStyleValidatorTest {
         assertTrue(errors.size() == 0);
     }
 
+    @Test
+    void validateWithSinkShouldSendTheErrorsInTheOrderOfTheWalk() {
+        //Arrange
+        OpenAPI openAPI = createPetsOpenAPI();
+        List<StyleError> streamedErrors = new ArrayList<>();
+
+        //Act
+        new OpenApiSpecStyleValidator(openAPI).validate(new ValidatorParameters(), streamedErrors::add);
+
+        //Assert
+        assertEquals(Arrays.asList(
+                "*ERROR* Section: APIInfo: 'license' -> Should be present and not empty",
+                "*ERROR* Section: APIInfo: 'description' -> Should be present and not empty",
+                "*ERROR* Section: APIInfo: 'contact' -> Should be present and not empty",
+                "*ERROR* in Model 'Pet', property 'pet_name', field 'example' -> This field should be present and not empty",
+                "*ERROR* in model Pet 'pet_name' -> property should be in camelCase",
+                "*ERROR* in Operation GET /pet_items 'operationId' -> This field should be present and not empty",
+                "*ERROR* in Operation GET /pet_items 'description' -> This field should be present and not empty",
+                "*ERROR* in Operation GET /pet_items 'summary' -> This field should be present and not empty",
+                "*ERROR* in Operation GET /pet_items 'tags' -> The collection should be present and there should be at least one item in it",
+                "*ERROR* in path GET /pet_items 'page_size' -> parameter should be in camelCase",
+                "*ERROR* in path /pet_items 'pet_items' -> path should be in hyphen-case"),
+                toStrings(streamedErrors));
+    }
+
+    @Test
+    void validateWithMaxErrorsShouldKeepTheFirstErrorsOfTheWalkSortedBySection() {
+        //Arrange
+        OpenAPI openAPI = createPetsOpenAPI();
+        ValidatorParameters parameters = new ValidatorParameters().setMaxErrors(6);
+
+        //Act
+        List<StyleError> errors = new OpenApiSpecStyleValidator(openAPI).validate(parameters);
+        List<StyleError> streamedErrors = new ArrayList<>();
+        new OpenApiSpecStyleValidator(openAPI).validate(parameters, streamedErrors::add);
+
+        //Assert
+        Assertions.assertAll(
+                () -> assertEquals(Arrays.asList(
+                        "*ERROR* Section: APIInfo: 'license' -> Should be present and not empty",
+                        "*ERROR* Section: APIInfo: 'description' -> Should be present and not empty",
+                        "*ERROR* Section: APIInfo: 'contact' -> Should be present and not empty",
+                        "*ERROR* in Operation GET /pet_items 'operationId' -> This field should be present and not empty",
+                        "*ERROR* in Model 'Pet', property 'pet_name', field 'example' -> This field should be present and not empty",
+                        "*ERROR* in model Pet 'pet_name' -> property should be in camelCase"),
+                        toStrings(errors)),
+                () -> assertEquals(6, streamedErrors.size()),
+                () -> assertEquals("*ERROR* in Operation GET /pet_items 'operationId' -> This field should be present and not empty",
+                        streamedErrors.get(5).toString())
+        );
+    }
+
+    @Test
+    void validateWithFailFastShouldStopAtTheFirstError() {
+        //Arrange
+        OpenAPI openAPI = createPetsOpenAPI();
+        ValidatorParameters parameters = new ValidatorParameters().setFailFast(true).setMaxErrors(6);
+        ValidationMetrics metrics = new ValidationMetrics();
+
+        //Act
+        List<StyleError> errors = new OpenApiSpecStyleValidator(openAPI).setListener(metrics).validate(parameters);
+
+        //Assert
+        Assertions.assertAll(
+                () -> assertEquals(Collections.singletonList("*ERROR* Section: APIInfo: 'license' -> Should be present and not empty"),
+                        toStrings(errors)),
+                () -> assertEquals(1, metrics.getNodesVisited())
+        );
+    }
+
+    private static List<String> toStrings(List<StyleError> errors) {
+        return errors.stream().map(StyleError::toString).collect(Collectors.toList());
+    }
+
+    /**
+     * A spec with one error of each check and of each naming: the info section, a schema property, an operation, a
+     * parameter and a path.
+     */
+    private static OpenAPI createPetsOpenAPI() {
+        return OASFactory.createOpenAPI()
+                .info(OASFactory.createInfo().title("Pets").version("1.0"))
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/pet_items", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation()
+                                        .addParameter(OASFactory.createParameter().name("page_size").in(Parameter.In.QUERY)))))
+                .components(OASFactory.createComponents()
+                        .addSchema("Pet", OASFactory.createSchema()
+                                .addProperty("pet_name", OASFactory.createSchema())));
+    }
+
     private static OpenAPI createSimplePingOpenAPI() {
         return OASFactory.createOpenAPI()
                 .openapi("3.0.1")
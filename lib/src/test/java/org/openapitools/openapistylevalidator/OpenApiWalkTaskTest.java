@@ -0,0 +1,88 @@
+package org.openapitools.openapistylevalidator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openapitools.openapistylevalidator.styleerror.OperationStyleError;
+
+class OpenApiWalkTaskTest {
+
+    private final ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+
+    @AfterEach
+    void shutdownPool() {
+        forkJoinPool.shutdownNow();
+    }
+
+    @Test
+    void computeShouldMergeTheErrorsOfTheLeavesInTheOrderOfTheNodes() {
+        //Arrange
+        List<Consumer<OpenApiVisitor>> nodes = createPathItems(100);
+
+        //Act
+        ErrorAggregator errorAggregator = forkJoinPool.invoke(new OpenApiWalkTask(nodes, OpenApiWalkTaskTest::createWalker, 0));
+
+        //Assert
+        assertEquals(paths(100), pathsOf(errorAggregator));
+    }
+
+    @Test
+    void computeShouldKeepTheFirstErrorsOfTheNodesWithABudget() {
+        //Arrange
+        List<Consumer<OpenApiVisitor>> nodes = createPathItems(100);
+
+        //Act
+        ErrorAggregator errorAggregator = forkJoinPool.invoke(new OpenApiWalkTask(nodes, OpenApiWalkTaskTest::createWalker, 40));
+
+        //Assert
+        Assertions.assertAll(
+                () -> assertEquals(paths(40), pathsOf(errorAggregator)),
+                () -> assertTrue(errorAggregator.isFull())
+        );
+    }
+
+    /**
+     * @return path items which have one error each, in their order
+     */
+    private static List<Consumer<OpenApiVisitor>> createPathItems(int count) {
+        List<Consumer<OpenApiVisitor>> nodes = new ArrayList<>();
+        for (String path : paths(count)) {
+            nodes.add(visitor -> visitor.visitPathItem(path));
+        }
+        return nodes;
+    }
+
+    private static OpenApiWalker createWalker(ErrorAggregator errorAggregator) {
+        return new OpenApiWalker(Collections.singletonList(new OpenApiVisitor() {
+            @Override
+            public void visitPathItem(String path) {
+                errorAggregator.logMissingOrEmptyOperationAttribute(path, PathItem.HttpMethod.GET, "summary");
+            }
+        }));
+    }
+
+    private static List<String> paths(int count) {
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            paths.add("/path" + i);
+        }
+        return paths;
+    }
+
+    private static List<String> pathsOf(ErrorAggregator errorAggregator) {
+        return errorAggregator.getErrorList().stream()
+                .map(error -> ((OperationStyleError) error).getPath())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,105 @@
+package org.openapitools.openapistylevalidator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.junit.jupiter.api.Test;
+
+class OpenApiWalkerTest {
+
+    @Test
+    void walkShouldVisitEveryNodeOnceInOrder() {
+        OpenAPI openAPI = OASFactory.createOpenAPI()
+                .info(OASFactory.createInfo().title("Walker").version("1.0"))
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/ping", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation()
+                                        .addParameter(OASFactory.createParameter().name("id").in(Parameter.In.QUERY)))))
+                .components(OASFactory.createComponents()
+                        .addSchema("Pong", OASFactory.createSchema()
+                                .addProperty("name", OASFactory.createSchema())));
+
+        List<String> visited = walk(new MicroProfileModel(openAPI));
+
+        assertEquals(Arrays.asList(
+                "info",
+                "schema Pong",
+                "property Pong.name",
+                "operation GET /ping",
+                "parameter id",
+                "path /ping"), visited);
+    }
+
+    @Test
+    void walkSwaggerModelShouldVisitTheOperationsInTheOrderOfTheMicroProfileModel() {
+        io.swagger.v3.oas.models.OpenAPI openAPI = new io.swagger.v3.oas.models.OpenAPI()
+                .info(new io.swagger.v3.oas.models.info.Info().title("Walker").version("1.0"))
+                .paths(new io.swagger.v3.oas.models.Paths()
+                        .addPathItem("/ping", new io.swagger.v3.oas.models.PathItem()
+                                .patch(new io.swagger.v3.oas.models.Operation())
+                                .head(new io.swagger.v3.oas.models.Operation())
+                                .get(new io.swagger.v3.oas.models.Operation()
+                                        .addParametersItem(new io.swagger.v3.oas.models.parameters.Parameter().name("X-Id").in("header")))))
+                .components(new io.swagger.v3.oas.models.Components()
+                        .addSchemas("Pong", new io.swagger.v3.oas.models.media.Schema<>()
+                                .addProperties("name", new io.swagger.v3.oas.models.media.Schema<>())));
+
+        List<String> visited = walk(new SwaggerModel(openAPI));
+
+        assertEquals(Arrays.asList(
+                "info",
+                "schema Pong",
+                "property Pong.name",
+                "operation GET /ping",
+                "parameter X-Id in header",
+                "operation HEAD /ping",
+                "operation PATCH /ping",
+                "path /ping"), visited);
+    }
+
+    private static List<String> walk(OpenApiModel model) {
+        List<String> visited = new ArrayList<>();
+        OpenApiVisitor visitor = new OpenApiVisitor() {
+            @Override
+            public void visitInfo(InfoNode info) {
+                visited.add("info");
+            }
+
+            @Override
+            public void visitSchema(String schemaName) {
+                visited.add("schema " + schemaName);
+            }
+
+            @Override
+            public void visitSchemaProperty(String schemaName, String propertyName, PropertyNode property) {
+                visited.add("property " + schemaName + "." + propertyName);
+            }
+
+            @Override
+            public void visitOperation(String path, PathItem.HttpMethod method, OperationNode operation) {
+                visited.add("operation " + method + " " + path);
+            }
+
+            @Override
+            public void visitParameter(String path, PathItem.HttpMethod method, ParameterNode parameter) {
+                visited.add("parameter " + parameter.getName() + (parameter.getIn() == Parameter.In.HEADER ? " in header" : ""));
+            }
+
+            @Override
+            public void visitPathItem(String path) {
+                visited.add("path " + path);
+            }
+        };
+
+        new OpenApiWalker(Collections.singletonList(visitor)).walk(model);
+        return visited;
+    }
+}
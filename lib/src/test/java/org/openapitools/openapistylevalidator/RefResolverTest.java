@@ -0,0 +1,190 @@
+package org.openapitools.openapistylevalidator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.info.Contact;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.info.License;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.junit.jupiter.api.Test;
+import org.openapitools.openapistylevalidator.cache.ParsedDocumentCache;
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+class RefResolverTest {
+
+    @Test
+    void validateShouldResolveTheReferencesToOtherDocumentsWhenTheyAreWalked() throws Exception {
+        List<StyleError> errors = new OpenApiSpecStyleValidator(createSplitOpenAPI(), new RefResolver(specLocation()))
+                .validate(new ValidatorParameters());
+
+        assertEquals(Arrays.asList(
+                "*ERROR* in Operation POST /owners 'summary' -> This field should be present and not empty",
+                "*ERROR* in Model 'Item', property 'tags', field 'example' -> This field should be present and not empty",
+                "*ERROR* in Model 'Owner_1', property 'ownerName', field 'example' -> This field should be present and not empty",
+                "*ERROR* in model Item 'item_name' -> property should be in camelCase",
+                "*ERROR* in path GET /items 'item_kind' -> parameter should be in camelCase",
+                "*ERROR* in path GET /items 'page_size' -> parameter should be in camelCase",
+                "*ERROR* in path POST /owners 'page_size' -> parameter should be in camelCase"),
+                toStrings(errors));
+    }
+
+    @Test
+    void validateShouldReadEachReferencedDocumentOnce() throws Exception {
+        List<URI> readDocuments = Collections.synchronizedList(new ArrayList<>());
+        RefResolver refResolver = new RefResolver(specLocation()) {
+            @Override
+            JsonNode read(URI document) throws IOException {
+                readDocuments.add(document);
+                return super.read(document);
+            }
+        };
+
+        new OpenApiSpecStyleValidator(createSplitOpenAPI(), refResolver).setParallel(true).validate(new ValidatorParameters());
+
+        assertEquals(Arrays.asList("defs.yaml", "params.yaml", "paths.yaml", "tags.yaml"), readDocuments.stream()
+                .map(document -> Paths.get(document).getFileName().toString())
+                .sorted()
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void validateShouldTakeTheDocumentsSharedBySeveralSpecsFromTheCache() throws Exception {
+        ParsedDocumentCache documentCache = new ParsedDocumentCache(ParsedDocumentCache.DEFAULT_MAX_BYTES);
+
+        List<StyleError> errors = new OpenApiSpecStyleValidator(createSplitOpenAPI(), new RefResolver(specLocation(), documentCache))
+                .validate(new ValidatorParameters());
+        List<StyleError> otherSpecErrors = new OpenApiSpecStyleValidator(createSplitOpenAPI(), new RefResolver(specLocation(), documentCache))
+                .validate(new ValidatorParameters());
+
+        assertEquals(toStrings(errors), toStrings(otherSpecErrors));
+        assertEquals(4, documentCache.getMissCount());
+        assertEquals(4, documentCache.getHitCount());
+    }
+
+    @Test
+    void validateShouldLeaveTheReferencesToMissingDocumentsUnresolved() throws Exception {
+        OpenAPI openAPI = createSplitOpenAPI();
+        openAPI.getPaths().get("/items").getGet().getResponses().get("200").getContent().get("application/json")
+                .getSchema().set$ref("missing.yaml#/Item");
+        openAPI.getPaths().get("/owners").set$ref("missing.yaml#/Owners");
+
+        List<StyleError> errors = new OpenApiSpecStyleValidator(openAPI, new RefResolver(specLocation()))
+                .validate(new ValidatorParameters());
+
+        assertEquals(Arrays.asList(
+                "*ERROR* in path GET /items 'item_kind' -> parameter should be in camelCase",
+                "*ERROR* in path GET /items 'page_size' -> parameter should be in camelCase"),
+                toStrings(errors));
+    }
+
+    @Test
+    void validateShouldFindTheSameErrorsAsWhenTheParserResolvesTheReferences() throws Exception {
+        List<String> specs = Arrays.asList(specLocation(), "../specs/split/swagger.yaml", "../specs/swagger.yaml",
+                "../specs/petstore.yaml", "../specs/petstorev3.yaml");
+
+        for (String spec : specs) {
+            List<StyleError> resolvedErrors = new OpenApiSpecStyleValidator(parse(spec, true))
+                    .validate(new ValidatorParameters());
+            List<StyleError> lazilyResolvedErrors = new OpenApiSpecStyleValidator(parse(spec, false), new RefResolver(spec))
+                    .validate(new ValidatorParameters());
+
+            assertEquals(toStrings(resolvedErrors), toStrings(lazilyResolvedErrors), spec);
+        }
+    }
+
+    @Test
+    void getPathsReadFromShouldFindThePathItemsReadFromTheDocuments() throws Exception {
+        RefResolver refResolver = new RefResolver(specLocation());
+        Path directory = Paths.get(specLocation()).getParent();
+
+        Set<String> paramsPaths = refResolver.getPathsReadFrom(createSplitOpenAPI(), Collections.singleton(directory.resolve("params.yaml")));
+        Set<String> pathsPaths = refResolver.getPathsReadFrom(createSplitOpenAPI(), Collections.singleton(directory.resolve("paths.yaml")));
+        Set<String> defsPaths = refResolver.getPathsReadFrom(createSplitOpenAPI(), Collections.singleton(directory.resolve("defs.yaml")));
+
+        assertEquals(new HashSet<>(Arrays.asList("/items", "/owners")), paramsPaths);
+        assertEquals(Collections.singleton("/owners"), pathsPaths);
+        assertEquals(Collections.emptySet(), defsPaths);
+    }
+
+    @Test
+    void getExternalSchemasShouldNameTheSchemasLikeTheParser() throws Exception {
+        Map<String, JsonNode> externalSchemas = new RefResolver(specLocation()).getExternalSchemas(createSplitOpenAPI());
+
+        assertEquals(Arrays.asList("Item", "Owner_1", "Tag"), new ArrayList<>(externalSchemas.keySet()));
+        assertEquals("ownerName", externalSchemas.get("Owner_1").path("properties").fieldNames().next());
+    }
+
+    private static OpenAPI parse(String spec, boolean resolve) {
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(resolve);
+        return new OpenAPIParser().readLocation(spec, null, parseOptions).getOpenAPI();
+    }
+
+    private static List<String> toStrings(List<StyleError> errors) {
+        return errors.stream().map(StyleError::toString).collect(Collectors.toList());
+    }
+
+    /**
+     * The spec is only read by the parser: the other tests build its model, and only the documents next to it are read.
+     */
+    private static String specLocation() throws URISyntaxException {
+        return Paths.get(RefResolverTest.class.getResource("/refs").toURI()).resolve("spec.yaml").toString();
+    }
+
+    private static OpenAPI createSplitOpenAPI() {
+        io.swagger.v3.oas.models.Paths paths = new io.swagger.v3.oas.models.Paths();
+        paths.addPathItem("/items", new PathItem()
+                .get(new Operation()
+                        .operationId("listItems")
+                        .description("Lists the items")
+                        .summary("List items")
+                        .addTagsItem("items")
+                        .addParametersItem(new Parameter().$ref("#/components/parameters/ItemKind"))
+                        .addParametersItem(new Parameter().$ref("params.yaml#/page_size"))
+                        .responses(new ApiResponses().addApiResponse("200", new ApiResponse()
+                                .description("OK")
+                                .content(new Content().addMediaType("application/json", new MediaType()
+                                        .schema(new Schema<>().$ref("defs.yaml#/Item"))))))));
+        paths.addPathItem("/owners", new PathItem().$ref("paths.yaml#/Owners"));
+        Components components = new Components()
+                .addParameters("ItemKind", new Parameter().name("item_kind").in("query"))
+                .addSchemas("Owner", new Schema<>()
+                        .addProperties("name", new Schema<>().example("Some owner")));
+        return new OpenAPI()
+                .openapi("3.0.1")
+                .info(new Info()
+                        .title("Split Specification")
+                        .description("A spec split in several documents")
+                        .version("1.0")
+                        .contact(new Contact().name("Support"))
+                        .license(new License().name("Apache 2.0")))
+                .paths(paths)
+                .components(components);
+    }
+}
@@ -0,0 +1,78 @@
+package org.openapitools.openapistylevalidator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+class StreamingModelTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void validateShouldCheckTheSectionsInTheOrderOfTheFile() throws Exception {
+        List<StyleError> errors = new ArrayList<>();
+        OpenApiSpecStyleValidator.streaming(resource("streaming.yaml")).validate(new ValidatorParameters(), errors::add);
+
+        assertEquals(Arrays.asList(
+                "*ERROR* Section: APIInfo: 'contact' -> Should be present and not empty",
+                "*ERROR* in Operation GET /some_path/{itemId} 'operationId' -> This field should be present and not empty",
+                "*ERROR* in Operation GET /some_path/{itemId} 'summary' -> This field should be present and not empty",
+                "*ERROR* in Operation GET /some_path/{itemId} 'tags' -> The collection should be present and there should be at least one item in it",
+                "*ERROR* in path /some_path/{itemId} 'some_path' -> path should be in hyphen-case",
+                "*ERROR* in model Item 'item_name' -> property should be in camelCase",
+                "*ERROR* in Model 'Item', property 'price', field 'example' -> This field should be present and not empty"),
+                toStrings(errors));
+    }
+
+    @Test
+    void validateShouldReadJsonSpecs() throws Exception {
+        Path spec = directory.resolve("spec.json");
+        Files.write(spec, ("{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"Json\",\"version\":\"1.0\"},"
+                + "\"paths\":{\"/ping\":{\"get\":{\"operationId\":\"ping\",\"description\":\"Ping\",\"summary\":\"Ping\",\"tags\":[\"ping\"]}}}}")
+                .getBytes(StandardCharsets.UTF_8));
+
+        List<StyleError> errors = OpenApiSpecStyleValidator.streaming(spec).validate(new ValidatorParameters());
+
+        assertEquals(Arrays.asList(
+                "*ERROR* Section: APIInfo: 'license' -> Should be present and not empty",
+                "*ERROR* Section: APIInfo: 'description' -> Should be present and not empty",
+                "*ERROR* Section: APIInfo: 'contact' -> Should be present and not empty"),
+                toStrings(errors));
+    }
+
+    @Test
+    void validateShouldFailWhenTheSpecCannotBeRead() throws Exception {
+        Path swagger2 = directory.resolve("swagger.yaml");
+        Files.write(swagger2, "swagger: '2.0'\ninfo:\n  title: Old\n".getBytes(StandardCharsets.UTF_8));
+        Path malformed = directory.resolve("malformed.json");
+        Files.write(malformed, "{\"openapi\": ".getBytes(StandardCharsets.UTF_8));
+
+        ValidatorParameters parameters = new ValidatorParameters();
+        assertThrows(UncheckedIOException.class, () -> OpenApiSpecStyleValidator.streaming(swagger2).validate(parameters));
+        assertThrows(UncheckedIOException.class, () -> OpenApiSpecStyleValidator.streaming(malformed).validate(parameters));
+        assertThrows(UncheckedIOException.class, () -> OpenApiSpecStyleValidator.streaming(directory.resolve("missing.yaml")).validate(parameters));
+    }
+
+    private static List<String> toStrings(List<StyleError> errors) {
+        return errors.stream().map(StyleError::toString).collect(Collectors.toList());
+    }
+
+    private static Path resource(String name) throws URISyntaxException {
+        return Paths.get(StreamingModelTest.class.getResource("/" + name).toURI());
+    }
+}
@@ -0,0 +1,129 @@
+package org.openapitools.openapistylevalidator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import org.junit.jupiter.api.Test;
+import org.openapitools.openapistylevalidator.styleerror.GenericStyleError;
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+class StyleRuleTest {
+
+    @Test
+    void loadRulesShouldFindTheRulesDeclaredInTheClassPath() throws Exception {
+        URL discovery = StyleRuleTest.class.getResource("/discovery/");
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {discovery}, StyleRuleTest.class.getClassLoader())) {
+            List<StyleRule> rules = OpenApiSpecStyleValidator.loadRules(classLoader);
+
+            assertEquals(1, rules.size());
+            assertTrue(rules.get(0) instanceof TrailingSlashRule);
+        }
+    }
+
+    @Test
+    void validateShouldRunTheRulesAfterTheChecksOfTheLibrary() {
+        List<StyleError> errors = new OpenApiSpecStyleValidator(createOpenAPI())
+                .setRules(Collections.singletonList(new TrailingSlashRule()))
+                .validate(new ValidatorParameters());
+
+        assertEquals("*ERROR* Section: Operations: 'path' in /pets/ -> This path should not end with a slash",
+                errors.get(errors.size() - 1).toString());
+    }
+
+    @Test
+    void validateShouldOnlyWalkTheNodesNeededByTheEnabledChecks() {
+        ValidatorParameters parameters = disableAllTheChecks();
+        ValidationMetrics metrics = new ValidationMetrics();
+
+        List<StyleError> errors = new OpenApiSpecStyleValidator(createOpenAPI())
+                .setRules(Collections.singletonList(new TrailingSlashRule()))
+                .setListener(metrics)
+                .validate(parameters);
+
+        assertEquals(Collections.singletonList("*ERROR* Section: Operations: 'path' in /pets/ -> This path should not end with a slash"),
+                errors.stream().map(StyleError::toString).collect(Collectors.toList()));
+        assertEquals(2, metrics.getNodesVisited());
+    }
+
+    @Test
+    void validateShouldNotWalkTheSpecWhenNoCheckIsEnabled() {
+        ValidatorParameters parameters = disableAllTheChecks();
+        ValidationMetrics metrics = new ValidationMetrics();
+
+        List<StyleError> errors = new OpenApiSpecStyleValidator(createOpenAPI())
+                .setRules(Collections.emptyList())
+                .setListener(metrics)
+                .setParallel(true)
+                .validate(parameters);
+
+        assertEquals(0, errors.size());
+        assertEquals(0, metrics.getNodesVisited());
+    }
+
+    private static ValidatorParameters disableAllTheChecks() {
+        return new ValidatorParameters()
+                .setValidateInfoLicense(false)
+                .setValidateInfoDescription(false)
+                .setValidateInfoContact(false)
+                .setValidateOperationOperationId(false)
+                .setValidateOperationDescription(false)
+                .setValidateOperationSummary(false)
+                .setValidateOperationTag(false)
+                .setValidateModelPropertiesExample(false)
+                .setValidateNaming(false);
+    }
+
+    private static OpenAPI createOpenAPI() {
+        return new OpenAPI()
+                .info(new Info().title("Rules").description("Custom rules").version("1.0"))
+                .paths(new Paths()
+                        .addPathItem("/owners", new PathItem()
+                                .get(new Operation().addParametersItem(new Parameter().name("name").in("query"))))
+                        .addPathItem("/pets/", new PathItem()
+                                .get(new Operation().addParametersItem(new Parameter().name("name").in("query")))))
+                .components(new Components()
+                        .addSchemas("Pet", new Schema<>()
+                                .addProperties("name", new Schema<>().example("Rex"))));
+    }
+
+    /**
+     * Declared in the META-INF/services of the discovery directory of the test resources, which is only in the class
+     * path of {@link #loadRulesShouldFindTheRulesDeclaredInTheClassPath()}.
+     */
+    public static class TrailingSlashRule implements StyleRule {
+
+        @Override
+        public Set<NodeType> getNodeTypes() {
+            return EnumSet.of(NodeType.PATH_ITEM);
+        }
+
+        @Override
+        public OpenApiVisitor createVisitor(ValidatorParameters parameters, StyleErrorSink errorSink) {
+            return new OpenApiVisitor() {
+                @Override
+                public void visitPathItem(String path) {
+                    if (path.length() > 1 && path.endsWith("/")) {
+                        errorSink.accept(new GenericStyleError(StyleError.StyleCheckSection.Operations, path, "path",
+                                "This path should not end with a slash"));
+                    }
+                }
+            };
+        }
+    }
+}
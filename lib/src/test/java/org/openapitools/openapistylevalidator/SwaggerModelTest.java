@@ -0,0 +1,82 @@
+package org.openapitools.openapistylevalidator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.junit.jupiter.api.Test;
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+class SwaggerModelTest {
+
+    @Test
+    void validateShouldFindTheErrorsOfTheModelOfTheParser() {
+        //Arrange
+        OpenAPI openAPI = new OpenAPI()
+                .info(new Info().title("Pets").version("1.0"))
+                .paths(new Paths()
+                        .addPathItem("/pet_items", new PathItem()
+                                .get(new Operation()
+                                        .addParametersItem(new Parameter().name("page_size").in("query")))))
+                .components(new Components()
+                        .addSchemas("Pet", new Schema<>()
+                                .addProperties("pet_name", new Schema<>())));
+
+        //Act
+        List<StyleError> errors = new OpenApiSpecStyleValidator(openAPI).validate(new ValidatorParameters());
+
+        //Assert
+        assertEquals(Arrays.asList(
+                "*ERROR* Section: APIInfo: 'license' -> Should be present and not empty",
+                "*ERROR* Section: APIInfo: 'description' -> Should be present and not empty",
+                "*ERROR* Section: APIInfo: 'contact' -> Should be present and not empty",
+                "*ERROR* in Operation GET /pet_items 'operationId' -> This field should be present and not empty",
+                "*ERROR* in Operation GET /pet_items 'description' -> This field should be present and not empty",
+                "*ERROR* in Operation GET /pet_items 'summary' -> This field should be present and not empty",
+                "*ERROR* in Operation GET /pet_items 'tags' -> The collection should be present and there should be at least one item in it",
+                "*ERROR* in Model 'Pet', property 'pet_name', field 'example' -> This field should be present and not empty",
+                "*ERROR* in model Pet 'pet_name' -> property should be in camelCase",
+                "*ERROR* in path GET /pet_items 'page_size' -> parameter should be in camelCase",
+                "*ERROR* in path /pet_items 'pet_items' -> path should be in hyphen-case"),
+                toStrings(errors));
+    }
+
+    @Test
+    void validateShouldFindTheErrorsOfTheMicroProfileAdaptationOfTheModel() {
+        //Arrange
+        OpenAPI openAPI = new OpenAPI()
+                .info(new Info().title("Pets").version("1.0"))
+                .paths(new Paths()
+                        .addPathItem("/pets", new PathItem()
+                                .post(new Operation().operationId("createPet").summary("Create a pet"))
+                                .get(new Operation().operationId("list_pets"))));
+        org.eclipse.microprofile.openapi.models.OpenAPI microProfileOpenAPI = OASFactory.createOpenAPI()
+                .info(OASFactory.createInfo().title("Pets").version("1.0"))
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/pets", OASFactory.createPathItem()
+                                .POST(OASFactory.createOperation().operationId("createPet").summary("Create a pet"))
+                                .GET(OASFactory.createOperation().operationId("list_pets"))));
+
+        //Act
+        List<StyleError> errors = new OpenApiSpecStyleValidator(openAPI).validate(new ValidatorParameters());
+        List<StyleError> microProfileErrors = new OpenApiSpecStyleValidator(microProfileOpenAPI).validate(new ValidatorParameters());
+
+        //Assert
+        assertEquals(toStrings(microProfileErrors), toStrings(errors));
+    }
+
+    private static List<String> toStrings(List<StyleError> errors) {
+        return errors.stream().map(StyleError::toString).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,95 @@
+package org.openapitools.openapistylevalidator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openapitools.openapistylevalidator.ValidatorParameters.NamingConvention;
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+import org.openapitools.openapistylevalidator.styleerror.StyleError.StyleCheckSection;
+
+class ValidationMetricsTest {
+
+    @Test
+    void metricsShouldAddUpTheMeasuresTheyReceive() {
+        //Arrange
+        ValidationMetrics metrics = new ValidationMetrics();
+
+        //Act
+        metrics.phaseTimed(ValidationPhase.NAMING, 5);
+        metrics.phaseTimed(ValidationPhase.NAMING, 7);
+        metrics.nodeVisited();
+        metrics.nodeVisited();
+        metrics.nameChecked(NamingConvention.CamelCase, true);
+        metrics.nameChecked(NamingConvention.CamelCase, false);
+        metrics.errorEmitted(new StyleError(StyleCheckSection.APIInfo, "contact", "Should be present and not empty"));
+
+        //Assert
+        Assertions.assertAll(
+                () -> assertEquals(12, metrics.getPhaseNanos(ValidationPhase.NAMING)),
+                () -> assertEquals(0, metrics.getPhaseNanos(ValidationPhase.MODELS)),
+                () -> assertEquals(2, metrics.getNodesVisited()),
+                () -> assertEquals(2, metrics.getNamesChecked()),
+                () -> assertEquals(1, metrics.getInvalidNames()),
+                () -> assertEquals(1, metrics.getErrorCount(StyleCheckSection.APIInfo)),
+                () -> assertEquals("{\"phaseNanos\":{\"PARSING\":0,\"VALIDATION\":0,\"INFO\":0,\"OPERATIONS\":0,\"MODELS\":0,\"NAMING\":12,\"RULES\":0}," +
+                        "\"nodesVisited\":2,\"namesChecked\":2,\"invalidNames\":1,\"errors\":{\"APIInfo\":1,\"Operations\":0,\"Models\":0,\"Naming\":0}}",
+                        metrics.toJson())
+        );
+    }
+
+    @Test
+    void toJsonShouldEscapeTheNamesOfTheSpecs() {
+        //Arrange
+        Map<String, ValidationMetrics> metricsBySpec = new LinkedHashMap<>();
+        metricsBySpec.put("C:\\specs\\\"pets\".yaml", new ValidationMetrics());
+
+        //Act
+        String json = ValidationMetrics.toJson(metricsBySpec);
+
+        //Assert
+        assertTrue(json.startsWith("{\"C:\\\\specs\\\\\\\"pets\\\".yaml\":{\"phaseNanos\":"));
+    }
+
+    @Test
+    void validateShouldMeasureEachNodeNameAndErrorOfTheSpec() {
+        //Arrange
+        OpenAPI openAPI = OASFactory.createOpenAPI()
+                .info(OASFactory.createInfo().title("Pets").version("1.0"))
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/pet_items", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation()
+                                        .addParameter(OASFactory.createParameter().name("page_size").in(Parameter.In.QUERY)))))
+                .components(OASFactory.createComponents()
+                        .addSchema("Pet", OASFactory.createSchema()
+                                .addProperty("pet_name", OASFactory.createSchema())));
+        ValidationMetrics metrics = new ValidationMetrics();
+
+        //Act
+        new OpenApiSpecStyleValidator(openAPI).setListener(metrics).validate(new ValidatorParameters());
+
+        //Assert
+        Assertions.assertAll(
+                // The info section, the property, the operation, the parameter and the path item: the schema itself
+                // is not sent to any check
+                () -> assertEquals(5, metrics.getNodesVisited()),
+                // The property, the parameter and the segment of the path
+                () -> assertEquals(3, metrics.getNamesChecked()),
+                () -> assertEquals(3, metrics.getInvalidNames()),
+                () -> assertEquals(3, metrics.getErrorCount(StyleCheckSection.APIInfo)),
+                () -> assertEquals(4, metrics.getErrorCount(StyleCheckSection.Operations)),
+                () -> assertEquals(1, metrics.getErrorCount(StyleCheckSection.Models)),
+                () -> assertEquals(3, metrics.getErrorCount(StyleCheckSection.Naming)),
+                () -> assertTrue(metrics.getPhaseNanos(ValidationPhase.VALIDATION) >= metrics.getPhaseNanos(ValidationPhase.NAMING)),
+                () -> assertTrue(metrics.getPhaseNanos(ValidationPhase.NAMING) > 0),
+                () -> assertEquals(0, metrics.getPhaseNanos(ValidationPhase.PARSING))
+        );
+    }
+}
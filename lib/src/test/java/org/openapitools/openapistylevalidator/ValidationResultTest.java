@@ -0,0 +1,101 @@
+package org.openapitools.openapistylevalidator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.junit.jupiter.api.Test;
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+class ValidationResultTest {
+
+    @Test
+    void validateNodesShouldFindTheErrorsOfValidate() {
+        OpenAPI openAPI = createOpenAPI(20);
+        ValidatorParameters parameters = new ValidatorParameters();
+
+        ValidationResult result = new OpenApiSpecStyleValidator(openAPI).validateNodes(parameters);
+
+        assertEquals(toStrings(new OpenApiSpecStyleValidator(openAPI).validate(parameters)), toStrings(result.getErrors()));
+        assertEquals(3, result.getInfoErrors().size());
+        assertEquals(2, result.getSchemaErrors("Model4").size());
+        assertTrue(toStrings(result.getSchemaErrors("Model4")).contains("*ERROR* in model Model4 'some_property' -> property should be in camelCase"));
+        assertEquals(6, result.getPathErrors("/some_path4/{id}").size());
+    }
+
+    @Test
+    void revalidateShouldReplaceTheErrorsOfTheChangedNodesOnly() {
+        OpenAPI openAPI = createOpenAPI(100);
+        ValidatorParameters parameters = new ValidatorParameters();
+        ValidationResult previous = new OpenApiSpecStyleValidator(openAPI).validateNodes(parameters);
+
+        openAPI.getPaths().removePathItem("/some_path3/{id}");
+        openAPI.getPaths().addPathItem("/some-path3/{id}", createPathItem());
+        openAPI.getComponents().getSchemas().get("Model5").getProperties().get("some_property").example("value");
+        openAPI.getComponents().removeSchema("Model7");
+        openAPI.getInfo().description("An edited specification");
+        ValidationMetrics metrics = new ValidationMetrics();
+        ValidationResult result = new OpenApiSpecStyleValidator(openAPI).setListener(metrics).revalidate(previous,
+                new HashSet<>(Arrays.asList("/some_path3/{id}", "/some-path3/{id}")),
+                new HashSet<>(Arrays.asList("Model5", "Model7")));
+
+        List<StyleError> errors = new OpenApiSpecStyleValidator(openAPI).validate(parameters);
+        assertEquals(errors.size(), result.getErrors().size());
+        assertEquals(new HashSet<>(toStrings(errors)), new HashSet<>(toStrings(result.getErrors())));
+        assertEquals(2, result.getInfoErrors().size());
+        assertEquals(0, result.getPathErrors("/some_path3/{id}").size());
+        assertEquals(5, result.getPathErrors("/some-path3/{id}").size());
+        assertEquals(1, result.getSchemaErrors("Model5").size());
+        assertEquals(0, result.getSchemaErrors("Model7").size());
+        // The info section, one path item with its operation and parameter, and the property of one schema
+        assertEquals(1 + 3 + 1, metrics.getNodesVisited());
+        assertEquals(previous.getErrors().size() - 6 + 5 - 1 - 2 - 1, result.getErrors().size());
+    }
+
+    @Test
+    void validateNodesShouldNotAcceptAStreamingValidator() {
+        OpenApiSpecStyleValidator validator = OpenApiSpecStyleValidator.streaming(Paths.get("src/test/resources/streaming.yaml"));
+
+        assertThrows(UnsupportedOperationException.class, () -> validator.validateNodes(new ValidatorParameters()));
+    }
+
+    private static List<String> toStrings(List<StyleError> errors) {
+        return errors.stream().map(StyleError::toString).collect(Collectors.toList());
+    }
+
+    private static OpenAPI createOpenAPI(int size) {
+        org.eclipse.microprofile.openapi.models.Paths paths = OASFactory.createPaths();
+        Components components = OASFactory.createComponents();
+        for (int i = 0; i < size; i++) {
+            paths.addPathItem("/some_path" + i + "/{id}", createPathItem());
+            components.addSchema("Model" + i, OASFactory.createSchema()
+                    .addProperty("some_property", OASFactory.createSchema().type(Schema.SchemaType.STRING)));
+        }
+        return OASFactory.createOpenAPI()
+                .openapi("3.0.1")
+                .info(OASFactory.createInfo()
+                        .title("Specification")
+                        .version("1.0"))
+                .paths(paths)
+                .components(components);
+    }
+
+    private static org.eclipse.microprofile.openapi.models.PathItem createPathItem() {
+        return OASFactory.createPathItem()
+                .GET(OASFactory.createOperation()
+                        .addParameter(OASFactory.createParameter()
+                                .name("some_name")
+                                .in(Parameter.In.QUERY)));
+    }
+}
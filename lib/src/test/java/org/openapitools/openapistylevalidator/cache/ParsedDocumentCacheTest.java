@@ -0,0 +1,104 @@
+package org.openapitools.openapistylevalidator.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class ParsedDocumentCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void getShouldParseADocumentOnceWhileItDoesNotChange() throws Exception {
+        Path definitions = write("definitions.yaml", "Foo:\n  type: object\n");
+        Files.createDirectory(directory.resolve("other"));
+        ParsedDocumentCache cache = new ParsedDocumentCache(1024);
+
+        JsonNode document = cache.get(definitions);
+        JsonNode sameDocument = cache.get(directory.resolve("other/../definitions.yaml"));
+        Files.write(definitions, "Bar:\n  type: object\n".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(definitions, FileTime.fromMillis(Files.getLastModifiedTime(definitions).toMillis() + 1000));
+        JsonNode changedDocument = cache.get(definitions);
+
+        assertSame(document, sameDocument);
+        assertEquals("object", document.at("/Foo/type").asText());
+        assertEquals("object", changedDocument.at("/Bar/type").asText());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void getShouldEvictTheLeastRecentlyUsedDocumentsBeyondTheLimit() throws Exception {
+        Path first = write("first.yaml", "First: {}\n");
+        Path second = write("second.yaml", "Second: {}\n");
+        Path third = write("third.yaml", "Third: {}\n");
+        ParsedDocumentCache cache = new ParsedDocumentCache(Files.size(first) + Files.size(second));
+
+        JsonNode firstDocument = cache.get(first);
+        JsonNode secondDocument = cache.get(second);
+        cache.get(first);
+        cache.get(third);
+
+        assertSame(firstDocument, cache.get(first));
+        assertNotSame(secondDocument, cache.get(second));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void getShouldParseADocumentRequestedConcurrentlyOnce() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            content.append("Model").append(i).append(":\n  type: object\n");
+        }
+        Path definitions = write("definitions.yaml", content.toString());
+        ParsedDocumentCache cache = new ParsedDocumentCache(ParsedDocumentCache.DEFAULT_MAX_BYTES);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<JsonNode>> documents = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                documents.add(executor.submit(() -> cache.get(definitions)));
+            }
+            for (Future<JsonNode> document : documents) {
+                assertSame(documents.get(0).get(), document.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void getShouldFailWhenTheDocumentCannotBeParsed() throws Exception {
+        Path malformed = write("malformed.yaml", "Foo: [\n");
+        ParsedDocumentCache cache = new ParsedDocumentCache(1024);
+
+        assertThrows(IOException.class, () -> cache.get(malformed));
+        assertThrows(IOException.class, () -> cache.get(directory.resolve("missing.yaml")));
+        assertEquals(0, cache.size());
+    }
+
+    private Path write(String name, String content) throws Exception {
+        Path file = directory.resolve(name);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
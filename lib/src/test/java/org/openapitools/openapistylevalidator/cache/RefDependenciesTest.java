@@ -0,0 +1,36 @@
+package org.openapitools.openapistylevalidator.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+class RefDependenciesTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void ofShouldFindTheReferencesOfLargeSpecs() throws Exception {
+        StringBuilder spec = new StringBuilder("openapi: 3.0.1\npaths:\n");
+        for (int i = 0; i < 10_000; i++) {
+            spec.append("  /path").append(i).append(":\n    $ref: '#/components/pathItems/item'\n");
+            if (i % 2_500 == 1_000) {
+                spec.append("  /shared").append(i).append(":\n    $ref: 'shared").append(i).append(".yaml'\n");
+                Files.write(directory.resolve("shared" + i + ".yaml"), "description: shared\n".getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        Path specFile = directory.resolve("spec.yaml");
+        Files.write(specFile, spec.toString().getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(Arrays.asList(specFile, directory.resolve("shared1000.yaml"), directory.resolve("shared3500.yaml"),
+                directory.resolve("shared6000.yaml"), directory.resolve("shared8500.yaml")),
+                new ArrayList<>(RefDependencies.of(specFile)));
+    }
+}
@@ -0,0 +1,178 @@
+package org.openapitools.openapistylevalidator.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openapitools.openapistylevalidator.NodeType;
+import org.openapitools.openapistylevalidator.OpenApiVisitor;
+import org.openapitools.openapistylevalidator.StyleErrorSink;
+import org.openapitools.openapistylevalidator.StyleRule;
+import org.openapitools.openapistylevalidator.ValidatorParameters;
+import org.openapitools.openapistylevalidator.styleerror.ModelStyleError;
+import org.openapitools.openapistylevalidator.styleerror.OperationNamingStyleError;
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+class ValidationResultCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void putThenGetShouldReturnTheSameErrors() throws Exception {
+        ValidationResultCache cache = new ValidationResultCache(directory.resolve("cache"));
+        List<StyleError> errors = Arrays.asList(
+                new ModelStyleError("example", "This field should be present and not empty", "Pet", "name"),
+                new OperationNamingStyleError(StyleError.StyleCheckSection.Naming, "some_id", "parameter should be in camelCase", "/pets", PathItem.HttpMethod.GET));
+
+        cache.put("key", errors);
+
+        assertEquals(errors, cache.get("key"));
+        assertNull(cache.get("other"));
+    }
+
+    @Test
+    void getShouldRefuseTheEntriesHoldingOtherClasses() throws Exception {
+        ValidationResultCache cache = new ValidationResultCache(directory);
+        try (ObjectOutputStream output = new ObjectOutputStream(Files.newOutputStream(directory.resolve("key.errors")))) {
+            output.writeInt(1);
+            output.writeObject(new ArrayList<>(Collections.singletonList("not a style error")));
+        }
+
+        assertNull(cache.get("key"));
+    }
+
+    @Test
+    void putShouldEvictTheLeastRecentlyUsedEntries() throws Exception {
+        List<StyleError> errors = Collections.singletonList(
+                new ModelStyleError("example", "This field should be present and not empty", "Pet", "name"));
+        new ValidationResultCache(directory).put("size", errors);
+        long entrySize = Files.size(directory.resolve("size.errors"));
+        ValidationResultCache cache = new ValidationResultCache(directory.resolve("cache"), 2 * entrySize);
+
+        cache.put("first", errors);
+        cache.put("second", errors);
+        Files.setLastModifiedTime(directory.resolve("cache/first.errors"), FileTime.fromMillis(1_000L));
+        Files.setLastModifiedTime(directory.resolve("cache/second.errors"), FileTime.fromMillis(2_000L));
+        cache.get("first");
+        cache.put("third", errors);
+
+        Assertions.assertAll(
+                () -> assertEquals(errors, cache.get("first")),
+                () -> assertNull(cache.get("second")),
+                () -> assertEquals(errors, cache.get("third"))
+        );
+    }
+
+    @Test
+    void keyShouldDependOnTheSpecItsReferencesAndTheParameters() throws Exception {
+        Path spec = write("swagger.yaml", "paths:\n  $ref: 'definitions.yaml#/paths'\n");
+        Path definitions = write("definitions.yaml", "definitions: {}\n");
+        ValidationResultCache cache = new ValidationResultCache(directory.resolve("cache"));
+        ValidatorParameters parameters = new ValidatorParameters();
+
+        String key = cache.computeKey(spec, parameters);
+        String sameKey = cache.computeKey(spec, new ValidatorParameters());
+        String otherParametersKey = cache.computeKey(spec, new ValidatorParameters().setValidateNaming(false));
+        Files.write(definitions, "definitions: {Foo: {}}\n".getBytes(StandardCharsets.UTF_8));
+        String changedReferenceKey = cache.computeKey(spec, parameters);
+
+        Assertions.assertAll(
+                () -> assertEquals(key, sameKey),
+                () -> assertNotEquals(key, otherParametersKey),
+                () -> assertNotEquals(key, changedReferenceKey)
+        );
+    }
+
+    @Test
+    void keyShouldDependOnTheEnabledRules() throws Exception {
+        Path spec = write("openapi.yaml", "openapi: 3.0.1\n");
+        ValidatorParameters parameters = new ValidatorParameters();
+
+        String key = SpecDigest.of(spec, parameters, false, Collections.emptyList());
+        String ruleKey = SpecDigest.of(spec, parameters, false, Collections.singletonList(new NoopRule(true)));
+        String disabledRuleKey = SpecDigest.of(spec, parameters, false, Collections.singletonList(new NoopRule(false)));
+
+        Assertions.assertAll(
+                () -> assertNotEquals(key, ruleKey),
+                () -> assertEquals(key, disabledRuleKey)
+        );
+    }
+
+    @Test
+    void refDependenciesShouldFollowLocalFilesTransitively() throws Exception {
+        Path spec = write("swagger.json", "{\"$ref\": \"a.json#/x\", \"local\": {\"$ref\": \"#/definitions/Foo\"}}");
+        Path a = write("a.json", "{\"$ref\": \"b.json\"}");
+        Path b = write("b.json", "{\"$ref\": \"a.json\", \"remote\": {\"$ref\": \"http://example.com/c.json\"}}");
+
+        assertEquals(Arrays.asList(spec, a, b), Arrays.asList(RefDependencies.of(spec).toArray()));
+    }
+
+    @Test
+    void refDependenciesShouldFindTheFlowStyleAndPercentEncodedReferences() throws Exception {
+        Path spec = write("openapi.yaml", "paths: {/pets: {$ref: \"my%20paths.yaml#/pets\"}}\n");
+        Path paths = write("my paths.yaml", "pets:\n  \"$ref\": 'schemas.yaml#/Pet'\n");
+        Path schemas = write("schemas.yaml", "Pet: {type: object}\n");
+
+        assertEquals(Arrays.asList(spec, paths, schemas), Arrays.asList(RefDependencies.ofAll(spec).toArray()));
+    }
+
+    @Test
+    void keyShouldNotBeComputedWhenAReferenceIsNotALocalFile() throws Exception {
+        Path remoteSpec = write("remote.yaml", "paths: {$ref: 'https://example.com/paths.yaml'}\n");
+        Path missingSpec = write("missing.yaml", "paths: {$ref: 'missing-paths.yaml'}\n");
+        ValidationResultCache cache = new ValidationResultCache(directory.resolve("cache"));
+
+        Assertions.assertAll(
+                () -> assertThrows(IOException.class, () -> cache.computeKey(remoteSpec, new ValidatorParameters())),
+                () -> assertThrows(IOException.class, () -> cache.computeKey(missingSpec, new ValidatorParameters())),
+                () -> assertEquals(Collections.singleton(remoteSpec), RefDependencies.of(remoteSpec))
+        );
+    }
+
+    private Path write(String name, String content) throws Exception {
+        return Files.write(directory.resolve(name), content.getBytes(StandardCharsets.UTF_8)).toAbsolutePath().normalize();
+    }
+
+    private static final class NoopRule implements StyleRule {
+        private final boolean enabled;
+
+        private NoopRule(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        @Override
+        public Set<NodeType> getNodeTypes() {
+            return EnumSet.noneOf(NodeType.class);
+        }
+
+        @Override
+        public boolean isEnabled(ValidatorParameters parameters) {
+            return enabled;
+        }
+
+        @Override
+        public OpenApiVisitor createVisitor(ValidatorParameters parameters, StyleErrorSink errorSink) {
+            return new OpenApiVisitor() {
+            };
+        }
+    }
+}
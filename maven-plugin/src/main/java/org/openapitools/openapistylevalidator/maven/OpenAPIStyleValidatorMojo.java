@@ -1,29 +1,94 @@
 package org.openapitools.openapistylevalidator.maven;
 
-import java.util.List;
-
+import org.apache.maven.model.FileSet;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
-import org.openapitools.empoa.swagger.core.internal.SwAdapter;
+import org.codehaus.plexus.util.DirectoryScanner;
 import org.openapitools.openapistylevalidator.OpenApiSpecStyleValidator;
+import org.openapitools.openapistylevalidator.ValidationMetrics;
 import org.openapitools.openapistylevalidator.ValidatorParameters;
 import org.openapitools.openapistylevalidator.ValidatorParameters.NamingConvention;
+import org.openapitools.openapistylevalidator.cache.ValidationResultCache;
 import org.openapitools.openapistylevalidator.styleerror.StyleError;
 
-import io.swagger.parser.OpenAPIParser;
-import io.swagger.v3.parser.core.models.ParseOptions;
-import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
-@Mojo(name = "validate", defaultPhase = LifecyclePhase.VERIFY)
+@Mojo(name = "validate", defaultPhase = LifecyclePhase.VERIFY, threadSafe = true)
 public class OpenAPIStyleValidatorMojo extends AbstractMojo {
 
     @Parameter(property = OpenApiSpecStyleValidator.INPUT_FILE)
     private String inputFile;
 
+    /**
+     * Sets of specs to validate, in addition to the one set with {@code inputFile}.
+     */
+    @Parameter
+    private List<FileSet> inputFileSets;
+
+    /**
+     * The number of specs validated in parallel, the number of processors when not set.
+     */
+    @Parameter(property = "jobs")
+    private int jobs;
+
+    /**
+     * Records the specs found valid, so that they are skipped while neither their content, the files they reference
+     * with {@code $ref} nor the options change.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/openapi-style-validator/stale-state.properties")
+    private File staleStateFile;
+
+    /**
+     * Directory of a persistent cache of the validation results, not used when not set.
+     */
+    @Parameter(property = "cacheDirectory")
+    private String cacheDirectory;
+
+    /**
+     * Validates the specs while they are read, to validate very large specs in a bounded memory. Only OpenAPI 3 specs
+     * can be validated this way, and the files they reference with {@code $ref} are not read.
+     */
+    @Parameter(property = "streaming", defaultValue = "false")
+    private boolean streaming;
+
+    /**
+     * Logs the measures of the validation of each spec: time of each phase, visited nodes, checked names and errors
+     * per section.
+     */
+    @Parameter(property = "stats", defaultValue = "false")
+    private boolean stats;
+
+    /**
+     * Exports the measures of the validation of each spec as json to this file, when set.
+     */
+    @Parameter(property = "statsFile")
+    private File statsFile;
+
+    @Parameter(defaultValue = "${project.basedir}", readonly = true, required = true)
+    private File basedir;
+
     @Parameter(property = ValidatorParameters.VALIDATE_INFO_LICENSE, defaultValue = "true")
     private boolean validateInfoLicense = true;
 
@@ -66,30 +131,171 @@ public class OpenAPIStyleValidatorMojo extends AbstractMojo {
     @Parameter(property = ValidatorParameters.PROPERTY_NAMING_CONVENTION, defaultValue = "CamelCase")
     private NamingConvention propertyNamingConvention = NamingConvention.CamelCase;
 
+    /**
+     * Stops the validation of a spec at its first error.
+     */
+    @Parameter(property = ValidatorParameters.FAIL_FAST, defaultValue = "false")
+    private boolean failFast;
+
+    /**
+     * Number of errors after which the validation of a spec stops (0 to report all of them). The errors are counted in
+     * the order the spec is walked, before the report sorts them by section.
+     */
+    @Parameter(property = ValidatorParameters.MAX_ERRORS, defaultValue = "0")
+    private int maxErrors;
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
-        if (inputFile == null) {
+        List<String> specs = findSpecs();
+        if (specs.isEmpty()) {
             throw new MojoExecutionException(String.format("The input file is not defined, set the '%s' option", OpenApiSpecStyleValidator.INPUT_FILE));
         }
-        getLog().info(String.format("Validating spec: %s", inputFile));
 
-        OpenAPIParser openApiParser = new OpenAPIParser();
-        ParseOptions parseOptions = new ParseOptions();
-        parseOptions.setResolve(true);
+        ValidatorParameters parameters = createValidatorParameters();
+        getLog().debug(String.format("Validating with options: %s", parameters));
+        ValidationResultCache cache = cacheDirectory == null ? null : new ValidationResultCache(Paths.get(cacheDirectory));
+        Properties staleState = readStaleState();
+        boolean collectMetrics = stats || statsFile != null;
 
-        SwaggerParseResult parserResult = openApiParser.readLocation(inputFile, null, parseOptions);
-        io.swagger.v3.oas.models.OpenAPI swaggerOpenAPI = parserResult.getOpenAPI();
+        int threads = Math.min(jobs > 0 ? jobs : Runtime.getRuntime().availableProcessors(), specs.size());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<SpecValidation> validations = new ArrayList<>();
+        try {
+            List<Future<SpecValidation>> futures = new ArrayList<>();
+            for (String spec : specs) {
+                futures.add(executor.submit(new SpecValidation(spec, parameters, streaming, cache, staleState.getProperty(spec),
+                        collectMetrics ? new ValidationMetrics() : null)));
+            }
+            for (Future<SpecValidation> future : futures) {
+                validations.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("The validation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new MojoExecutionException("The validation failed unexpectedly", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
 
-        org.eclipse.microprofile.openapi.models.OpenAPI openAPI = SwAdapter.toOpenAPI(swaggerOpenAPI);
-        OpenApiSpecStyleValidator openApiSpecStyleValidator = new OpenApiSpecStyleValidator(openAPI);
+        Properties newStaleState = new Properties();
+        int failedSpecs = 0;
+        for (SpecValidation validation : validations) {
+            logResult(validation);
+            if (validation.isValid() && validation.getDigest() != null) {
+                newStaleState.setProperty(validation.getSpec(), validation.getDigest());
+            } else if (!validation.isValid()) {
+                failedSpecs++;
+            }
+        }
+        writeStaleState(newStaleState);
+        if (statsFile != null) {
+            writeStats(validations);
+        }
+        if (failedSpecs > 0) {
+            throw new MojoExecutionException("OpenAPI Style validation failed");
+        }
+    }
 
-        ValidatorParameters parameters = createValidatorParameters();
-        getLog().debug(String.format("Validating with options: %s", parameters));
-        List<StyleError> result = openApiSpecStyleValidator.validate(parameters);
-        if (!result.isEmpty()) {
+    /**
+     * @return the absolute paths of the spec set with {@code inputFile} and of the specs of the {@code inputFileSets}
+     */
+    private List<String> findSpecs() {
+        Set<String> specs = new LinkedHashSet<>();
+        if (inputFile != null) {
+            specs.add(resolve(inputFile).getAbsolutePath());
+        }
+        if (inputFileSets != null) {
+            for (FileSet fileSet : inputFileSets) {
+                File directory = resolve(fileSet.getDirectory());
+                if (!directory.isDirectory()) {
+                    getLog().warn(String.format("The directory %s of the input file set does not exist", directory));
+                    continue;
+                }
+                DirectoryScanner scanner = new DirectoryScanner();
+                scanner.setBasedir(directory);
+                scanner.setIncludes(fileSet.getIncludes().isEmpty() ? null : fileSet.getIncludes().toArray(new String[0]));
+                scanner.setExcludes(fileSet.getExcludes().toArray(new String[0]));
+                scanner.scan();
+                String[] includedFiles = scanner.getIncludedFiles();
+                Arrays.sort(includedFiles);
+                for (String includedFile : includedFiles) {
+                    specs.add(new File(directory, includedFile).getAbsolutePath());
+                }
+            }
+        }
+        return new ArrayList<>(specs);
+    }
+
+    private File resolve(String path) {
+        File file = new File(path);
+        return file.isAbsolute() || basedir == null ? file : new File(basedir, path);
+    }
+
+    private void logResult(SpecValidation validation) {
+        for (String warning : validation.getWarnings()) {
+            getLog().warn(warning);
+        }
+        if (validation.isSkipped()) {
+            getLog().info(String.format("Skipping spec: %s (unchanged since its last validation)", validation.getSpec()));
+            return;
+        }
+        getLog().info(String.format("Validating spec: %s", validation.getSpec()));
+        if (validation.isFromCache()) {
+            getLog().debug("Replaying the cached validation result");
+        }
+        if (!validation.isReadable()) {
+            getLog().error("Unable to read the OpenAPI Specification:\n");
+            for (String message : validation.getParserMessages()) {
+                getLog().error(String.format("\t%s", message));
+            }
+        } else if (!validation.getErrors().isEmpty()) {
             getLog().error("OpenAPI Specification does not meet the requirements. Issues:\n");
-            result.stream().map(StyleError::toString).forEach(m -> getLog().error(String.format("\t%s", m)));
-            throw new MojoExecutionException("OpenAPI Style validation failed");
+            for (StyleError error : validation.getErrors()) {
+                getLog().error(String.format("\t%s", error));
+            }
+        }
+        if (stats) {
+            getLog().info(validation.getMetrics().toString());
+        }
+    }
+
+    private void writeStats(List<SpecValidation> validations) throws MojoExecutionException {
+        Map<String, ValidationMetrics> metricsBySpec = new LinkedHashMap<>();
+        for (SpecValidation validation : validations) {
+            metricsBySpec.put(validation.getSpec(), validation.getMetrics());
+        }
+        try {
+            Files.createDirectories(statsFile.getAbsoluteFile().getParentFile().toPath());
+            Files.write(statsFile.toPath(), ValidationMetrics.toJson(metricsBySpec).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new MojoExecutionException(String.format("Unable to write the measures to %s", statsFile), e);
+        }
+    }
+
+    private Properties readStaleState() {
+        Properties staleState = new Properties();
+        if (staleStateFile != null && staleStateFile.isFile()) {
+            try (InputStream input = Files.newInputStream(staleStateFile.toPath())) {
+                staleState.load(input);
+            } catch (IOException e) {
+                getLog().warn(String.format("The stale state file %s cannot be read: %s", staleStateFile, e.getMessage()));
+            }
+        }
+        return staleState;
+    }
+
+    private void writeStaleState(Properties staleState) {
+        if (staleStateFile == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(staleStateFile.getAbsoluteFile().getParentFile().toPath());
+            try (OutputStream output = Files.newOutputStream(staleStateFile.toPath())) {
+                staleState.store(output, "Specs found valid by the OpenAPI Style Validator, with their digest");
+            }
+        } catch (IOException e) {
+            getLog().warn(String.format("The stale state file %s cannot be written: %s", staleStateFile, e.getMessage()));
         }
     }
 
@@ -109,6 +315,8 @@ public class OpenAPIStyleValidatorMojo extends AbstractMojo {
         parameters.setPathNamingConvention(pathNamingConvention);
         parameters.setParameterNamingConvention(parameterNamingConvention);
         parameters.setPropertyNamingConvention(propertyNamingConvention);
+        parameters.setFailFast(failFast);
+        parameters.setMaxErrors(maxErrors);
         return parameters;
     }
 }
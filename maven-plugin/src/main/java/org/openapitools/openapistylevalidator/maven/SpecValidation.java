@@ -0,0 +1,189 @@
+package org.openapitools.openapistylevalidator.maven;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.openapitools.openapistylevalidator.OpenApiSpecStyleValidator;
+import org.openapitools.openapistylevalidator.RefResolver;
+import org.openapitools.openapistylevalidator.ValidationMetrics;
+import org.openapitools.openapistylevalidator.ValidationPhase;
+import org.openapitools.openapistylevalidator.ValidatorParameters;
+import org.openapitools.openapistylevalidator.cache.ParsedDocumentCache;
+import org.openapitools.openapistylevalidator.cache.SpecDigest;
+import org.openapitools.openapistylevalidator.cache.ValidationResultCache;
+import org.openapitools.openapistylevalidator.styleerror.StyleError;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * The validation of one spec by {@link OpenAPIStyleValidatorMojo}, which can run in any thread.
+ * <p>
+ * Nothing is logged here: the mojo logs the results in the order of the specs once they are known.
+ */
+class SpecValidation implements Callable<SpecValidation> {
+
+    private final String spec;
+    private final ValidatorParameters parameters;
+    private final boolean streaming;
+    private final ValidationResultCache cache;
+    private final String lastValidDigest;
+    private final ValidationMetrics metrics;
+
+    private String digest;
+    private boolean skipped;
+    private boolean fromCache;
+    private List<StyleError> errors = Collections.emptyList();
+    private List<String> parserMessages;
+    private final List<String> warnings = new ArrayList<>();
+
+    /**
+     * @param streaming {@code true} to validate the spec while it is read, see {@link OpenApiSpecStyleValidator#streaming(Path)}
+     * @param cache the cache of the results, or {@code null}
+     * @param lastValidDigest the {@link SpecDigest} of the spec when it was last found valid, or {@code null}
+     * @param metrics receives the measures of the validation, or {@code null}
+     */
+    SpecValidation(String spec, ValidatorParameters parameters, boolean streaming, ValidationResultCache cache, String lastValidDigest, ValidationMetrics metrics) {
+        this.spec = spec;
+        this.parameters = parameters;
+        this.streaming = streaming;
+        this.cache = cache;
+        this.lastValidDigest = lastValidDigest;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public SpecValidation call() {
+        File specFile = new File(spec);
+        if (specFile.isFile()) {
+            try {
+                digest = SpecDigest.of(specFile.toPath(), parameters, streaming);
+            } catch (IOException e) {
+                warnings.add(String.format("The spec cannot be skipped when unchanged: %s", e.getMessage()));
+            }
+        }
+        if (digest != null && digest.equals(lastValidDigest)) {
+            skipped = true;
+            return this;
+        }
+        if (digest != null && cache != null) {
+            List<StyleError> cachedErrors = cache.get(digest);
+            if (cachedErrors != null) {
+                fromCache = true;
+                errors = cachedErrors;
+                if (metrics != null) {
+                    errors.forEach(metrics::errorEmitted);
+                }
+                return this;
+            }
+        }
+
+        if (streaming) {
+            return streamAndValidate(specFile);
+        }
+
+        OpenAPIParser openApiParser = new OpenAPIParser();
+        ParseOptions parseOptions = new ParseOptions();
+        // The references are resolved by the validator, only when it walks them
+        parseOptions.setResolve(false);
+
+        long start = System.nanoTime();
+        SwaggerParseResult parserResult = openApiParser.readLocation(spec, null, parseOptions);
+        timed(ValidationPhase.PARSING, start);
+        io.swagger.v3.oas.models.OpenAPI swaggerOpenAPI = parserResult.getOpenAPI();
+        if (swaggerOpenAPI == null) {
+            parserMessages = parserResult.getMessages() == null ? Collections.emptyList() : parserResult.getMessages();
+            return this;
+        }
+
+        OpenApiSpecStyleValidator openApiSpecStyleValidator = new OpenApiSpecStyleValidator(swaggerOpenAPI, new RefResolver(spec, ParsedDocumentCache.shared())).setListener(metrics);
+        return validate(openApiSpecStyleValidator);
+    }
+
+    private SpecValidation streamAndValidate(File specFile) {
+        if (!specFile.isFile()) {
+            parserMessages = Collections.singletonList("Only local files can be validated while they are read");
+            return this;
+        }
+        try {
+            return validate(OpenApiSpecStyleValidator.streaming(specFile.toPath()).setListener(metrics));
+        } catch (UncheckedIOException e) {
+            errors = Collections.emptyList();
+            parserMessages = Collections.singletonList(e.getCause().getMessage());
+            return this;
+        }
+    }
+
+    private SpecValidation validate(OpenApiSpecStyleValidator openApiSpecStyleValidator) {
+        errors = openApiSpecStyleValidator.validate(parameters);
+        if (digest != null && cache != null) {
+            try {
+                cache.put(digest, errors);
+            } catch (IOException e) {
+                warnings.add(String.format("The validation result could not be cached: %s", e.getMessage()));
+            }
+        }
+        return this;
+    }
+
+    private void timed(ValidationPhase phase, long start) {
+        if (metrics != null) {
+            metrics.phaseTimed(phase, System.nanoTime() - start);
+        }
+    }
+
+    String getSpec() {
+        return spec;
+    }
+
+    /**
+     * @return the {@link SpecDigest} of the spec, or {@code null} when it is not a local file
+     */
+    String getDigest() {
+        return digest;
+    }
+
+    /**
+     * @return {@code true} when the spec did not change since it was last found valid, so it was not validated again
+     */
+    boolean isSkipped() {
+        return skipped;
+    }
+
+    boolean isFromCache() {
+        return fromCache;
+    }
+
+    boolean isReadable() {
+        return parserMessages == null;
+    }
+
+    boolean isValid() {
+        return isReadable() && errors.isEmpty();
+    }
+
+    List<StyleError> getErrors() {
+        return errors;
+    }
+
+    List<String> getParserMessages() {
+        return parserMessages;
+    }
+
+    /**
+     * @return the measures of the validation, or {@code null} when they are not collected
+     */
+    ValidationMetrics getMetrics() {
+        return metrics;
+    }
+
+    List<String> getWarnings() {
+        return warnings;
+    }
+}